@@ -1,5 +1,6 @@
 package com.conferent.config;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -34,6 +35,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     // JWT 토큰 처리를 담당하는 컴포넌트
     private final JwtTokenProvider jwtTokenProvider;
+    
+    // 폐기된 토큰(로그아웃) 확인 컴포넌트
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     /**
      * HTTP 요청마다 실행되는 필터 메서드
@@ -55,18 +59,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1. HTTP 요청에서 JWT 토큰 추출
             String token = extractTokenFromRequest(request);
             
-            // 2. 토큰이 존재하고 유효한지 검증
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+            // 2. 토큰이 존재하고 유효한지 검증 (검증된 클레임은 요청 속성에 보관되어 이후 재사용)
+            //    로그아웃으로 폐기된 토큰은 유효하지 않음 (메모리만 확인, 역할 변경 등은 리프레시 시점에 확인)
+            Claims claims = StringUtils.hasText(token) ? jwtTokenProvider.resolveClaims(request, token) : null;
+            if (claims != null && !tokenRevocationRegistry.isRevoked(claims)) {
                 
-                // 3. 토큰에서 사용자명(이메일) 추출
-                String username = jwtTokenProvider.getUsername(token);
+                // 3. 클레임에서 사용자명(이메일)과 역할 추출
+                String username = claims.getSubject();
+                String role = claims.get(JwtTokenProvider.CLAIM_ROLE, String.class);
                 
-                if (username != null) {
+                if (username != null && role != null) {
                     // 4. Spring Security 인증 객체 생성
-                    // 실제 애플리케이션에서는 데이터베이스에서 사용자 권한을 조회해야 함
-                    // 여기서는 간단히 USER 권한을 부여
+                    // 권한은 토큰의 역할 클레임으로 만들어 요청마다 사용자를 조회하지 않음
                     List<SimpleGrantedAuthority> authorities = Collections.singletonList(
-                        new SimpleGrantedAuthority("ROLE_USER")
+                        new SimpleGrantedAuthority("ROLE_" + role)
                     );
                     
                     // 5. 인증 토큰 생성 (비밀번호는 null - 이미 JWT로 검증됨)
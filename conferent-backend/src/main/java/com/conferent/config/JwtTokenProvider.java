@@ -1,17 +1,28 @@
 package com.conferent.config;
 
+import com.conferent.enums.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * JWT 토큰의 생성, 검증, 파싱을 담당하는 컴포넌트
@@ -21,16 +32,42 @@ import java.util.Date;
  * 2. JWT 토큰 검증 (API 요청 시)
  * 3. 토큰에서 사용자 정보 추출
  * 4. 토큰 만료 시간 관리
+ * 
+ * 검증 비용 절감:
+ * - 서명 검증 파서는 한 번만 만들어 재사용
+ * - 검증된 토큰의 클레임을 요청 속성(CLAIMS_ATTRIBUTE)에 두어 한 요청 안에서는 한 번만 검증
+ * - 최근 검증된 토큰을 토큰 다이제스트(SHA-256) 키로 캐시하여 같은 세션의 반복 요청은 서명 검증과 JSON 파싱을 건너뜀
+ *   (항목은 토큰 만료 시각까지만 유지되며, 원문 토큰은 캐시에 보관하지 않음)
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    // 검증된 클레임(Claims)을 담는 요청 속성 이름
+    public static final String CLAIMS_ATTRIBUTE = JwtTokenProvider.class.getName() + ".CLAIMS";
+    
+    // 요청 속성의 클레임이 어떤 토큰에서 나왔는지 구분하기 위한 속성 이름
+    private static final String CLAIMS_TOKEN_ATTRIBUTE = JwtTokenProvider.class.getName() + ".CLAIMS_TOKEN";
+
+    // 토큰에 담는 사용자 정보 클레임 이름
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_NAME = "name";
+    public static final String CLAIM_SESSION_ID = "sid";
+
+    private static final String CACHE_NAME = "jwtClaims";
+
     // JWT 서명에 사용할 비밀키 (실제 운영환경에서는 환경변수나 외부 설정 파일에서 관리)
     private final SecretKey secretKey;
     
-    // 토큰 만료 시간 (밀리초 단위, 기본값: 24시간)
-    @Value("${jwt.token.validity:86400000}")
+    // 서명 검증 파서 (불변, 스레드 안전)
+    private final JwtParser parser;
+    
+    // 토큰 다이제스트 -> 검증된 클레임 (토큰 만료 시각까지 유지)
+    private final Cache<String, Claims> verifiedTokens;
+    
+    // 토큰 만료 시간 (밀리초 단위, 기본값: 15분 - 이후에는 리프레시 토큰으로 다시 발급)
+    @Value("${jwt.token.validity:900000}")
     private long tokenValidityInMilliseconds;
 
     /**
@@ -39,33 +76,51 @@ public class JwtTokenProvider {
      * 
      * @param secretKeyString JWT 서명에 사용할 비밀키 문자열
      */
-    public JwtTokenProvider(@Value("${jwt.secret:conferent-secret-key-for-jwt-token-signing-minimum-256-bits}") String secretKeyString) {
+    public JwtTokenProvider(@Value("${jwt.secret:conferent-secret-key-for-jwt-token-signing-minimum-256-bits}") String secretKeyString,
+                            @Value("${jwt.claims-cache.maximum-size:10000}") long claimsCacheMaximumSize,
+                            MeterRegistry meterRegistry) {
         // HMAC-SHA 알고리즘을 위한 충분히 긴 비밀키 생성
         this.secretKey = Keys.hmacShaKeyFor(secretKeyString.getBytes());
-        log.info("JWT Token Provider 초기화 완료");
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, CACHE_NAME);
+        log.info("JWT Token Provider 초기화 완료 - 검증 캐시 최대 항목 수: {}", claimsCacheMaximumSize);
     }
 
     /**
      * JWT 토큰 생성 메서드
-     * 사용자 인증 정보를 바탕으로 JWT 토큰을 생성
+     * 사용자 ID, 역할, 이름을 클레임에 담아 요청마다 사용자를 조회하지 않아도 되도록 한다.
+     * 토큰마다 고유 ID(jti)를 붙여 로그아웃 시 해당 토큰만 폐기할 수 있게 한다.
+     * 유효 시간이 짧으므로 역할 변경 등은 리프레시 시점에 반영된다.
      * 
-     * @param authentication Spring Security의 인증 객체
+     * @param userId 사용자 ID
+     * @param email 사용자 이메일 (토큰 주체)
+     * @param name 사용자 이름 (표시용)
+     * @param role 사용자 역할 (권한)
+     * @param sessionId 로그인 세션 ID (리프레시 토큰 계열, 로그아웃 시 세션 폐기용)
      * @return 생성된 JWT 토큰 문자열
      */
-    public String createToken(Authentication authentication) {
-        // 인증된 사용자 정보 가져오기
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        String username = userDetails.getUsername();
-        
+    public String createToken(Long userId, String email, String name, Role role, String sessionId) {
         // 토큰 발급 시간과 만료 시간 계산
         Date now = new Date();
         Date validity = new Date(now.getTime() + tokenValidityInMilliseconds);
         
-        log.debug("JWT 토큰 생성 - 사용자: {}, 만료시간: {}", username, validity);
+        log.debug("JWT 토큰 생성 - 사용자: {}, 만료시간: {}", email, validity);
 
         // JWT 토큰 빌드
         return Jwts.builder()
-                .subject(username)                    // 토큰 주체 (사용자 식별자)
+                .id(UUID.randomUUID().toString())    // 토큰 ID (폐기 확인용)
+                .subject(email)                      // 토큰 주체 (사용자 식별자)
+                .claim(CLAIM_USER_ID, userId)        // 사용자 ID
+                .claim(CLAIM_ROLE, role.name())      // 사용자 역할
+                .claim(CLAIM_NAME, name)             // 사용자 이름
+                .claim(CLAIM_SESSION_ID, sessionId)  // 로그인 세션 ID
                 .issuedAt(now)                       // 토큰 발급 시간
                 .expiration(validity)                // 토큰 만료 시간
                 .signWith(secretKey)                 // 서명 키로 토큰 서명
@@ -73,24 +128,66 @@ public class JwtTokenProvider {
     }
 
     /**
-     * JWT 토큰 생성 (사용자명 기반)
-     * 사용자명을 직접 받아서 토큰을 생성하는 오버로드 메서드
+     * 검증된 토큰의 클레임 조회
+     * 최근 검증한 토큰이면 캐시에서 바로 반환하고, 아니면 서명과 만료시간을 검증한 뒤 캐시에 넣는다.
      * 
-     * @param username 사용자명 (이메일)
-     * @return 생성된 JWT 토큰 문자열
+     * @param token JWT 토큰 문자열
+     * @return 유효하면 클레임, 그렇지 않으면 null
      */
-    public String createToken(String username) {
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + tokenValidityInMilliseconds);
+    public Claims parseClaims(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        
+        String digest = digestOf(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.getExpiration().after(new Date())) {
+            return cached;
+        }
         
-        log.debug("JWT 토큰 생성 - 사용자: {}, 만료시간: {}", username, validity);
+        try {
+            // 토큰 파싱 - 서명 검증과 만료시간 체크가 자동으로 수행됨
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(digest, claims);
+            }
+            log.debug("JWT 토큰 검증 성공");
+            return claims;
+            
+        } catch (MalformedJwtException e) {
+            log.error("잘못된 형식의 JWT 토큰: {}", e.getMessage());
+        } catch (ExpiredJwtException e) {
+            log.error("만료된 JWT 토큰: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.error("지원되지 않는 JWT 토큰: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.error("비어있는 JWT 토큰: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("JWT 토큰 검증 중 오류 발생: {}", e.getMessage());
+        }
+        
+        return null;
+    }
 
-        return Jwts.builder()
-                .subject(username)
-                .issuedAt(now)
-                .expiration(validity)
-                .signWith(secretKey)
-                .compact();
+    /**
+     * 요청의 토큰 클레임 조회 (요청당 한 번만 검증)
+     * 같은 요청에서 이미 검증했으면 요청 속성의 클레임을 반환하고, 아니면 검증 후 요청 속성에 저장한다.
+     * 
+     * @param request HTTP 요청
+     * @param token 요청의 JWT 토큰
+     * @return 유효하면 클레임, 그렇지 않으면 null
+     */
+    public Claims resolveClaims(HttpServletRequest request, String token) {
+        if (token != null && token.equals(request.getAttribute(CLAIMS_TOKEN_ATTRIBUTE))) {
+            return (Claims) request.getAttribute(CLAIMS_ATTRIBUTE);
+        }
+        
+        Claims claims = parseClaims(token);
+        if (claims != null) {
+            request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+            request.setAttribute(CLAIMS_TOKEN_ATTRIBUTE, token);
+        }
+        return claims;
     }
 
     /**
@@ -100,18 +197,8 @@ public class JwtTokenProvider {
      * @return 토큰에 포함된 사용자명
      */
     public String getUsername(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)           // 서명 검증
-                    .build()
-                    .parseSignedClaims(token)        // 토큰 파싱
-                    .getPayload();                   // 페이로드 추출
-            
-            return claims.getSubject();              // 사용자명 반환
-        } catch (Exception e) {
-            log.error("토큰에서 사용자명 추출 실패: {}", e.getMessage());
-            return null;
-        }
+        Claims claims = parseClaims(token);
+        return claims != null ? claims.getSubject() : null;
     }
 
     /**
@@ -122,29 +209,7 @@ public class JwtTokenProvider {
      * @return 유효하면 true, 그렇지 않으면 false
      */
     public boolean validateToken(String token) {
-        try {
-            // 토큰 파싱 시도 - 서명 검증과 만료시간 체크가 자동으로 수행됨
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            
-            log.debug("JWT 토큰 검증 성공");
-            return true;
-            
-        } catch (MalformedJwtException e) {
-            log.error("잘못된 형식의 JWT 토큰: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
-            log.error("만료된 JWT 토큰: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.error("지원되지 않는 JWT 토큰: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.error("비어있는 JWT 토큰: {}", e.getMessage());
-        } catch (Exception e) {
-            log.error("JWT 토큰 검증 중 오류 발생: {}", e.getMessage());
-        }
-        
-        return false;
+        return parseClaims(token) != null;
     }
 
     /**
@@ -154,21 +219,18 @@ public class JwtTokenProvider {
      * @return 토큰 만료 시간 (LocalDateTime)
      */
     public LocalDateTime getExpirationDate(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            
-            Date expiration = claims.getExpiration();
-            return expiration.toInstant()
-                    .atZone(ZoneId.systemDefault())
-                    .toLocalDateTime();
-        } catch (Exception e) {
-            log.error("토큰 만료시간 추출 실패: {}", e.getMessage());
-            return null;
-        }
+        Claims claims = parseClaims(token);
+        return claims != null ? toLocalDateTime(claims.getExpiration()) : null;
+    }
+
+    /**
+     * 클레임의 만료시간을 LocalDateTime으로 변환
+     * 
+     * @param claims 검증된 클레임
+     * @return 토큰 만료 시간 (LocalDateTime)
+     */
+    public LocalDateTime getExpirationDate(Claims claims) {
+        return toLocalDateTime(claims.getExpiration());
     }
 
     /**
@@ -200,4 +262,44 @@ public class JwtTokenProvider {
         }
         return null;
     }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return date.toInstant()
+                .atZone(ZoneId.systemDefault())
+                .toLocalDateTime();
+    }
+
+    /**
+     * 캐시 키용 토큰 다이제스트 (원문 토큰을 메모리에 남기지 않도록 SHA-256으로 줄임)
+     */
+    private static String digestOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시 항목을 토큰 만료 시각까지만 유지
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return Duration.ofMillis(Math.max(0, remainingMillis)).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 } 
\ No newline at end of file
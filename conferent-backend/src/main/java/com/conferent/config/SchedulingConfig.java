@@ -0,0 +1,12 @@
+package com.conferent.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 예약 작업(@Scheduled) 활성화 (이용 집계 야간 보정 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
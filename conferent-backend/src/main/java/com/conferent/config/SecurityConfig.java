@@ -41,6 +41,9 @@ public class SecurityConfig {
 
     // JWT 토큰 처리를 위한 컴포넌트
     private final JwtTokenProvider jwtTokenProvider;
+    
+    // 폐기 토큰 확인 컴포넌트
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     /**
      * 비밀번호 암호화를 위한 PasswordEncoder Bean 등록
@@ -82,7 +85,7 @@ public class SecurityConfig {
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
         log.info("JwtAuthenticationFilter Bean 생성");
-        return new JwtAuthenticationFilter(jwtTokenProvider);
+        return new JwtAuthenticationFilter(jwtTokenProvider, tokenRevocationRegistry);
     }
 
     /**
@@ -183,6 +186,7 @@ public class SecurityConfig {
                 
                 // 관리자만 접근 가능한 엔드포인트
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/metrics/**").hasRole("ADMIN")
                 
                 // 그 외 모든 API는 인증 필요
                 .anyRequest().authenticated()
@@ -0,0 +1,251 @@
+package com.conferent.config;
+
+import com.conferent.entities.RevokedToken;
+import com.conferent.repositories.token.RevokedTokenRepository;
+import com.conferent.repositories.token.RevokedTokenView;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 토큰(jti) 확인
+ * 
+ * 로그아웃한 토큰의 ID를 revoked_tokens 테이블에 저장하고, 요청마다의 확인은 메모리에서만 한다.
+ * 
+ * - 블룸 필터로 대부분의 (폐기되지 않은) 토큰을 비트 조회 몇 번으로 통과시키고,
+ *   필터에 걸린 경우에만 정확한 집합(jti -> 만료 시각)을 확인한다. 확인 경로는 객체를 만들지 않는다.
+ * - 폐기 항목은 원래 토큰 만료 시각이 속한 타이밍 휠 칸에 넣고, 매 틱마다 지난 칸의 만료된 항목을 지운 뒤 블룸 필터를 다시 만든다.
+ *   (블룸 필터는 항목을 뺄 수 없으므로 재구성으로 비운다)
+ * - 다른 인스턴스에서 폐기한 토큰은 sync-interval마다 마지막으로 읽은 ID 이후의 행을 읽어 반영하고,
+ *   시작 시에는 만료되지 않은 행을 모두 읽어 재구성한다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    // 동시에 커밋된 행이 ID 순서와 다르게 보일 수 있으므로 동기화 때 다시 읽는 ID 범위
+    private static final long SYNC_OVERLAP = 1000;
+
+    // 블룸 필터 해시 함수 수 (오탐률 약 1% 기준)
+    private static final int HASH_FUNCTIONS = 7;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long tickMillis;
+    private final int bloomBits;
+
+    // jti -> 원래 토큰 만료 시각 (epoch 밀리초)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    // 만료 시각 틱별 칸 (칸 = 만료 틱 % 칸 수, 한 바퀴 이상 남은 항목은 만료 시각으로 걸러 유지)
+    private final List<List<String>> wheel;
+
+    // 블룸 필터 비트 (재구성 시 통째로 교체)
+    private volatile AtomicLongArray bloom;
+
+    // 마지막으로 처리한 틱
+    private long lastTick;
+
+    // 마지막으로 읽은 폐기 토큰 행 ID
+    private long lastSyncedId;
+
+    public TokenRevocationRegistry(RevokedTokenRepository revokedTokenRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${jwt.token.validity:900000}") long tokenValidityInMilliseconds,
+                                   @Value("${jwt.revocation.tick-interval:60000}") long tickMillis,
+                                   @Value("${jwt.revocation.expected-entries:100000}") int expectedEntries) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.tickMillis = tickMillis;
+
+        // 비트 수는 항목당 약 10비트를 2의 거듭제곱으로 올림 (나머지 연산 대신 마스크 사용)
+        this.bloomBits = Integer.highestOneBit(Math.max(64, expectedEntries * 10 - 1)) << 1;
+        this.bloom = new AtomicLongArray(bloomBits / 64);
+
+        // 토큰 유효 기간을 한 바퀴로 (유효 기간이 바뀌어 더 긴 토큰이 있어도 만료 시각으로 걸러지므로 안전)
+        int slots = (int) (tokenValidityInMilliseconds / tickMillis) + 2;
+        this.wheel = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            wheel.add(new ArrayList<>());
+        }
+        this.lastTick = System.currentTimeMillis() / tickMillis;
+
+        meterRegistry.gaugeMapSize("conferent.jwt.revoked", List.of(), revoked);
+    }
+
+    /**
+     * 시작 시 만료되지 않은 폐기 토큰 적재 (요청을 받기 전에 채워 둔다)
+     */
+    @PostConstruct
+    public void load() {
+        sync();
+        log.info("폐기 토큰 적재 완료 - 항목 수: {}, 블룸 필터 비트: {}", revoked.size(), bloomBits);
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인 (요청마다 호출, 메모리만 확인)
+     * 토큰 ID(jti)가 없는 토큰(이전 형식)은 폐기할 수 없으므로 폐기된 것으로 본다.
+     */
+    public boolean isRevoked(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null) {
+            return true;
+        }
+        return mightContain(bloom, jti) && revoked.containsKey(jti);
+    }
+
+    /**
+     * 토큰 폐기 (로그아웃 등)
+     * 테이블에 저장한 뒤 이 인스턴스에 바로 반영한다. 다른 인스턴스에는 다음 동기화 때 반영된다.
+     */
+    public void revoke(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null || revoked.containsKey(jti)) {
+            return;
+        }
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    revokedTokenRepository.save(new RevokedToken(null, jti, expiresAt, null)));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스에서 이미 폐기한 토큰
+            log.debug("이미 폐기된 토큰 - jti: {}", jti);
+        }
+        add(jti, claims.getExpiration().getTime());
+        log.debug("토큰 폐기 - jti: {}, 만료: {}", jti, expiresAt);
+    }
+
+    /**
+     * 다른 인스턴스에서 폐기한 토큰 반영
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:5000}",
+               initialDelayString = "${jwt.revocation.sync-interval:5000}")
+    public void sync() {
+        long afterId = Math.max(0, lastSyncedId - SYNC_OVERLAP);
+        List<RevokedTokenView> rows = transactionTemplate.execute(status ->
+                revokedTokenRepository.findActiveViewsAfter(afterId, LocalDateTime.now()));
+        for (RevokedTokenView row : rows) {
+            add(row.jti(), row.expiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            lastSyncedId = Math.max(lastSyncedId, row.id());
+        }
+    }
+
+    /**
+     * 타이밍 휠 틱: 지난 칸들의 만료된 항목을 지우고, 지운 항목이 있으면 블룸 필터 재구성
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.tick-interval:60000}")
+    public synchronized void advance() {
+        long now = System.currentTimeMillis();
+        long currentTick = now / tickMillis;
+        int removed = 0;
+        // 스케줄이 밀렸어도 한 바퀴 이상은 돌 필요 없음
+        for (long tick = Math.max(lastTick + 1, currentTick - wheel.size() + 1); tick <= currentTick; tick++) {
+            List<String> slot = wheel.get((int) (tick % wheel.size()));
+            for (Iterator<String> it = slot.iterator(); it.hasNext(); ) {
+                String jti = it.next();
+                Long expiresAt = revoked.get(jti);
+                if (expiresAt == null || expiresAt <= now) {
+                    revoked.remove(jti);
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        lastTick = currentTick;
+
+        if (removed > 0) {
+            AtomicLongArray rebuilt = new AtomicLongArray(bloomBits / 64);
+            revoked.keySet().forEach(jti -> put(rebuilt, jti));
+            bloom = rebuilt;
+            log.debug("만료된 폐기 토큰 정리 - 삭제: {}, 남은 항목: {}", removed, revoked.size());
+        }
+    }
+
+    /**
+     * 만료된 폐기 토큰 행 삭제 (인스턴스마다 실행되어도 결과는 같음)
+     */
+    @Scheduled(cron = "${jwt.revocation.cleanup-cron:0 15 * * * *}")
+    public void purgeExpired() {
+        Integer deleted = transactionTemplate.execute(status ->
+                revokedTokenRepository.deleteExpired(LocalDateTime.now()));
+        log.debug("만료된 폐기 토큰 행 삭제 - {}건", deleted);
+    }
+
+    /**
+     * 정확한 집합, 블룸 필터, 타이밍 휠에 항목 추가 (이미 있으면 무시)
+     * 블룸 필터 재구성과 겹치지 않도록 advance()와 같은 잠금을 쓴다.
+     */
+    private synchronized void add(String jti, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis() || revoked.putIfAbsent(jti, expiresAt) != null) {
+            return;
+        }
+        put(bloom, jti);
+        wheel.get((int) ((expiresAt / tickMillis) % wheel.size())).add(jti);
+    }
+
+    private void put(AtomicLongArray bits, String jti) {
+        long h1 = hash(jti);
+        long h2 = mix(h1);
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int bit = (int) ((h1 + i * h2) & (bloomBits - 1));
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    private boolean mightContain(AtomicLongArray bits, String jti) {
+        long h1 = hash(jti);
+        long h2 = mix(h1);
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int bit = (int) ((h1 + i * h2) & (bloomBits - 1));
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 문자열 64비트 해시 (FNV-1a, 문자 단위로 읽어 배열을 만들지 않음)
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /**
+     * 두 번째 해시 (SplitMix64 마무리 함수, 홀수로 만들어 모든 비트 위치를 돌게 함)
+     */
+    private static long mix(long h) {
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return (h ^ (h >>> 31)) | 1L;
+    }
+}
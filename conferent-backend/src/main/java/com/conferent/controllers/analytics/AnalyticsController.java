@@ -0,0 +1,83 @@
+package com.conferent.controllers.analytics;
+
+import com.conferent.dtos.analytics.RoomUtilizationReportResponse;
+import com.conferent.dtos.analytics.UtilizationHeatmapResponse;
+import com.conferent.dtos.analytics.UtilizationRebuildResponse;
+import com.conferent.services.analytics.UtilizationAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+@Tag(name = "이용 분석 (관리자)", description = "회의실 이용 집계 기반 보고서/히트맵 API")
+public class AnalyticsController {
+
+    private final UtilizationAnalyticsService utilizationAnalyticsService;
+
+    @GetMapping("/rooms")
+    @Operation(summary = "회의실별 이용 보고서", description = "기간(최대 366일) 동안 회의실별 예약 시간, 예약 수, 수락 참석자 수, 점유율을 조회합니다. 시간 단위 집계만 합산합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = RoomUtilizationReportResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 기간 또는 시간대"),
+        @ApiResponse(responseCode = "403", description = "관리자 권한 필요")
+    })
+    public ResponseEntity<RoomUtilizationReportResponse> getRoomReport(
+            @Parameter(description = "시작 날짜 (포함)", example = "2024-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 날짜 (포함)", example = "2024-03-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "집계 시작 시각 (포함, 0~23)", example = "9")
+            @RequestParam(defaultValue = "0") int startHour,
+            @Parameter(description = "집계 종료 시각 (제외, 1~24)", example = "18")
+            @RequestParam(defaultValue = "24") int endHour) {
+        return ResponseEntity.ok(utilizationAnalyticsService.getRoomReport(from, to, startHour, endHour));
+    }
+
+    @GetMapping("/heatmap")
+    @Operation(summary = "시간대별 이용 히트맵", description = "기간(최대 366일) 동안 회의실 × 시간대(0~23시)별 예약 시간, 예약 수, 점유율을 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = UtilizationHeatmapResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+        @ApiResponse(responseCode = "403", description = "관리자 권한 필요"),
+        @ApiResponse(responseCode = "404", description = "회의실을 찾을 수 없음")
+    })
+    public ResponseEntity<UtilizationHeatmapResponse> getHourlyHeatmap(
+            @Parameter(description = "시작 날짜 (포함)", example = "2024-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 날짜 (포함)", example = "2024-01-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "회의실 ID (생략 시 전체 회의실)", example = "1")
+            @RequestParam(required = false) Long roomId) {
+        return ResponseEntity.ok(utilizationAnalyticsService.getHourlyHeatmap(from, to, roomId));
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "이용 집계 재계산", description = "기간(최대 366일) 동안 모든 회의실의 집계를 예약/초대 데이터로 다시 계산합니다. 최초 적재나 보정에 사용합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "재계산 성공",
+            content = @Content(schema = @Schema(implementation = UtilizationRebuildResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 기간"),
+        @ApiResponse(responseCode = "403", description = "관리자 권한 필요")
+    })
+    public ResponseEntity<UtilizationRebuildResponse> rebuild(
+            @Parameter(description = "시작 날짜 (포함)", example = "2024-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 날짜 (포함)", example = "2024-12-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(utilizationAnalyticsService.rebuild(from, to));
+    }
+}
@@ -1,12 +1,18 @@
 package com.conferent.controllers.auth;
 
 import com.conferent.config.JwtTokenProvider;
+import com.conferent.config.TokenRevocationRegistry;
 import com.conferent.dtos.auth.LoginRequest;
 import com.conferent.dtos.auth.LoginResponse;
+import com.conferent.dtos.auth.RefreshRequest;
 import com.conferent.dtos.auth.RegisterRequest;
 import com.conferent.dtos.user.UserResponse;
 import com.conferent.entities.User;
+import com.conferent.enums.Role;
+import com.conferent.services.auth.LoginService;
+import com.conferent.services.auth.RefreshTokenService;
 import com.conferent.services.user.UserService;
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,6 +20,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +28,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 인증 관련 API 컨트롤러
  * 
@@ -29,6 +38,8 @@ import org.springframework.web.bind.annotation.*;
  * 2. 사용자 회원가입
  * 3. 토큰 검증
  * 4. 현재 로그인 사용자 정보 조회
+ * 5. 토큰 재발급 (리프레시 토큰 교체)
+ * 6. 로그아웃 (토큰 및 세션 폐기)
  * 
  * API 경로: /api/auth
  */
@@ -42,12 +53,22 @@ public class AuthController {
     // JWT 토큰 생성/검증 담당 컴포넌트
     private final JwtTokenProvider jwtTokenProvider;
     
+    // 폐기된 토큰(로그아웃) 확인 컴포넌트
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    
     // 사용자 관련 비즈니스 로직 담당 서비스
     private final UserService userService;
+    
+    // 로그인 처리 서비스 (비밀번호 검증 격리 + 시도 한도)
+    private final LoginService loginService;
+    
+    // 리프레시 토큰 발급/교체/폐기 서비스
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * 사용자 로그인 API
      * 이메일과 비밀번호를 검증하고 JWT 토큰을 발급
+     * 비밀번호 검증은 로그인 전용 스레드 풀에서 비동기로 처리되어 요청 스레드를 점유하지 않는다.
      * 
      * @param loginRequest 로그인 요청 데이터 (이메일, 비밀번호)
      * @return 로그인 성공 시 JWT 토큰과 사용자 정보 반환
@@ -58,56 +79,29 @@ public class AuthController {
         @ApiResponse(responseCode = "200", description = "로그인 성공", 
             content = @Content(schema = @Schema(implementation = LoginResponse.class))),
         @ApiResponse(responseCode = "401", description = "인증 실패 - 이메일 또는 비밀번호 오류"),
-        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터")
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+        @ApiResponse(responseCode = "429", description = "로그인 시도 한도 초과 또는 로그인 요청 폭주 (Retry-After 헤더 참고)")
     })
-    public ResponseEntity<?> login(
+    public CompletableFuture<ResponseEntity<?>> login(
             @Parameter(description = "로그인 요청 정보")
-            @Valid @RequestBody LoginRequest loginRequest) {
+            @Valid @RequestBody LoginRequest loginRequest,
+            HttpServletRequest request) {
         
-        try {
-            log.info("로그인 시도 - 이메일: {}", loginRequest.getEmail());
-            
-            // 1. UserService를 통한 직접 사용자 인증
-            boolean isAuthenticated = userService.authenticateUser(
-                loginRequest.getEmail(), 
-                loginRequest.getPassword()
-            );
-            
-            if (!isAuthenticated) {
-                log.warn("로그인 실패 - 잘못된 인증 정보: {}", loginRequest.getEmail());
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body("이메일 또는 비밀번호가 올바르지 않습니다.");
-            }
-            
-            // 2. 인증 성공 시 사용자 정보 조회
-            UserResponse user = userService.getUserByEmail(loginRequest.getEmail());
-            
-            // 3. JWT 토큰 생성 (사용자명 기반)
-            String token = jwtTokenProvider.createToken(loginRequest.getEmail());
-            
-            // 4. 토큰 만료 시간 계산
-            java.time.LocalDateTime expiresAt = jwtTokenProvider.getExpirationDate(token);
-            
-            // 5. 로그인 응답 객체 생성
-            LoginResponse loginResponse = new LoginResponse(
-                token,
-                expiresAt,
-                user.getId(),
-                user.getName(),
-                user.getEmail(),
-                user.getRole()
-            );
-            
-            log.info("로그인 성공 - 사용자: {}, 토큰 만료: {}", user.getEmail(), expiresAt);
-            
-            return ResponseEntity.ok(loginResponse);
-            
-        } catch (Exception e) {
-            // 예상하지 못한 서버 오류
-            log.error("로그인 중 서버 오류 발생: {}, 사용자: {}", e.getMessage(), loginRequest.getEmail());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("로그인 처리 중 오류가 발생했습니다.");
-        }
+        log.info("로그인 시도 - 이메일: {}", loginRequest.getEmail());
+        
+        // 시도 한도 초과/대기열 포화는 LoginThrottledException(429)으로 처리됨
+        return loginService.login(loginRequest.getEmail(), loginRequest.getPassword(), request.getRemoteAddr())
+                .thenApply(result -> {
+                    if (result.isEmpty()) {
+                        log.warn("로그인 실패 - 잘못된 인증 정보: {}", loginRequest.getEmail());
+                        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                                .body("이메일 또는 비밀번호가 올바르지 않습니다.");
+                    }
+                    
+                    LoginResponse loginResponse = result.get();
+                    log.info("로그인 성공 - 사용자: {}, 토큰 만료: {}", loginResponse.getUserEmail(), loginResponse.getExpiresAt());
+                    return ResponseEntity.ok(loginResponse);
+                });
     }
 
     /**
@@ -157,6 +151,7 @@ public class AuthController {
     /**
      * 현재 로그인 사용자 정보 조회 API
      * JWT 토큰을 통해 현재 로그인한 사용자의 정보를 반환
+     * 사용자 정보는 토큰 클레임에서 만들며 DB를 조회하지 않는다. (생성/수정 시간은 포함하지 않음)
      * 
      * @param authorization Authorization 헤더 (Bearer 토큰)
      * @return 현재 로그인 사용자 정보
@@ -171,7 +166,8 @@ public class AuthController {
     })
     public ResponseEntity<?> getCurrentUser(
             @Parameter(description = "JWT 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
-            @RequestHeader("Authorization") String authorization) {
+            @RequestHeader("Authorization") String authorization,
+            HttpServletRequest request) {
         
         try {
             // 1. Authorization 헤더에서 토큰 추출
@@ -183,20 +179,25 @@ public class AuthController {
                         .body("유효하지 않은 토큰 형식입니다.");
             }
             
-            // 2. 토큰 유효성 검증
-            if (!jwtTokenProvider.validateToken(token)) {
+            // 2. 토큰 유효성 검증 (검증 결과 캐시 사용, 로그아웃으로 폐기된 토큰은 거부)
+            Claims claims = jwtTokenProvider.resolveClaims(request, token);
+            if (claims == null || tokenRevocationRegistry.isRevoked(claims)) {
                 log.warn("유효하지 않은 JWT 토큰");
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body("유효하지 않은 토큰입니다.");
             }
             
-            // 3. 토큰에서 사용자명(이메일) 추출
-            String email = jwtTokenProvider.getUsername(token);
-            
-            // 4. 사용자 정보 조회
-            UserResponse user = userService.getUserByEmail(email);
+            // 3. 클레임으로 사용자 정보 구성 (DB 조회 없음)
+            UserResponse user = new UserResponse(
+                claims.get(JwtTokenProvider.CLAIM_USER_ID, Long.class),
+                claims.get(JwtTokenProvider.CLAIM_NAME, String.class),
+                claims.getSubject(),
+                Role.valueOf(claims.get(JwtTokenProvider.CLAIM_ROLE, String.class)),
+                null,
+                null
+            );
             
-            log.debug("현재 사용자 정보 조회 성공 - 이메일: {}", email);
+            log.debug("현재 사용자 정보 조회 성공 - 이메일: {}", user.getEmail());
             
             return ResponseEntity.ok(user);
             
@@ -222,7 +223,8 @@ public class AuthController {
     })
     public ResponseEntity<?> validateToken(
             @Parameter(description = "JWT 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
-            @RequestHeader("Authorization") String authorization) {
+            @RequestHeader("Authorization") String authorization,
+            HttpServletRequest request) {
         
         try {
             // 1. Authorization 헤더에서 토큰 추출
@@ -233,12 +235,12 @@ public class AuthController {
                         .body("유효하지 않은 토큰 형식입니다.");
             }
             
-            // 2. 토큰 유효성 검증
-            boolean isValid = jwtTokenProvider.validateToken(token);
+            // 2. 토큰 유효성 검증 (한 번 검증한 클레임에서 사용자명과 만료시간을 함께 꺼냄)
+            Claims claims = jwtTokenProvider.resolveClaims(request, token);
             
-            if (isValid) {
-                String email = jwtTokenProvider.getUsername(token);
-                java.time.LocalDateTime expiresAt = jwtTokenProvider.getExpirationDate(token);
+            if (claims != null && !tokenRevocationRegistry.isRevoked(claims)) {
+                String email = claims.getSubject();
+                java.time.LocalDateTime expiresAt = jwtTokenProvider.getExpirationDate(claims);
                 
                 return ResponseEntity.ok(new TokenValidationResponse(true, email, expiresAt));
             } else {
@@ -253,12 +255,40 @@ public class AuthController {
         }
     }
 
+    /**
+     * 토큰 재발급 API
+     * 리프레시 토큰으로 새 액세스 토큰과 새 리프레시 토큰을 발급 (비밀번호 검증 없음)
+     * 사용자 삭제, 역할/이메일/비밀번호 변경, 로그아웃, 리프레시 토큰 재사용 여부는 여기서 확인한다.
+     * 
+     * @param refreshRequest 리프레시 토큰
+     * @return 재발급 성공 시 새 토큰과 사용자 정보 반환
+     */
+    @PostMapping("/refresh")
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 액세스 토큰을 재발급합니다. 리프레시 토큰도 새로 교체되며, 이미 쓰인 리프레시 토큰을 다시 보내면 세션 전체가 폐기됩니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "재발급 성공",
+            content = @Content(schema = @Schema(implementation = LoginResponse.class))),
+        @ApiResponse(responseCode = "401", description = "유효하지 않거나 만료/폐기된 리프레시 토큰"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터")
+    })
+    public ResponseEntity<?> refresh(
+            @Parameter(description = "토큰 재발급 요청 정보")
+            @Valid @RequestBody RefreshRequest refreshRequest) {
+        
+        return refreshTokenService.refresh(refreshRequest.getRefreshToken())
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body("유효하지 않은 리프레시 토큰입니다. 다시 로그인해주세요."));
+    }
+
     /**
      * 사용자 로그아웃 API
-     * JWT 기반 인증에서는 서버 측에서 특별한 처리가 필요하지 않지만,
-     * 클라이언트 요청을 처리하기 위한 엔드포인트
+     * 요청한 토큰의 ID(jti)를 폐기 목록에 올려 만료 전이라도 더 이상 인증에 쓰이지 않게 하고,
+     * 로그인 세션의 리프레시 토큰을 모두 폐기한다.
+     * 액세스 토큰이 이미 만료되었으면 요청 본문의 리프레시 토큰으로 세션을 찾는다.
      * 
      * @param authorization Authorization 헤더 (Bearer 토큰)
+     * @param refreshRequest 리프레시 토큰 (선택)
      * @return 로그아웃 성공 응답
      */
     @PostMapping("/logout")
@@ -269,19 +299,27 @@ public class AuthController {
     })
     public ResponseEntity<?> logout(
             @Parameter(description = "JWT 토큰", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
-            @RequestHeader(value = "Authorization", required = false) String authorization) {
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestBody(required = false) RefreshRequest refreshRequest,
+            HttpServletRequest request) {
         
         try {
+            String sessionId = null;
             if (authorization != null) {
                 String token = jwtTokenProvider.resolveToken(authorization);
-                if (token != null && jwtTokenProvider.validateToken(token)) {
-                    String email = jwtTokenProvider.getUsername(token);
-                    log.info("로그아웃 처리 - 사용자: {}", email);
+                Claims claims = token != null ? jwtTokenProvider.resolveClaims(request, token) : null;
+                if (claims != null) {
+                    tokenRevocationRegistry.revoke(claims);
+                    sessionId = claims.get(JwtTokenProvider.CLAIM_SESSION_ID, String.class);
+                    log.info("로그아웃 처리 - 사용자: {}", claims.getSubject());
                 }
             }
             
-            // JWT 기반 인증에서는 서버 측에서 토큰을 무효화할 수 없으므로
-            // 클라이언트에서 토큰을 삭제하도록 안내하는 응답
+            // 로그인 세션의 리프레시 토큰 폐기
+            refreshTokenService.revokeSession(sessionId,
+                    refreshRequest != null ? refreshRequest.getRefreshToken() : null);
+            
+            // 클라이언트도 저장한 토큰을 삭제해야 함
             return ResponseEntity.ok(new LogoutResponse(true, "로그아웃이 완료되었습니다."));
             
         } catch (Exception e) {
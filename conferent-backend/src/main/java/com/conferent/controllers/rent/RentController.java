@@ -1,7 +1,20 @@
 package com.conferent.controllers.rent;
 
+import com.conferent.dtos.rent.AvailableSlotResponse;
 import com.conferent.dtos.rent.CreateRentRequest;
+import com.conferent.dtos.rent.FreeBusyProbeResponse;
+import com.conferent.dtos.rent.FreeBusyProbesRequest;
+import com.conferent.dtos.rent.FreeBusyResponse;
+import com.conferent.dtos.rent.MeetingSlotResponse;
+import com.conferent.dtos.rent.MeetingSlotSearchRequest;
+import com.conferent.dtos.rent.RentConflictResponse;
+import com.conferent.dtos.rent.RentPageResponse;
 import com.conferent.dtos.rent.RentResponse;
+import com.conferent.enums.RentExportFormat;
+import com.conferent.services.rent.BookingStreamService;
+import com.conferent.services.rent.FreeBusyService;
+import com.conferent.services.rent.MeetingSlotService;
+import com.conferent.services.rent.RentExportService;
 import com.conferent.services.rent.RentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,13 +25,19 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 
 @RestController
@@ -28,6 +47,10 @@ import java.util.List;
 public class RentController {
 
     private final RentService rentService;
+    private final RentExportService rentExportService;
+    private final FreeBusyService freeBusyService;
+    private final MeetingSlotService meetingSlotService;
+    private final BookingStreamService bookingStreamService;
 
     @GetMapping
     @Operation(summary = "예약 목록 조회", description = "모든 예약 목록을 조회합니다.")
@@ -40,6 +63,22 @@ public class RentController {
         return ResponseEntity.ok(rents);
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "예약 목록 커서 페이지 조회", description = "모든 예약을 시작 시간 역순으로 커서 기반 페이지 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = RentPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기")
+    })
+    public ResponseEntity<RentPageResponse> getRentsPage(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        RentPageResponse page = rentService.getRentsPage(cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "예약 상세 조회", description = "특정 예약의 상세 정보를 조회합니다.")
     @ApiResponses(value = {
@@ -67,6 +106,24 @@ public class RentController {
         return ResponseEntity.ok(rents);
     }
 
+    @GetMapping("/creator/{creatorId}/page")
+    @Operation(summary = "사용자별 예약 커서 페이지 조회", description = "특정 사용자가 생성한 예약들을 커서 기반 페이지로 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = RentPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기")
+    })
+    public ResponseEntity<RentPageResponse> getRentsPageByCreator(
+            @Parameter(description = "예약 생성자 ID", example = "1")
+            @PathVariable Long creatorId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        RentPageResponse page = rentService.getRentsPageByCreatorId(creatorId, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/date-range")
     @Operation(summary = "날짜 범위별 예약 조회", description = "특정 날짜 범위의 예약들을 조회합니다.")
     @ApiResponses(value = {
@@ -82,6 +139,33 @@ public class RentController {
         return ResponseEntity.ok(rents);
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "날짜 범위별 예약 내보내기", description = "특정 날짜 범위의 예약들을 NDJSON 또는 CSV로 스트리밍 내보냅니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 날짜 범위")
+    })
+    public ResponseEntity<StreamingResponseBody> exportRentsByDateRange(
+            @Parameter(description = "시작 날짜", example = "2024-01-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @Parameter(description = "종료 날짜", example = "2024-03-31T23:59:59")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @Parameter(description = "내보내기 형식 (NDJSON, CSV)", example = "CSV")
+            @RequestParam(defaultValue = "NDJSON") RentExportFormat format) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이전이어야 합니다");
+        }
+        
+        StreamingResponseBody body = outputStream ->
+                rentExportService.exportRentsByDateRange(startDate, endDate, format, outputStream);
+        
+        String fileName = "rents-" + startDate.toLocalDate() + "-" + endDate.toLocalDate() + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
     @GetMapping("/room/{roomId}")
     @Operation(summary = "회의실별 예약 조회", description = "특정 회의실의 예약들을 조회합니다.")
     @ApiResponses(value = {
@@ -95,6 +179,24 @@ public class RentController {
         return ResponseEntity.ok(rents);
     }
 
+    @GetMapping("/room/{roomId}/page")
+    @Operation(summary = "회의실별 예약 커서 페이지 조회", description = "특정 회의실의 예약들을 커서 기반 페이지로 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = RentPageResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기")
+    })
+    public ResponseEntity<RentPageResponse> getRentsPageByRoom(
+            @Parameter(description = "회의실 ID", example = "1")
+            @PathVariable Long roomId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        RentPageResponse page = rentService.getRentsPageByRoomId(roomId, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
     @PostMapping
     @Operation(summary = "예약 생성", description = "새로운 회의실 예약을 생성합니다.")
     @ApiResponses(value = {
@@ -142,20 +244,124 @@ public class RentController {
     }
 
     @GetMapping("/conflicts")
-    @Operation(summary = "시간 충돌 확인", description = "특정 시간대의 예약 충돌을 확인합니다.")
+    @Operation(summary = "시간 충돌 확인", description = "특정 시간대의 예약 충돌을 확인하고, 충돌하는 회의실과 점유 구간을 반환합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "확인 완료",
-            content = @Content(schema = @Schema(implementation = RentResponse.class)))
+            content = @Content(schema = @Schema(implementation = RentConflictResponse.class)))
     })
-    public ResponseEntity<Boolean> checkTimeConflict(
+    public ResponseEntity<RentConflictResponse> checkTimeConflict(
             @Parameter(description = "회의실 ID 목록")
             @RequestParam List<Long> roomIds,
             @Parameter(description = "시작 시간", example = "2024-01-15T14:00:00")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
             @Parameter(description = "종료 시간", example = "2024-01-15T16:00:00")
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime) {
-        boolean hasConflict = rentService.hasTimeConflict(roomIds, startTime, endTime);
-        return ResponseEntity.ok(hasConflict);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime,
+            @Parameter(description = "제외할 예약 ID (수정 중인 예약)", example = "5")
+            @RequestParam(required = false) Long excludeRentId) {
+        RentConflictResponse conflicts = rentService.findTimeConflicts(roomIds, startTime, endTime, excludeRentId);
+        return ResponseEntity.ok(conflicts);
+    }
+
+    @GetMapping("/free-busy")
+    @Operation(summary = "빈 시간/점유 현황 조회",
+        description = "전체 회의실의 하루 또는 일주일 빈 시간/점유 현황을 시간 슬롯 단위로 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = FreeBusyResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 조회 일수 또는 슬롯 길이")
+    })
+    public ResponseEntity<FreeBusyResponse> getFreeBusy(
+            @Parameter(description = "조회 시작 날짜", example = "2024-01-15")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "조회 일수 (1~7, 주간 보기는 7)", example = "1")
+            @RequestParam(defaultValue = "1") int days,
+            @Parameter(description = "슬롯 길이 (15, 30, 60분)", example = "30")
+            @RequestParam(defaultValue = "30") int slotMinutes) {
+        FreeBusyResponse freeBusy = freeBusyService.getFreeBusy(date, days, slotMinutes);
+        return ResponseEntity.ok(freeBusy);
+    }
+
+    @PostMapping("/free-busy/probes")
+    @Operation(summary = "빈 시간 일괄 확인",
+        description = "여러 (회의실, 시간대) 후보의 예약 가능 여부를 한 번에 확인합니다. 결과는 요청 순서와 같습니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "확인 완료",
+            content = @Content(schema = @Schema(implementation = FreeBusyProbeResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터")
+    })
+    public ResponseEntity<List<FreeBusyProbeResponse>> probeFreeBusy(
+            @Parameter(description = "확인할 후보 목록")
+            @Valid @RequestBody FreeBusyProbesRequest request) {
+        List<FreeBusyProbeResponse> results = freeBusyService.probe(request.getProbes());
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping("/next-available")
+    @Operation(summary = "가장 이른 빈 시간 검색",
+        description = "지정한 길이로 예약할 수 있는 가장 이른 빈 시간을 최대 limit개 조회합니다. " +
+            "together가 true이면 모든 회의실이 함께 비어 있는 시간을, false이면 회의실별 빈 시간을 찾습니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = AvailableSlotResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 길이, 검색 범위 또는 결과 수"),
+        @ApiResponse(responseCode = "404", description = "회의실을 찾을 수 없음")
+    })
+    public ResponseEntity<List<AvailableSlotResponse>> findNextAvailableSlots(
+            @Parameter(description = "후보 회의실 ID 목록 (생략 시 전체 회의실)")
+            @RequestParam(required = false) List<Long> roomIds,
+            @Parameter(description = "모든 회의실을 함께 예약할지 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean together,
+            @Parameter(description = "예약 길이 (분)", example = "60")
+            @RequestParam int durationMinutes,
+            @Parameter(description = "검색 시작 시간 (생략 시 현재)", example = "2024-01-15T09:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "검색 종료 시간 (생략 시 검색 시작 + 7일)", example = "2024-01-19T18:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "결과 수 (1~20)", example = "5")
+            @RequestParam(defaultValue = "5") int limit) {
+        LocalDateTime windowStart = from != null ? from : LocalDateTime.now();
+        LocalDateTime windowEnd = to != null ? to : windowStart.plusDays(7);
+        List<AvailableSlotResponse> slots = freeBusyService.findNextAvailableSlots(
+                roomIds, together, Duration.ofMinutes(durationMinutes), windowStart, windowEnd, limit);
+        return ResponseEntity.ok(slots);
+    }
+
+    @PostMapping("/meeting-slots")
+    @Operation(summary = "참석자 일정 기반 회의 시간 찾기",
+        description = "모든 참석자와 조건에 맞는 회의실 하나 이상이 함께 비어 있는 회의 시간을 이른 순으로 조회합니다. " +
+            "참석자가 생성했거나 대기/수락 상태로 초대된 예약 시간은 점유로 봅니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = MeetingSlotResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+        @ApiResponse(responseCode = "404", description = "참석자 또는 회의실을 찾을 수 없음")
+    })
+    public ResponseEntity<List<MeetingSlotResponse>> findMeetingSlots(
+            @Parameter(description = "회의 시간 찾기 조건")
+            @Valid @RequestBody MeetingSlotSearchRequest request) {
+        List<MeetingSlotResponse> slots = meetingSlotService.findMeetingSlots(request);
+        return ResponseEntity.ok(slots);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "예약 변경 실시간 구독",
+        description = "예약 생성/수정/삭제가 커밋될 때마다 Server-Sent Events(event: booking)로 변경 전/후 정보를 받습니다. " +
+            "위치나 회의실로 구독 범위를 좁힐 수 있으며, 전송이 밀리는 연결은 서버가 끊으므로 다시 연결 후 현황을 새로 조회해야 합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "구독 시작"),
+        @ApiResponse(responseCode = "503", description = "구독 연결 수 초과")
+    })
+    public ResponseEntity<SseEmitter> streamBookingChanges(
+            @Parameter(description = "위치(건물/층) 필터", example = "3층")
+            @RequestParam(required = false) String location,
+            @Parameter(description = "회의실 ID 필터 (생략 시 위치 필터만, 둘 다 생략 시 전체)")
+            @RequestParam(required = false) List<Long> roomIds) {
+        SseEmitter emitter = bookingStreamService.subscribe(location, roomIds != null ? new HashSet<>(roomIds) : null);
+        // nginx가 응답을 버퍼에 모아 두지 않고 이벤트마다 바로 전달하도록 버퍼링 해제
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
     }
 
     @GetMapping("/recent")
@@ -0,0 +1,78 @@
+package com.conferent.controllers.rent;
+
+import com.conferent.dtos.rent.CreateRentSeriesRequest;
+import com.conferent.dtos.rent.RentSeriesResponse;
+import com.conferent.dtos.rent.UpdateRentSeriesRequest;
+import com.conferent.services.rent.RentSeriesService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/rent-series")
+@RequiredArgsConstructor
+@Tag(name = "반복 예약 관리", description = "매일/매주/매월 반복 예약 API")
+public class RentSeriesController {
+
+    private final RentSeriesService rentSeriesService;
+
+    @PostMapping
+    @Operation(summary = "반복 예약 생성", description = "반복 규칙에 따라 모든 회차를 한 번에 예약합니다. 한 회차라도 기존 예약과 겹치면 전체가 생성되지 않습니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "생성 성공",
+            content = @Content(schema = @Schema(implementation = RentSeriesResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터 또는 반복 규칙"),
+        @ApiResponse(responseCode = "409", description = "시간 충돌")
+    })
+    public ResponseEntity<RentSeriesResponse> createSeries(
+            @Parameter(description = "반복 예약 생성 정보")
+            @Valid @RequestBody CreateRentSeriesRequest request) {
+        RentSeriesResponse series = rentSeriesService.createSeries(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(series);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "반복 예약 조회", description = "반복 규칙과 모든 회차를 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = RentSeriesResponse.class))),
+        @ApiResponse(responseCode = "404", description = "반복 예약을 찾을 수 없음")
+    })
+    public ResponseEntity<RentSeriesResponse> getSeries(
+            @Parameter(description = "반복 예약 ID", example = "1")
+            @PathVariable Long id) {
+        RentSeriesResponse series = rentSeriesService.getSeries(id);
+        return ResponseEntity.ok(series);
+    }
+
+    @PutMapping("/{id}/occurrences/{rentId}/following")
+    @Operation(summary = "이 회차 및 이후 회차 수정",
+        description = "기준 회차와 이후 회차의 시간/목적/설명을 수정합니다. 이전 회차는 그대로 두고 이후 회차는 새 반복 예약으로 분리됩니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "수정 성공 (이후 회차의 반복 예약 반환)",
+            content = @Content(schema = @Schema(implementation = RentSeriesResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+        @ApiResponse(responseCode = "404", description = "반복 예약 또는 회차를 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "시간 충돌")
+    })
+    public ResponseEntity<RentSeriesResponse> updateFollowing(
+            @Parameter(description = "반복 예약 ID", example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "기준 회차(예약) ID", example = "10")
+            @PathVariable Long rentId,
+            @Parameter(description = "수정 정보")
+            @Valid @RequestBody UpdateRentSeriesRequest request) {
+        RentSeriesResponse series = rentSeriesService.updateFollowing(id, rentId, request);
+        return ResponseEntity.ok(series);
+    }
+}
@@ -2,7 +2,9 @@ package com.conferent.controllers.room;
 
 import com.conferent.dtos.room.RoomRequest;
 import com.conferent.dtos.room.RoomResponse;
+import com.conferent.dtos.room.RoomStatusResponse;
 import com.conferent.services.room.RoomService;
+import com.conferent.services.room.RoomStatusService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,11 +13,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import jakarta.validation.Valid;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -24,7 +30,14 @@ import java.util.List;
 @Tag(name = "회의실 관리", description = "회의실 CRUD API")
 public class RoomController {
 
+    // 현황 롱 폴링 최대 대기 시간 (초, nginx 기본 proxy_read_timeout 60초보다 짧게 두어 504가 나지 않도록 함)
+    private static final int MAX_STATUS_WAIT_SECONDS = 50;
+
+    // 현재/다음 회의가 바뀌는 시각 직후에 응답하도록 더하는 여유 (밀리초)
+    private static final long STATUS_CHANGE_SLACK_MILLIS = 500;
+
     private final RoomService roomService;
+    private final RoomStatusService roomStatusService;
 
     @GetMapping
     @Operation(summary = "회의실 목록 조회", description = "모든 회의실 목록을 조회합니다.")
@@ -51,6 +64,61 @@ public class RoomController {
         return ResponseEntity.ok(room);
     }
 
+    @GetMapping("/{id}/status")
+    @Operation(summary = "회의실 현재/다음 회의 현황", description = "문 앞 태블릿용 현황을 메모리 스냅샷에서 조회합니다. " +
+            "If-None-Match가 현재 ETag와 같으면 304를 반환하고, waitSeconds를 주면 현황이 바뀌거나 대기 시간이 끝날 때까지 응답을 미룹니다(롱 폴링).")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = RoomStatusResponse.class))),
+        @ApiResponse(responseCode = "304", description = "현황 변경 없음"),
+        @ApiResponse(responseCode = "400", description = "잘못된 대기 시간"),
+        @ApiResponse(responseCode = "404", description = "회의실을 찾을 수 없음")
+    })
+    public DeferredResult<ResponseEntity<RoomStatusResponse>> getRoomStatus(
+            @Parameter(description = "회의실 ID", example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "마지막으로 받은 ETag", example = "\"42-7-9\"")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @Parameter(description = "변경이 없을 때 기다릴 최대 시간 (초, 0~50, 0이면 즉시 응답)", example = "30")
+            @RequestParam(defaultValue = "0") int waitSeconds) {
+        if (waitSeconds < 0 || waitSeconds > MAX_STATUS_WAIT_SECONDS) {
+            throw new IllegalArgumentException("대기 시간은 0~" + MAX_STATUS_WAIT_SECONDS + "초 사이여야 합니다.");
+        }
+
+        RoomStatusResponse status = roomStatusService.getStatus(id);
+        if (waitSeconds == 0 || !etagOf(status).equals(ifNoneMatch)) {
+            DeferredResult<ResponseEntity<RoomStatusResponse>> result = new DeferredResult<>();
+            result.setResult(toStatusResponse(status, ifNoneMatch));
+            return result;
+        }
+
+        // 변경이 없으면 일정 변경 알림이나 현재/다음 회의가 바뀌는 시각, 대기 시간 중 먼저 오는 때에 응답
+        long untilChange = Duration.between(status.getCheckedAt(), status.getChangesAt()).toMillis() + STATUS_CHANGE_SLACK_MILLIS;
+        long waitMillis = Math.max(1, Math.min(waitSeconds * 1000L, untilChange));
+        DeferredResult<ResponseEntity<RoomStatusResponse>> result = new DeferredResult<>(waitMillis);
+        Runnable respond = () -> {
+            try {
+                result.setResult(toStatusResponse(roomStatusService.getStatus(id), ifNoneMatch));
+            } catch (RuntimeException e) {
+                result.setErrorResult(e);
+            }
+        };
+        Runnable cancel = roomStatusService.awaitChange(id, respond);
+        result.onTimeout(respond);
+        result.onCompletion(cancel);
+
+        // 첫 조회와 대기 등록 사이에 현황판이 다시 읽혔으면 알림을 놓쳤으므로 등록 후 한 번 더 확인
+        try {
+            RoomStatusResponse latest = roomStatusService.getStatus(id);
+            if (!etagOf(latest).equals(ifNoneMatch)) {
+                result.setResult(toStatusResponse(latest, ifNoneMatch));
+            }
+        } catch (RuntimeException e) {
+            result.setErrorResult(e);
+        }
+        return result;
+    }
+
     @GetMapping("/search")
     @Operation(summary = "회의실 검색", description = "이름으로 회의실을 검색합니다.")
     @ApiResponses(value = {
@@ -108,4 +176,15 @@ public class RoomController {
         return ResponseEntity.noContent().build();
     }
 
+    private static ResponseEntity<RoomStatusResponse> toStatusResponse(RoomStatusResponse status, String ifNoneMatch) {
+        String etag = etagOf(status);
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(status);
+    }
+
+    private static String etagOf(RoomStatusResponse status) {
+        return "\"" + status.getStatusVersion() + "\"";
+    }
 } 
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.conferent.controllers.roomrent;
 
+import com.conferent.dtos.room.RoomRecommendationResponse;
+import com.conferent.dtos.room.RoomResponse;
 import com.conferent.dtos.roomrent.RoomRentRequest;
 import com.conferent.dtos.roomrent.RoomRentResponse;
 import com.conferent.entities.RoomRent;
@@ -189,15 +191,50 @@ public class RoomRentController {
 
     
     @GetMapping("/available")
-    @Operation(summary = "이용 가능한 회의실 조회", description = "현재 이용 가능한 회의실 목록을 조회합니다.")
+    @Operation(summary = "이용 가능한 회의실 조회",
+        description = "지정한 시간대에 비어 있는 회의실 목록을 이름 순으로 조회합니다. 시간을 생략하면 현재부터 1시간 동안을 기준으로 합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "조회 성공",
-            content = @Content(schema = @Schema(implementation = com.conferent.dtos.room.RoomResponse.class)))
+            content = @Content(schema = @Schema(implementation = RoomResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 시간 범위")
     })
-    public ResponseEntity<List<com.conferent.dtos.room.RoomResponse>> getAvailableRooms() {
-        List<com.conferent.dtos.room.RoomResponse> rooms = roomRentService.getAvailableRooms().stream()
-                .map(com.conferent.dtos.room.RoomResponse::from)
-                .collect(java.util.stream.Collectors.toList());
+    public ResponseEntity<List<RoomResponse>> getAvailableRooms(
+            @Parameter(description = "시작 시간 (생략 시 현재)", example = "2024-01-15T14:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @Parameter(description = "종료 시간 (생략 시 시작 시간 + 1시간)", example = "2024-01-15T16:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime,
+            @Parameter(description = "최소 수용 인원", example = "6")
+            @RequestParam(required = false) Integer minCapacity,
+            @Parameter(description = "위치", example = "3층")
+            @RequestParam(required = false) String location) {
+        LocalDateTime start = startTime != null ? startTime : LocalDateTime.now();
+        LocalDateTime end = endTime != null ? endTime : start.plusHours(1);
+        List<RoomResponse> rooms = roomRentService.findAvailableRooms(start, end, minCapacity, location);
         return ResponseEntity.ok(rooms);
     }
-} 
\ No newline at end of file
+
+    @GetMapping("/recommendations")
+    @Operation(summary = "회의실 추천",
+        description = "지정한 시간대에 비어 있고 참석 인원이 들어가는 회의실을 남는 좌석이 적은 순으로 추천합니다. " +
+            "남는 좌석이 같으면 선호 위치의 회의실을 먼저 보여줍니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = RoomRecommendationResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 시간 범위, 참석 인원 또는 추천 개수")
+    })
+    public ResponseEntity<List<RoomRecommendationResponse>> recommendRooms(
+            @Parameter(description = "시작 시간", example = "2024-01-15T14:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @Parameter(description = "종료 시간", example = "2024-01-15T15:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime,
+            @Parameter(description = "참석 인원", example = "4")
+            @RequestParam int attendees,
+            @Parameter(description = "선호 위치", example = "3층")
+            @RequestParam(required = false) String location,
+            @Parameter(description = "추천 개수 (1~20)", example = "5")
+            @RequestParam(defaultValue = "5") int limit) {
+        List<RoomRecommendationResponse> recommendations =
+                roomRentService.recommendRooms(startTime, endTime, attendees, location, limit);
+        return ResponseEntity.ok(recommendations);
+    }
+}
@@ -0,0 +1,30 @@
+package com.conferent.dtos.analytics;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "회의실의 시간대별(0~23시) 이용 현황")
+public class RoomHeatmapResponse {
+    
+    @Schema(description = "회의실 ID", example = "1")
+    private Long roomId;
+    
+    @Schema(description = "회의실 이름", example = "대회의실")
+    private String roomName;
+    
+    @Schema(description = "시간대별 예약된 시간 (분, 24개)")
+    private List<Long> bookedMinutes;
+    
+    @Schema(description = "시간대별 예약 수 (그 시간대에 시작한 예약, 24개)")
+    private List<Long> bookingCounts;
+    
+    @Schema(description = "시간대별 점유율 (예약된 시간 / 기간 내 해당 시간대 전체 시간, 0~1, 24개)")
+    private List<Double> occupancyRates;
+}
@@ -0,0 +1,34 @@
+package com.conferent.dtos.analytics;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "회의실 이용 보고서 (월/분기 등 기간 합계)")
+public class RoomUtilizationReportResponse {
+    
+    @Schema(description = "조회 시작 날짜 (포함)", example = "2024-01-01")
+    private LocalDate fromDate;
+    
+    @Schema(description = "조회 종료 날짜 (포함)", example = "2024-03-31")
+    private LocalDate toDate;
+    
+    @Schema(description = "집계 시작 시각 (포함, 0~23)", example = "9")
+    private int startHour;
+    
+    @Schema(description = "집계 종료 시각 (제외, 1~24)", example = "18")
+    private int endHour;
+    
+    @Schema(description = "회의실당 조회 시간대 전체 시간 (분, 점유율의 분모)", example = "48600")
+    private long availableMinutes;
+    
+    @Schema(description = "회의실별 이용 현황 (이름 순)")
+    private List<RoomUtilizationResponse> rooms;
+}
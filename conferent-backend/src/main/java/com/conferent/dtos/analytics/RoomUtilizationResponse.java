@@ -0,0 +1,40 @@
+package com.conferent.dtos.analytics;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "회의실별 기간 이용 현황")
+public class RoomUtilizationResponse {
+    
+    @Schema(description = "회의실 ID", example = "1")
+    private Long roomId;
+    
+    @Schema(description = "회의실 이름", example = "대회의실")
+    private String roomName;
+    
+    @Schema(description = "회의실 위치", example = "3층")
+    private String location;
+    
+    @Schema(description = "수용 인원", example = "10")
+    private Integer capacity;
+    
+    @Schema(description = "예약된 시간 (분)", example = "5400")
+    private long bookedMinutes;
+    
+    @Schema(description = "예약 수 (조회 시간대에 시작한 예약)", example = "42")
+    private long bookingCount;
+    
+    @Schema(description = "수락한 참석자 수 합계", example = "180")
+    private long acceptedAttendeeCount;
+    
+    @Schema(description = "점유율 (예약된 시간 / 조회 시간대 전체 시간, 0~1)", example = "0.32")
+    private double occupancyRate;
+    
+    @Schema(description = "예약당 평균 수락 참석자 수", example = "4.3")
+    private double averageAttendees;
+}
@@ -0,0 +1,25 @@
+package com.conferent.dtos.analytics;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "회의실 × 시간대 이용 히트맵")
+public class UtilizationHeatmapResponse {
+    
+    @Schema(description = "조회 시작 날짜 (포함)", example = "2024-01-01")
+    private LocalDate fromDate;
+    
+    @Schema(description = "조회 종료 날짜 (포함)", example = "2024-01-31")
+    private LocalDate toDate;
+    
+    @Schema(description = "회의실별 시간대 현황 (이름 순)")
+    private List<RoomHeatmapResponse> rooms;
+}
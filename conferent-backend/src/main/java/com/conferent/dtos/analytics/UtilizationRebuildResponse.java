@@ -0,0 +1,24 @@
+package com.conferent.dtos.analytics;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "이용 집계 재계산 결과")
+public class UtilizationRebuildResponse {
+    
+    @Schema(description = "재계산 시작 날짜 (포함)", example = "2024-01-01")
+    private LocalDate fromDate;
+    
+    @Schema(description = "재계산 종료 날짜 (포함)", example = "2024-12-31")
+    private LocalDate toDate;
+    
+    @Schema(description = "저장된 집계 행 수", example = "12840")
+    private int rows;
+}
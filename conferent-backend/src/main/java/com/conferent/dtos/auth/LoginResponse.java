@@ -16,6 +16,7 @@ import java.time.LocalDateTime;
  * - JWT 토큰
  * - 토큰 타입
  * - 토큰 만료 시간
+ * - 리프레시 토큰과 만료 시간
  * - 사용자 기본 정보
  */
 @Data
@@ -69,6 +70,19 @@ public class LoginResponse {
     @Schema(description = "사용자 역할", example = "USER")
     private Role userRole;
 
+    /**
+     * 리프레시 토큰
+     * 액세스 토큰이 만료되면 /api/auth/refresh로 새 토큰을 받을 때 사용 (한 번 쓰면 교체됨)
+     */
+    @Schema(description = "리프레시 토큰", example = "q8x2...")
+    private String refreshToken;
+
+    /**
+     * 리프레시 토큰 만료 시간
+     */
+    @Schema(description = "리프레시 토큰 만료 시간", example = "2024-01-29T14:00:00")
+    private LocalDateTime refreshExpiresAt;
+
     /**
      * 편의 생성자
      * 필수 정보만으로 LoginResponse 객체 생성
@@ -79,9 +93,12 @@ public class LoginResponse {
      * @param userName 사용자 이름
      * @param userEmail 사용자 이메일
      * @param userRole 사용자 역할
+     * @param refreshToken 리프레시 토큰
+     * @param refreshExpiresAt 리프레시 토큰 만료 시간
      */
     public LoginResponse(String accessToken, LocalDateTime expiresAt, 
-                        Long userId, String userName, String userEmail, Role userRole) {
+                        Long userId, String userName, String userEmail, Role userRole,
+                        String refreshToken, LocalDateTime refreshExpiresAt) {
         this.accessToken = accessToken;
         this.tokenType = "Bearer";
         this.expiresAt = expiresAt;
@@ -89,5 +106,7 @@ public class LoginResponse {
         this.userName = userName;
         this.userEmail = userEmail;
         this.userRole = userRole;
+        this.refreshToken = refreshToken;
+        this.refreshExpiresAt = refreshExpiresAt;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.conferent.dtos.auth;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토큰 재발급 요청 DTO
+ * 로그인/재발급 때 받은 리프레시 토큰으로 새 액세스 토큰을 요청
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "토큰 재발급 요청")
+public class RefreshRequest {
+
+    /**
+     * 리프레시 토큰
+     * - 필수 입력값
+     * - 한 번 쓰면 새 리프레시 토큰으로 교체되므로 응답의 새 토큰을 저장해야 함
+     */
+    @NotBlank(message = "리프레시 토큰은 필수입니다")
+    @Schema(description = "리프레시 토큰", example = "q8x2...", required = true)
+    private String refreshToken;
+}
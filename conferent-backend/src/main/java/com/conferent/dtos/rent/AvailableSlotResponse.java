@@ -0,0 +1,28 @@
+package com.conferent.dtos.rent;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "예약 가능한 빈 시간")
+public class AvailableSlotResponse {
+    
+    @Schema(description = "가장 이른 예약 가능 시작 시간", example = "2024-01-15T10:30:00")
+    private LocalDateTime startTime;
+    
+    @Schema(description = "요청 길이만큼 예약할 때의 종료 시간", example = "2024-01-15T11:30:00")
+    private LocalDateTime endTime;
+    
+    @Schema(description = "빈 시간이 끝나는 시각 (이 시각까지 늘리거나 미룰 수 있음)", example = "2024-01-15T13:00:00")
+    private LocalDateTime freeUntil;
+    
+    @Schema(description = "이 시간에 예약할 회의실 ID 목록", example = "[1]")
+    private List<Long> roomIds;
+}
@@ -0,0 +1,33 @@
+package com.conferent.dtos.rent;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "예약 변경 알림 (실시간 스트림 이벤트)")
+public class BookingChangeResponse {
+    
+    @Schema(description = "인스턴스 내 이벤트 순번 (SSE id)", example = "128")
+    private long sequence;
+    
+    @Schema(description = "변경 종류 (CREATED, UPDATED, DELETED)", example = "UPDATED")
+    private String type;
+    
+    @Schema(description = "예약 ID", example = "1")
+    private Long rentId;
+    
+    @Schema(description = "변경 전 상태 (생성 시 null)")
+    private BookingStateResponse before;
+    
+    @Schema(description = "변경 후 상태 (삭제 시 null)")
+    private BookingStateResponse after;
+    
+    @Schema(description = "커밋 시각", example = "2024-01-15T09:58:12")
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,25 @@
+package com.conferent.dtos.rent;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "예약 변경 전/후 상태")
+public class BookingStateResponse {
+    
+    @Schema(description = "시작 시간", example = "2024-01-15T10:00:00")
+    private LocalDateTime startTime;
+    
+    @Schema(description = "종료 시간", example = "2024-01-15T11:00:00")
+    private LocalDateTime endTime;
+    
+    @Schema(description = "회의실 ID 목록", example = "[1, 2]")
+    private List<Long> roomIds;
+}
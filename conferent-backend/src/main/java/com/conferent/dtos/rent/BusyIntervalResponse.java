@@ -0,0 +1,21 @@
+package com.conferent.dtos.rent;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "회의실 점유 구간 (맞닿거나 겹치는 예약은 하나로 합침)")
+public class BusyIntervalResponse {
+    
+    @Schema(description = "점유 시작 시간", example = "2024-01-15T14:00:00")
+    private LocalDateTime startTime;
+    
+    @Schema(description = "점유 종료 시간", example = "2024-01-15T15:30:00")
+    private LocalDateTime endTime;
+}
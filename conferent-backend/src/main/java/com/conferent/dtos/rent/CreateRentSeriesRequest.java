@@ -0,0 +1,79 @@
+package com.conferent.dtos.rent;
+
+import com.conferent.enums.RecurrenceFrequency;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "반복 예약 생성 요청")
+public class CreateRentSeriesRequest {
+    
+    @Schema(description = "첫 회차 시작 시간", example = "2024-01-15T09:00:00")
+    @NotNull(message = "시작 시간은 필수입니다")
+    @Future(message = "시작 시간은 현재 시간 이후여야 합니다")
+    private LocalDateTime startTime;
+    
+    @Schema(description = "첫 회차 종료 시간", example = "2024-01-15T09:30:00")
+    @NotNull(message = "종료 시간은 필수입니다")
+    @Future(message = "종료 시간은 현재 시간 이후여야 합니다")
+    private LocalDateTime endTime;
+    
+    @Schema(description = "예약 목적", example = "주간 스탠드업")
+    @Size(max = 200, message = "목적은 200자를 초과할 수 없습니다")
+    private String purpose;
+    
+    @Schema(description = "예약 상세 설명", example = "매주 월요일 팀 스탠드업")
+    @Size(max = 1000, message = "설명은 1000자를 초과할 수 없습니다")
+    private String description;
+    
+    @Schema(description = "예약 생성자 ID", example = "1")
+    @NotNull(message = "생성자 ID는 필수입니다")
+    private Long creatorId;
+    
+    @Schema(description = "예약할 회의실 ID 목록", example = "[1, 2]")
+    @NotNull(message = "회의실 ID 목록은 필수입니다")
+    @Size(min = 1, message = "최소 하나의 회의실을 선택해야 합니다")
+    private List<Long> roomIds;
+    
+    @Schema(description = "초대할 사용자 ID 목록 (선택사항)", example = "[3, 4, 5]")
+    private List<Long> inviteeIds;
+    
+    @Schema(description = "반복 주기", example = "WEEKLY")
+    @NotNull(message = "반복 주기는 필수입니다")
+    private RecurrenceFrequency frequency;
+    
+    @Schema(description = "반복 간격 (예: WEEKLY + 2 = 격주)", example = "1")
+    @Min(value = 1, message = "반복 간격은 1 이상이어야 합니다")
+    private Integer interval = 1;
+    
+    @Schema(description = "반복 종료일 (포함, count와 둘 중 하나 이상 필수)", example = "2024-06-30")
+    private LocalDate untilDate;
+    
+    @Schema(description = "반복 횟수 (untilDate와 둘 중 하나 이상 필수)", example = "12")
+    @Min(value = 1, message = "반복 횟수는 1 이상이어야 합니다")
+    @Max(value = 366, message = "반복 횟수는 366회를 초과할 수 없습니다")
+    private Integer count;
+    
+    /**
+     * 시간 유효성 검사
+     */
+    public boolean isValidTimeRange() {
+        if (startTime == null || endTime == null) {
+            return false;
+        }
+        return startTime.isBefore(endTime);
+    }
+}
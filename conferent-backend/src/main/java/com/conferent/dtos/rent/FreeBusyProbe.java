@@ -0,0 +1,28 @@
+package com.conferent.dtos.rent;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "빈 시간 확인 후보 (회의실, 시간대)")
+public class FreeBusyProbe {
+    
+    @Schema(description = "회의실 ID", example = "1")
+    @NotNull(message = "회의실 ID는 필수입니다")
+    private Long roomId;
+    
+    @Schema(description = "시작 시간", example = "2024-01-15T14:00:00")
+    @NotNull(message = "시작 시간은 필수입니다")
+    private LocalDateTime startTime;
+    
+    @Schema(description = "종료 시간", example = "2024-01-15T15:00:00")
+    @NotNull(message = "종료 시간은 필수입니다")
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,31 @@
+package com.conferent.dtos.rent;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "빈 시간 확인 결과")
+public class FreeBusyProbeResponse {
+    
+    @Schema(description = "회의실 ID", example = "1")
+    private Long roomId;
+    
+    @Schema(description = "시작 시간", example = "2024-01-15T14:00:00")
+    private LocalDateTime startTime;
+    
+    @Schema(description = "종료 시간", example = "2024-01-15T15:00:00")
+    private LocalDateTime endTime;
+    
+    @Schema(description = "예약 가능 여부", example = "false")
+    private boolean free;
+    
+    @Schema(description = "겹치는 예약 ID 목록 (시작 시간 순)", example = "[42]")
+    private List<Long> conflictingRentIds;
+}
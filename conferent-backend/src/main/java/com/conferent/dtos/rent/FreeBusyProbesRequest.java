@@ -0,0 +1,24 @@
+package com.conferent.dtos.rent;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "빈 시간 일괄 확인 요청")
+public class FreeBusyProbesRequest {
+    
+    @Schema(description = "확인할 후보 목록 (최대 200개, 전체 범위 최대 31일)")
+    @NotEmpty(message = "확인할 후보는 최소 하나 이상이어야 합니다")
+    @Size(max = 200, message = "한 번에 최대 200개까지 확인할 수 있습니다")
+    @Valid
+    private List<FreeBusyProbe> probes;
+}
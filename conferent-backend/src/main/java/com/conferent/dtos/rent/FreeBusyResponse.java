@@ -0,0 +1,28 @@
+package com.conferent.dtos.rent;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "회의실 × 시간 슬롯 빈 시간/점유 현황")
+public class FreeBusyResponse {
+    
+    @Schema(description = "조회 시작 시간", example = "2024-01-15T00:00:00")
+    private LocalDateTime startTime;
+    
+    @Schema(description = "조회 종료 시간", example = "2024-01-16T00:00:00")
+    private LocalDateTime endTime;
+    
+    @Schema(description = "슬롯 길이 (분)", example = "30")
+    private int slotMinutes;
+    
+    @Schema(description = "회의실별 현황 (이름 순)")
+    private List<RoomFreeBusyResponse> rooms;
+}
@@ -0,0 +1,25 @@
+package com.conferent.dtos.rent;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "모든 참석자와 회의실 하나 이상이 비어 있는 회의 시간")
+public class MeetingSlotResponse {
+    
+    @Schema(description = "회의 시작 시간", example = "2024-01-15T10:00:00")
+    private LocalDateTime startTime;
+    
+    @Schema(description = "회의 종료 시간", example = "2024-01-15T11:00:00")
+    private LocalDateTime endTime;
+    
+    @Schema(description = "이 시간에 비어 있는 회의실 ID 목록 (이름 순)", example = "[1, 3]")
+    private List<Long> roomIds;
+}
@@ -0,0 +1,68 @@
+package com.conferent.dtos.rent;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "참석자 일정 기반 회의 시간 찾기 요청")
+public class MeetingSlotSearchRequest {
+    
+    @Schema(description = "참석자 ID 목록 (주최자 포함)", example = "[1, 2, 3]")
+    @NotEmpty(message = "참석자는 최소 한 명 이상이어야 합니다")
+    @Size(max = 100, message = "참석자는 최대 100명까지 지정할 수 있습니다")
+    private List<Long> attendeeIds;
+    
+    @Schema(description = "후보 회의실 ID 목록 (생략 시 수용 인원/위치 조건에 맞는 전체 회의실)", example = "[1, 2]")
+    private List<Long> roomIds;
+    
+    @Schema(description = "최소 수용 인원 (생략 시 참석자 수)", example = "6")
+    @Min(value = 1, message = "최소 수용 인원은 1 이상이어야 합니다")
+    private Integer minCapacity;
+    
+    @Schema(description = "회의실 위치", example = "3층")
+    private String location;
+    
+    @Schema(description = "회의 길이 (분)", example = "60")
+    @NotNull(message = "회의 길이는 필수입니다")
+    @Min(value = 15, message = "회의 길이는 15분 이상이어야 합니다")
+    @Max(value = 480, message = "회의 길이는 480분을 초과할 수 없습니다")
+    private Integer durationMinutes;
+    
+    @Schema(description = "검색 시작 시간", example = "2024-01-15T00:00:00")
+    @NotNull(message = "검색 시작 시간은 필수입니다")
+    private LocalDateTime from;
+    
+    @Schema(description = "검색 종료 시간 (최대 14일)", example = "2024-01-29T00:00:00")
+    @NotNull(message = "검색 종료 시간은 필수입니다")
+    private LocalDateTime to;
+    
+    @Schema(description = "시작 시간 간격 (15, 30, 60분)", example = "30")
+    private int slotMinutes = 30;
+    
+    @Schema(description = "근무 시작 시각", example = "09:00:00")
+    private LocalTime workdayStart = LocalTime.of(9, 0);
+    
+    @Schema(description = "근무 종료 시각", example = "18:00:00")
+    private LocalTime workdayEnd = LocalTime.of(18, 0);
+    
+    @Schema(description = "주말 포함 여부", example = "false")
+    private boolean includeWeekends = false;
+    
+    @Schema(description = "결과 수 (1~50)", example = "10")
+    @Min(value = 1, message = "결과 수는 1 이상이어야 합니다")
+    @Max(value = 50, message = "결과 수는 50을 초과할 수 없습니다")
+    private int limit = 10;
+}
@@ -0,0 +1,38 @@
+package com.conferent.dtos.rent;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "시간 충돌 확인 응답")
+public class RentConflictResponse {
+    
+    @Schema(description = "충돌 여부", example = "true")
+    private boolean hasConflict;
+    
+    @Schema(description = "충돌하는 회의실 ID 목록 (회의실 ID 순)")
+    private List<Long> conflictingRoomIds;
+    
+    @Schema(description = "회의실별 점유 구간 목록 (회의실 ID, 시작 시간 순)")
+    private List<RoomConflictResponse> conflicts;
+    
+    /**
+     * 점유 구간 목록으로 응답 생성 (회의실 ID, 시작 시간 순으로 정렬된 목록 기준)
+     */
+    public static RentConflictResponse of(List<RoomConflictResponse> conflicts) {
+        Set<Long> roomIds = new LinkedHashSet<>();
+        for (RoomConflictResponse conflict : conflicts) {
+            roomIds.add(conflict.getRoomId());
+        }
+        return new RentConflictResponse(!conflicts.isEmpty(), new ArrayList<>(roomIds), conflicts);
+    }
+}
@@ -0,0 +1,24 @@
+package com.conferent.dtos.rent;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "예약 목록 커서 페이지 응답")
+public class RentPageResponse {
+    
+    @Schema(description = "현재 페이지의 예약 목록 (시작 시간 역순)")
+    private List<RentResponse> items;
+    
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MjAyNC0wMS0xNVQxNDowMHw0Mg")
+    private String nextCursor;
+    
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
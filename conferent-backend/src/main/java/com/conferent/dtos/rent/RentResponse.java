@@ -24,6 +24,9 @@ public class RentResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
+    // 반복 예약 회차인 경우 반복 규칙 ID (단건 예약은 null)
+    private Long seriesId;
+    
     // 연관된 회의실들
     private List<RoomResponse> rooms;
     
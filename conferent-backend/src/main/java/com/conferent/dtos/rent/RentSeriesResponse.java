@@ -0,0 +1,50 @@
+package com.conferent.dtos.rent;
+
+import com.conferent.entities.RentSeries;
+import com.conferent.enums.RecurrenceFrequency;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "반복 예약 응답")
+public class RentSeriesResponse {
+    
+    @Schema(description = "반복 예약 ID", example = "7")
+    private Long id;
+    
+    @Schema(description = "반복 주기", example = "WEEKLY")
+    private RecurrenceFrequency frequency;
+    
+    @Schema(description = "반복 간격", example = "1")
+    private Integer interval;
+    
+    @Schema(description = "반복 종료일 (포함)", example = "2024-06-30")
+    private LocalDate untilDate;
+    
+    @Schema(description = "반복 횟수", example = "12")
+    private Integer count;
+    
+    @Schema(description = "회차 목록 (시작 시간 순)")
+    private List<RentResponse> occurrences;
+    
+    /**
+     * Entity와 회차 응답 목록으로 DTO 생성
+     */
+    public static RentSeriesResponse from(RentSeries series, List<RentResponse> occurrences) {
+        return new RentSeriesResponse(
+            series.getId(),
+            series.getFrequency(),
+            series.getRepeatInterval(),
+            series.getUntilDate(),
+            series.getOccurrenceCount(),
+            occurrences
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.conferent.dtos.rent;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "회의실을 점유 중인 예약 구간")
+public class RoomConflictResponse {
+    
+    @Schema(description = "회의실 ID", example = "1")
+    private Long roomId;
+    
+    @Schema(description = "점유 중인 예약 ID", example = "42")
+    private Long rentId;
+    
+    @Schema(description = "점유 시작 시간", example = "2024-01-15T14:00:00")
+    private LocalDateTime startTime;
+    
+    @Schema(description = "점유 종료 시간", example = "2024-01-15T15:00:00")
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,33 @@
+package com.conferent.dtos.rent;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "회의실 한 개의 빈 시간/점유 시간")
+public class RoomFreeBusyResponse {
+    
+    @Schema(description = "회의실 ID", example = "1")
+    private Long roomId;
+    
+    @Schema(description = "회의실 이름", example = "회의실 A")
+    private String roomName;
+    
+    @Schema(description = "회의실 위치", example = "3층")
+    private String location;
+    
+    @Schema(description = "수용 인원", example = "8")
+    private Integer capacity;
+    
+    @Schema(description = "슬롯별 점유 여부 (조회 시작부터 슬롯 순서대로 0: 빈 시간, 1: 점유)", example = "000011100000")
+    private String slots;
+    
+    @Schema(description = "점유 구간 목록 (시작 시간 순, 조회 범위로 잘림)")
+    private List<BusyIntervalResponse> busy;
+}
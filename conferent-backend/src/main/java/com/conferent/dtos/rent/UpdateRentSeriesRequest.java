@@ -0,0 +1,46 @@
+package com.conferent.dtos.rent;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "반복 예약 \"이 회차 및 이후 회차\" 수정 요청")
+public class UpdateRentSeriesRequest {
+    
+    @Schema(description = "기준 회차의 새 시작 시간 (이후 회차는 같은 만큼 이동)", example = "2024-01-22T09:30:00")
+    @NotNull(message = "시작 시간은 필수입니다")
+    @Future(message = "시작 시간은 현재 시간 이후여야 합니다")
+    private LocalDateTime startTime;
+    
+    @Schema(description = "기준 회차의 새 종료 시간 (이후 회차도 같은 길이로 맞춤)", example = "2024-01-22T10:00:00")
+    @NotNull(message = "종료 시간은 필수입니다")
+    @Future(message = "종료 시간은 현재 시간 이후여야 합니다")
+    private LocalDateTime endTime;
+    
+    @Schema(description = "예약 목적", example = "주간 스탠드업")
+    @Size(max = 200, message = "목적은 200자를 초과할 수 없습니다")
+    private String purpose;
+    
+    @Schema(description = "예약 상세 설명", example = "시간 변경: 09:30 시작")
+    @Size(max = 1000, message = "설명은 1000자를 초과할 수 없습니다")
+    private String description;
+    
+    /**
+     * 시간 유효성 검사
+     */
+    public boolean isValidTimeRange() {
+        if (startTime == null || endTime == null) {
+            return false;
+        }
+        return startTime.isBefore(endTime);
+    }
+}
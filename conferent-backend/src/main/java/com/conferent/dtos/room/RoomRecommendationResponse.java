@@ -0,0 +1,22 @@
+package com.conferent.dtos.room;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "추천 회의실 (인원에 맞는 가장 작은 빈 회의실 순)")
+public class RoomRecommendationResponse {
+    
+    @Schema(description = "회의실 정보")
+    private RoomResponse room;
+    
+    @Schema(description = "남는 좌석 수 (수용 인원 - 참석 인원)", example = "2")
+    private int spareSeats;
+    
+    @Schema(description = "선호 위치와 같은지 여부", example = "true")
+    private boolean preferredLocation;
+}
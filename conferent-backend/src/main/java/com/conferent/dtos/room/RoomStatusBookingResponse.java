@@ -0,0 +1,30 @@
+package com.conferent.dtos.room;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "회의실 현황에 표시할 예약")
+public class RoomStatusBookingResponse {
+    
+    @Schema(description = "예약 ID", example = "1")
+    private Long rentId;
+    
+    @Schema(description = "예약 목적", example = "주간 회의")
+    private String purpose;
+    
+    @Schema(description = "예약자 이름", example = "홍길동")
+    private String organizerName;
+    
+    @Schema(description = "시작 시간", example = "2024-01-15T10:00:00")
+    private LocalDateTime startTime;
+    
+    @Schema(description = "종료 시간", example = "2024-01-15T11:00:00")
+    private LocalDateTime endTime;
+}
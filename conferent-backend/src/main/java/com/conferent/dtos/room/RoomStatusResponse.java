@@ -0,0 +1,47 @@
+package com.conferent.dtos.room;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "회의실 현재/다음 회의 현황 (문 앞 표시용)")
+public class RoomStatusResponse {
+    
+    @Schema(description = "회의실 ID", example = "1")
+    private Long roomId;
+    
+    @Schema(description = "회의실 이름", example = "대회의실")
+    private String roomName;
+    
+    @Schema(description = "회의실 위치", example = "3층")
+    private String location;
+    
+    @Schema(description = "기준 시각", example = "2024-01-15T10:12:00")
+    private LocalDateTime checkedAt;
+    
+    @Schema(description = "현재 사용 중 여부", example = "true")
+    private boolean busy;
+    
+    @Schema(description = "진행 중인 회의 (없으면 null)")
+    private RoomStatusBookingResponse current;
+    
+    @Schema(description = "오늘 다음 회의 (없으면 null)")
+    private RoomStatusBookingResponse next;
+    
+    @Schema(description = "오늘 남은 회의 (시작 시간 순, 다음 회의 포함)")
+    private List<RoomStatusBookingResponse> upcoming;
+    
+    @Schema(description = "예약 변경이 없을 때 현황이 다음으로 바뀌는 시각 (현재 회의 종료 또는 다음 회의 시작, 없으면 자정)",
+            example = "2024-01-15T11:00:00")
+    private LocalDateTime changesAt;
+    
+    @Schema(description = "현황 버전 (ETag와 같은 값, 바뀌지 않았으면 304 응답)", example = "42-7-9")
+    private String statusVersion;
+}
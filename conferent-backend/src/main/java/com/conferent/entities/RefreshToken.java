@@ -0,0 +1,66 @@
+package com.conferent.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 (로그인 세션)
+ * 
+ * 토큰 원문은 저장하지 않고 SHA-256 다이제스트만 저장한다. (충분히 긴 난수이므로 BCrypt 같은 느린 해시가 필요 없음)
+ * 한 번 쓰인 토큰은 usedAt을 기록하고 같은 세션(familyId)의 새 토큰으로 교체된다.
+ * 이미 쓰인 토큰이 다시 오면 탈취된 것으로 보고 세션 전체를 폐기한다. (교체 직후 유예 시간 안의 재사용은 거절만 함)
+ */
+@Entity
+@Table(name = "refresh_tokens",
+    uniqueConstraints = @UniqueConstraint(name = "uk_refresh_tokens_token_hash", columnNames = "token_hash"),
+    indexes = {
+        // 세션 전체 폐기 (재사용 감지, 로그아웃)
+        @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+        // 만료된 행 정리
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    // 토큰 다이제스트 (SHA-256, Base64 URL)
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+    
+    // 로그인 세션 ID (같은 로그인에서 교체된 토큰들이 공유)
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+    
+    // 사용자가 삭제되어도 행 정리는 만료 기준으로 하므로 외래 키 대신 ID만 보관
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    // 발급 시점의 사용자 토큰 버전 (리프레시 시 현재 버전과 다르면 세션 폐기)
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    // 다음 토큰으로 교체된 시각 (null이면 아직 쓰이지 않음)
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+    
+    // 세션이 폐기된 시각 (로그아웃, 재사용 감지)
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -11,7 +11,15 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "rents")
+@Table(name = "rents", indexes = {
+    // 키셋 페이지네이션 (start_time DESC, id DESC) 정렬용
+    @Index(name = "idx_rents_start_time_id", columnList = "start_time, id"),
+    @Index(name = "idx_rents_user_start_time_id", columnList = "user_id, start_time, id"),
+    // 반복 예약 회차 조회 ("이후 모든 회차" 수정)
+    @Index(name = "idx_rents_series_start_time", columnList = "series_id, start_time"),
+    // 시간대 겹침 조회 (end_time > :start AND start_time < :end) - 현재 이후 구간은 작은 범위만 읽음
+    @Index(name = "idx_rents_end_time_start_time", columnList = "end_time, start_time")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -46,6 +54,11 @@ public class Rent {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
+    // 반복 예약 회차인 경우 소속 반복 규칙 (단건 예약은 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "series_id")
+    private RentSeries series;
+    
     // N:M 관계 - RoomRent를 통해 회의실과 연결
     @OneToMany(mappedBy = "rent", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<RoomRent> roomRents;
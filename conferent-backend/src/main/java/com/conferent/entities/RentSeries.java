@@ -0,0 +1,59 @@
+package com.conferent.entities;
+
+import com.conferent.enums.RecurrenceFrequency;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 반복 예약 규칙
+ * 
+ * 각 회차는 series_id를 가진 일반 Rent로 저장되므로 조회/충돌 검사/내보내기는 단건 예약과 동일하게 동작한다.
+ * 종료 조건은 반복 종료일(untilDate)과 반복 횟수(occurrenceCount) 중 먼저 도달하는 쪽을 따른다.
+ */
+@Entity
+@Table(name = "rent_series")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentSeries {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RecurrenceFrequency frequency;
+    
+    // 반복 간격 (예: WEEKLY + 2 = 격주)
+    @Column(name = "repeat_interval", nullable = false)
+    private Integer repeatInterval;
+    
+    // 반복 종료일 (포함)
+    @Column(name = "until_date")
+    private LocalDate untilDate;
+    
+    // 반복 횟수
+    @Column(name = "occurrence_count")
+    private Integer occurrenceCount;
+    
+    // 반복 예약 생성자
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User creator;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
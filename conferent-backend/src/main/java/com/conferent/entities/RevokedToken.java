@@ -0,0 +1,42 @@
+package com.conferent.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 JWT (로그아웃 등)
+ * 
+ * 토큰 ID(jti)와 원래 만료 시각만 보관한다. 만료 시각이 지나면 토큰 자체가 거부되므로 행을 지워도 된다.
+ * 각 인스턴스는 시작 시 만료되지 않은 행을 읽고, 이후에는 마지막으로 읽은 ID 이후의 행만 주기적으로 읽는다.
+ */
+@Entity
+@Table(name = "revoked_tokens",
+    uniqueConstraints = @UniqueConstraint(name = "uk_revoked_tokens_jti", columnNames = "jti"),
+    indexes = {
+        // 만료된 행 정리
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "jti", nullable = false, length = 64)
+    private String jti;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @CreationTimestamp
+    @Column(name = "revoked_at", nullable = false, updatable = false)
+    private LocalDateTime revokedAt;
+}
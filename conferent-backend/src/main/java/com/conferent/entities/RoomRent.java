@@ -10,7 +10,12 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "room_rents")
+@Table(name = "room_rents", indexes = {
+    // 회의실별 예약 조회 / 빈 회의실 안티 조인 (회의실 -> 예약)
+    @Index(name = "idx_room_rents_room_rent", columnList = "room_id, rent_id"),
+    // 시간대로 찾은 예약 -> 회의실 (인덱스만으로 회의실 ID 확인)
+    @Index(name = "idx_room_rents_rent_room", columnList = "rent_id, room_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,59 @@
+package com.conferent.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 회의실 × 날짜 × 시간대(1시간) 이용 집계
+ * 
+ * 예약/초대 쓰기 후 해당 회의실·날짜만 다시 계산하고, 야간 작업으로 일정 기간을 재계산해 보정한다.
+ * 분석 조회는 rents를 읽지 않고 이 테이블만 합산한다.
+ * 
+ * - bookedMinutes: 그 시간대에 예약된 분 (여러 시간대에 걸친 예약은 시간대별로 나눔)
+ * - bookingCount / acceptedAttendeeCount: 그 시간대에 "시작하는" 예약 수와 그 예약들의 수락한 참석자 수
+ *   (시작 시간대에만 세므로 기간 합계가 예약 수/참석자 수와 같다)
+ */
+@Entity
+@Table(name = "room_utilization_hourly",
+    uniqueConstraints = @UniqueConstraint(name = "uk_room_utilization_room_date_hour",
+        columnNames = {"room_id", "usage_date", "hour_of_day"}),
+    indexes = {
+        // 기간별 전체 회의실 합산
+        @Index(name = "idx_room_utilization_date_room", columnList = "usage_date, room_id")
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomUtilizationHourly {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    // 삭제된 회의실의 과거 집계도 남기기 위해 외래 키 대신 ID만 보관
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+    
+    @Column(name = "usage_date", nullable = false)
+    private LocalDate usageDate;
+    
+    @Column(name = "hour_of_day", nullable = false)
+    private Integer hourOfDay;
+    
+    @Column(name = "booked_minutes", nullable = false)
+    private Integer bookedMinutes;
+    
+    @Column(name = "booking_count", nullable = false)
+    private Integer bookingCount;
+    
+    @Column(name = "accepted_attendee_count", nullable = false)
+    private Integer acceptedAttendeeCount;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
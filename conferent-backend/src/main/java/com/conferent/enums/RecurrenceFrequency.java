@@ -0,0 +1,31 @@
+package com.conferent.enums;
+
+import java.time.LocalDateTime;
+
+public enum RecurrenceFrequency {
+    DAILY("매일"),
+    WEEKLY("매주"),
+    MONTHLY("매월");
+    
+    private final String description;
+    
+    RecurrenceFrequency(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    /**
+     * 기준 시각에서 주기 단위로 steps만큼 이동한 시각
+     * 매월 반복은 해당 월에 같은 날짜가 없으면 말일로 맞춰진다 (예: 1/31 -> 2/29)
+     */
+    public LocalDateTime advance(LocalDateTime base, long steps) {
+        return switch (this) {
+            case DAILY -> base.plusDays(steps);
+            case WEEKLY -> base.plusWeeks(steps);
+            case MONTHLY -> base.plusMonths(steps);
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.conferent.events;
+
+import java.time.LocalDateTime;
+
+/**
+ * 초대 상태 변경/삭제 이벤트
+ * 
+ * UserInviteServiceImpl의 쓰기 경로에서 발행되며, 수락한 참석자 수를 집계하는 구독자가
+ * @TransactionalEventListener(AFTER_COMMIT)로 받아 해당 회의실·예약 시간만 다시 계산한다.
+ * 
+ * @param roomId 초대가 속한 회의실 ID
+ * @param rentId 초대가 속한 예약 ID
+ * @param startTime 예약 시작 시간
+ * @param endTime 예약 종료 시간
+ */
+public record InviteChangedEvent(
+    Long roomId,
+    Long rentId,
+    LocalDateTime startTime,
+    LocalDateTime endTime
+) {
+}
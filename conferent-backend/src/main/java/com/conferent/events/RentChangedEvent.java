@@ -0,0 +1,60 @@
+package com.conferent.events;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 예약 생성/수정/삭제 이벤트
+ * 
+ * RentServiceImpl의 쓰기 경로에서 발행되며, 메모리 인덱스나 캐시처럼
+ * 커밋된 데이터만 반영해야 하는 구독자는 @TransactionalEventListener(AFTER_COMMIT)로 받는다.
+ * 
+ * @param type 변경 종류
+ * @param before 변경 전 상태 (생성 시 null)
+ * @param after 변경 후 상태 (삭제 시 null)
+ */
+public record RentChangedEvent(
+    ChangeType type,
+    RentSnapshot before,
+    RentSnapshot after
+) {
+    
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+    
+    public static RentChangedEvent created(RentSnapshot after) {
+        return new RentChangedEvent(ChangeType.CREATED, null, after);
+    }
+    
+    public static RentChangedEvent updated(RentSnapshot before, RentSnapshot after) {
+        return new RentChangedEvent(ChangeType.UPDATED, before, after);
+    }
+    
+    public static RentChangedEvent deleted(RentSnapshot before) {
+        return new RentChangedEvent(ChangeType.DELETED, before, null);
+    }
+    
+    /**
+     * 변경된 예약 ID
+     */
+    public Long rentId() {
+        return after != null ? after.rentId() : before.rentId();
+    }
+    
+    /**
+     * 변경 전/후에 관련된 모든 회의실 ID
+     */
+    public Set<Long> affectedRoomIds() {
+        Set<Long> roomIds = new LinkedHashSet<>();
+        if (before != null) {
+            roomIds.addAll(before.roomIds());
+        }
+        if (after != null) {
+            roomIds.addAll(after.roomIds());
+        }
+        return roomIds;
+    }
+}
@@ -0,0 +1,20 @@
+package com.conferent.events;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예약 변경 이벤트에 담기는 예약 시점 정보
+ * 엔티티와 분리된 불변 값이므로 트랜잭션 종료 후에도 안전하게 사용할 수 있다.
+ */
+public record RentSnapshot(
+    Long rentId,
+    LocalDateTime startTime,
+    LocalDateTime endTime,
+    List<Long> roomIds
+) {
+    
+    public RentSnapshot {
+        roomIds = List.copyOf(roomIds);
+    }
+}
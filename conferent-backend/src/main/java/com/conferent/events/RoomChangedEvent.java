@@ -0,0 +1,24 @@
+package com.conferent.events;
+
+/**
+ * 회의실 생성/수정/삭제 이벤트
+ * 
+ * RoomServiceImpl의 쓰기 경로에서 발행되며, 회의실 정보를 메모리에 두는 구독자는
+ * @TransactionalEventListener(AFTER_COMMIT)로 받아 해당 회의실만 다시 읽는다.
+ * 
+ * @param roomId 변경된 회의실 ID
+ * @param deleted 삭제 여부
+ */
+public record RoomChangedEvent(
+    Long roomId,
+    boolean deleted
+) {
+    
+    public static RoomChangedEvent saved(Long roomId) {
+        return new RoomChangedEvent(roomId, false);
+    }
+    
+    public static RoomChangedEvent deleted(Long roomId) {
+        return new RoomChangedEvent(roomId, true);
+    }
+}
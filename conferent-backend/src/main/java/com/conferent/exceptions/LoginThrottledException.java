@@ -0,0 +1,16 @@
+package com.conferent.exceptions;
+
+public class LoginThrottledException extends RuntimeException {
+    
+    // 다시 시도할 수 있을 때까지의 시간 (초, Retry-After 헤더 값)
+    private final long retryAfterSeconds;
+    
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
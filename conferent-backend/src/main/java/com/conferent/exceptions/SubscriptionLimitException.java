@@ -0,0 +1,8 @@
+package com.conferent.exceptions;
+
+public class SubscriptionLimitException extends RuntimeException {
+    
+    public SubscriptionLimitException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.conferent.repositories.analytics;
+
+/**
+ * 회의실 × 시간대(0~23시) 기간 이용 합계 프로젝션
+ */
+public record RoomHourUtilizationView(
+    Long roomId,
+    Integer hourOfDay,
+    Long bookedMinutes,
+    Long bookingCount,
+    Long acceptedAttendeeCount
+) {
+}
@@ -0,0 +1,81 @@
+package com.conferent.repositories.analytics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 회의실 이용 집계 일괄 교체 리포지토리 (JDBC 배치)
+ *
+ * 재계산한 (회의실, 날짜) 범위의 집계 행을 지우고 새 행을 배치로 저장한다.
+ * 집계 행은 IDENTITY 키를 사용하므로 Hibernate 대신 JdbcTemplate 배치로 전송한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RoomUtilizationBatchRepository {
+
+    // 한 번의 배치로 전송할 최대 행 수
+    private static final int BATCH_SIZE = 500;
+
+    private static final String DELETE_SQL =
+            "DELETE FROM room_utilization_hourly WHERE room_id IN (:roomIds) AND usage_date BETWEEN :fromDate AND :toDate";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO room_utilization_hourly " +
+            "(room_id, usage_date, hour_of_day, booked_minutes, booking_count, accepted_attendee_count, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 회의실 목록 × [fromDate, toDate] 범위의 집계를 주어진 행으로 교체
+     *
+     * @return 저장된 행 수
+     */
+    public int replace(Collection<Long> roomIds, LocalDate fromDate, LocalDate toDate,
+                       List<HourlyRow> rows, LocalDateTime updatedAt) {
+        if (roomIds.isEmpty()) {
+            return 0;
+        }
+        namedParameterJdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource()
+                .addValue("roomIds", roomIds)
+                .addValue("fromDate", Date.valueOf(fromDate))
+                .addValue("toDate", Date.valueOf(toDate)));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.roomId());
+            ps.setDate(2, Date.valueOf(row.usageDate()));
+            ps.setInt(3, row.hourOfDay());
+            ps.setInt(4, row.bookedMinutes());
+            ps.setInt(5, row.bookingCount());
+            ps.setInt(6, row.acceptedAttendeeCount());
+            ps.setTimestamp(7, timestamp);
+        });
+        return rows.size();
+    }
+
+    /**
+     * 저장할 집계 행
+     */
+    public record HourlyRow(
+        Long roomId,
+        LocalDate usageDate,
+        int hourOfDay,
+        int bookedMinutes,
+        int bookingCount,
+        int acceptedAttendeeCount
+    ) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.conferent.repositories.analytics;
+
+import com.conferent.entities.RoomUtilizationHourly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface RoomUtilizationRepository extends JpaRepository<RoomUtilizationHourly, Long> {
+    
+    /**
+     * 기간 내 회의실별 이용 합계 (날짜 포함 범위, 시간대는 [startHour, endHour))
+     */
+    @Query("SELECT new com.conferent.repositories.analytics.RoomUtilizationTotalView(" +
+           "u.roomId, SUM(u.bookedMinutes), SUM(u.bookingCount), SUM(u.acceptedAttendeeCount)) " +
+           "FROM RoomUtilizationHourly u WHERE u.usageDate BETWEEN :fromDate AND :toDate AND " +
+           "u.hourOfDay >= :startHour AND u.hourOfDay < :endHour " +
+           "GROUP BY u.roomId")
+    List<RoomUtilizationTotalView> sumByRoom(@Param("fromDate") LocalDate fromDate,
+                                             @Param("toDate") LocalDate toDate,
+                                             @Param("startHour") int startHour,
+                                             @Param("endHour") int endHour);
+    
+    /**
+     * 기간 내 회의실 × 시간대별 이용 합계 (날짜 포함 범위, roomId가 null이면 전체 회의실)
+     */
+    @Query("SELECT new com.conferent.repositories.analytics.RoomHourUtilizationView(" +
+           "u.roomId, u.hourOfDay, SUM(u.bookedMinutes), SUM(u.bookingCount), SUM(u.acceptedAttendeeCount)) " +
+           "FROM RoomUtilizationHourly u WHERE u.usageDate BETWEEN :fromDate AND :toDate AND " +
+           "(:roomId IS NULL OR u.roomId = :roomId) " +
+           "GROUP BY u.roomId, u.hourOfDay ORDER BY u.roomId, u.hourOfDay")
+    List<RoomHourUtilizationView> sumByRoomAndHour(@Param("fromDate") LocalDate fromDate,
+                                                   @Param("toDate") LocalDate toDate,
+                                                   @Param("roomId") Long roomId);
+}
@@ -0,0 +1,12 @@
+package com.conferent.repositories.analytics;
+
+/**
+ * 회의실별 기간 이용 합계 프로젝션
+ */
+public record RoomUtilizationTotalView(
+    Long roomId,
+    Long bookedMinutes,
+    Long bookingCount,
+    Long acceptedAttendeeCount
+) {
+}
@@ -2,12 +2,18 @@ package com.conferent.repositories.rent;
 
 import com.conferent.entities.Rent;
 import com.conferent.entities.User;
+import com.conferent.repositories.userinvite.UserBusyView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -29,6 +35,45 @@ public interface RentRepository extends JpaRepository<Rent, Long> {
     @Query("SELECT r FROM Rent r WHERE r.startTime >= :startDate AND r.endTime <= :endDate ORDER BY r.startTime")
     List<Rent> findByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
     
+    /**
+     * 기간별 예약 키셋 페이지 조회 - 첫 페이지 (내보내기용, 시작시간, ID 순)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT r FROM Rent r WHERE r.startTime >= :startDate AND r.endTime <= :endDate " +
+           "ORDER BY r.startTime, r.id")
+    List<Rent> findPageByDateRange(@Param("startDate") LocalDateTime startDate,
+                                   @Param("endDate") LocalDateTime endDate,
+                                   Pageable pageable);
+    
+    /**
+     * 기간별 예약 키셋 페이지 조회 - 커서 이후 페이지
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT r FROM Rent r WHERE r.startTime >= :startDate AND r.endTime <= :endDate " +
+           "AND (r.startTime > :startTime OR (r.startTime = :startTime AND r.id > :id)) " +
+           "ORDER BY r.startTime, r.id")
+    List<Rent> findPageByDateRangeAfter(@Param("startDate") LocalDateTime startDate,
+                                        @Param("endDate") LocalDateTime endDate,
+                                        @Param("startTime") LocalDateTime startTime,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+    
+    /**
+     * 반복 예약의 모든 회차 조회 (시작 시간 순)
+     */
+    List<Rent> findBySeriesIdOrderByStartTime(Long seriesId);
+    
+    /**
+     * 반복 예약에서 특정 시각 이후에 시작하는 회차 조회 ("이후 모든 회차" 수정용)
+     */
+    @Query("SELECT r FROM Rent r WHERE r.series.id = :seriesId AND r.startTime >= :from ORDER BY r.startTime")
+    List<Rent> findSeriesOccurrencesFrom(@Param("seriesId") Long seriesId, @Param("from") LocalDateTime from);
+    
+    /**
+     * 반복 예약에서 특정 시각 이전에 시작하는 회차 수
+     */
+    long countBySeriesIdAndStartTimeBefore(Long seriesId, LocalDateTime startTime);
+    
     /**
      * 특정 시간 이후 예약 조회
      */
@@ -39,6 +84,15 @@ public interface RentRepository extends JpaRepository<Rent, Long> {
      */
     List<Rent> findByPurposeContainingOrderByStartTimeDesc(String purpose);
     
+    /**
+     * 여러 사용자가 생성한 예약 중 특정 기간과 겹치는 일정 조회 (일정 찾기용 프로젝션)
+     */
+    @Query("SELECT new com.conferent.repositories.userinvite.UserBusyView(r.creator.id, r.id, r.startTime, r.endTime) " +
+           "FROM Rent r WHERE r.creator.id IN :userIds AND r.startTime < :endTime AND r.endTime > :startTime")
+    List<UserBusyView> findCreatorBusyViews(@Param("userIds") Collection<Long> userIds,
+                                            @Param("startTime") LocalDateTime startTime,
+                                            @Param("endTime") LocalDateTime endTime);
+    
     /**
      * 시간 충돌 검사 (특정 시간대에 겹치는 예약이 있는지)
      */
@@ -68,4 +122,54 @@ public interface RentRepository extends JpaRepository<Rent, Long> {
      */
     @Query("SELECT r FROM Rent r WHERE r.creator.id = :userId AND r.startTime >= :now ORDER BY r.startTime DESC")
     List<Rent> findByCreatorIdAndStartTimeAfterOrderByStartTimeDesc(@Param("userId") Long userId, @Param("now") LocalDateTime now);
-} 
\ No newline at end of file
+
+    /**
+     * 전체 예약 키셋 페이지 조회 - 첫 페이지 (시작시간, ID 역순)
+     */
+    @Query("SELECT r FROM Rent r ORDER BY r.startTime DESC, r.id DESC")
+    List<Rent> findPageOrderByStartTimeDesc(Pageable pageable);
+
+    /**
+     * 전체 예약 키셋 페이지 조회 - 커서 이후 페이지
+     */
+    @Query("SELECT r FROM Rent r " +
+           "WHERE r.startTime < :startTime OR (r.startTime = :startTime AND r.id < :id) " +
+           "ORDER BY r.startTime DESC, r.id DESC")
+    List<Rent> findPageBeforeOrderByStartTimeDesc(@Param("startTime") LocalDateTime startTime,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    /**
+     * 생성자별 예약 키셋 페이지 조회 - 첫 페이지
+     */
+    @Query("SELECT r FROM Rent r WHERE r.creator.id = :creatorId ORDER BY r.startTime DESC, r.id DESC")
+    List<Rent> findPageByCreatorId(@Param("creatorId") Long creatorId, Pageable pageable);
+
+    /**
+     * 생성자별 예약 키셋 페이지 조회 - 커서 이후 페이지
+     */
+    @Query("SELECT r FROM Rent r WHERE r.creator.id = :creatorId " +
+           "AND (r.startTime < :startTime OR (r.startTime = :startTime AND r.id < :id)) " +
+           "ORDER BY r.startTime DESC, r.id DESC")
+    List<Rent> findPageByCreatorIdBefore(@Param("creatorId") Long creatorId,
+                                         @Param("startTime") LocalDateTime startTime,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    /**
+     * 회의실별 예약 키셋 페이지 조회 - 첫 페이지
+     */
+    @Query("SELECT r FROM Rent r JOIN r.roomRents rr WHERE rr.room.id = :roomId ORDER BY r.startTime DESC, r.id DESC")
+    List<Rent> findPageByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+    /**
+     * 회의실별 예약 키셋 페이지 조회 - 커서 이후 페이지
+     */
+    @Query("SELECT r FROM Rent r JOIN r.roomRents rr WHERE rr.room.id = :roomId " +
+           "AND (r.startTime < :startTime OR (r.startTime = :startTime AND r.id < :id)) " +
+           "ORDER BY r.startTime DESC, r.id DESC")
+    List<Rent> findPageByRoomIdBefore(@Param("roomId") Long roomId,
+                                      @Param("startTime") LocalDateTime startTime,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+}
@@ -0,0 +1,9 @@
+package com.conferent.repositories.rentseries;
+
+import com.conferent.entities.RentSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RentSeriesRepository extends JpaRepository<RentSeries, Long> {
+}
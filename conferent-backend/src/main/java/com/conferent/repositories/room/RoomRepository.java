@@ -1,11 +1,20 @@
 package com.conferent.repositories.room;
 
+import com.conferent.dtos.room.RoomResponse;
 import com.conferent.entities.Room;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.cfg.AvailableSettings;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
@@ -30,11 +39,90 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
      */
     boolean existsByName(String name);
     
+    /**
+     * ID 목록 중 존재하는 회의실 수
+     */
+    long countByIdIn(Collection<Long> ids);
+    
     /**
      * 모든 회의실을 이름 순으로 조회
      */
     @Query("SELECT r FROM Room r ORDER BY r.name")
     List<Room> findAllOrderByName();
 
-    // 이용 가능한 회의실 조회는 RoomRentRepository.findAvailableRooms()를 사용
-} 
\ No newline at end of file
+    /**
+     * 모든 회의실 ID 조회 (ID 순, 이용 집계 재계산용)
+     */
+    @Query("SELECT r.id FROM Room r ORDER BY r.id")
+    List<Long> findAllIds();
+
+    // 이용 가능한 회의실 조회는 RoomRentRepository.findBusyRoomIds()로 예약이 있는 회의실을 찾아 제외
+    
+    /**
+     * 예약 쓰기용 회의실 행 잠금 (SELECT ... FOR UPDATE)
+     * 여러 트랜잭션이 같은 회의실들을 잠글 때 교착 상태가 생기지 않도록 항상 ID 순으로 잠근다.
+     * 잠금을 기다리는 최대 시간은 5초이며, 초과하면 PessimisticLockingFailureException이 발생한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "5000"))
+    @Query("SELECT r FROM Room r WHERE r.id IN :ids ORDER BY r.id")
+    List<Room> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 반복 예약의 기준 회차 이후 회차들이 사용하는 회의실 행 잠금 (ID 순)
+     * 잠금 전에 일반 조회를 하지 않도록 대상 회의실을 서브쿼리로 찾는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "5000"))
+    @Query("SELECT r FROM Room r WHERE r.id IN (" +
+           "SELECT rr.room.id FROM RoomRent rr WHERE rr.rent.series.id = :seriesId AND " +
+           "rr.rent.startTime >= (SELECT p.startTime FROM Rent p WHERE p.id = :pivotRentId)) " +
+           "ORDER BY r.id")
+    List<Room> findAllForSeriesOccurrencesFromForUpdate(@Param("seriesId") Long seriesId,
+                                                        @Param("pivotRentId") Long pivotRentId);
+    
+    // ===== 조회 전용 DTO 프로젝션 (연관관계 및 영속성 컨텍스트 미사용) =====
+    
+    /**
+     * 모든 회의실을 이름 순으로 조회 (응답 DTO)
+     */
+    @Query("SELECT new com.conferent.dtos.room.RoomResponse(r.id, r.name, r.location, r.capacity, r.description, r.createdAt, r.updatedAt) " +
+           "FROM Room r ORDER BY r.name")
+    List<RoomResponse> findAllResponsesOrderByName();
+    
+    /**
+     * ID로 회의실 조회 (응답 DTO)
+     */
+    @Query("SELECT new com.conferent.dtos.room.RoomResponse(r.id, r.name, r.location, r.capacity, r.description, r.createdAt, r.updatedAt) " +
+           "FROM Room r WHERE r.id = :id")
+    Optional<RoomResponse> findResponseById(@Param("id") Long id);
+    
+    /**
+     * 회의실 이름으로 검색 (응답 DTO)
+     */
+    @Query("SELECT new com.conferent.dtos.room.RoomResponse(r.id, r.name, r.location, r.capacity, r.description, r.createdAt, r.updatedAt) " +
+           "FROM Room r WHERE r.name LIKE CONCAT('%', :name, '%') ORDER BY r.name")
+    List<RoomResponse> findResponsesByNameContaining(@Param("name") String name);
+    
+    /**
+     * 수용 인원으로 필터링 (응답 DTO)
+     */
+    @Query("SELECT new com.conferent.dtos.room.RoomResponse(r.id, r.name, r.location, r.capacity, r.description, r.createdAt, r.updatedAt) " +
+           "FROM Room r WHERE r.capacity >= :capacity ORDER BY r.capacity")
+    List<RoomResponse> findResponsesByCapacityAtLeast(@Param("capacity") Integer capacity);
+    
+    /**
+     * 수용 인원/위치 조건으로 필터링 (응답 DTO, 조건이 null이면 적용하지 않음)
+     */
+    @Query("SELECT new com.conferent.dtos.room.RoomResponse(r.id, r.name, r.location, r.capacity, r.description, r.createdAt, r.updatedAt) " +
+           "FROM Room r WHERE (:minCapacity IS NULL OR r.capacity >= :minCapacity) AND " +
+           "(:location IS NULL OR r.location = :location) ORDER BY r.name")
+    List<RoomResponse> findResponsesByFilter(@Param("minCapacity") Integer minCapacity, @Param("location") String location);
+    
+    /**
+     * 위치로 필터링 (응답 DTO)
+     */
+    @Query("SELECT new com.conferent.dtos.room.RoomResponse(r.id, r.name, r.location, r.capacity, r.description, r.createdAt, r.updatedAt) " +
+           "FROM Room r WHERE r.location = :location ORDER BY r.name")
+    List<RoomResponse> findResponsesByLocation(@Param("location") String location);
+}
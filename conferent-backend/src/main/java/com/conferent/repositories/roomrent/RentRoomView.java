@@ -0,0 +1,25 @@
+package com.conferent.repositories.roomrent;
+
+import com.conferent.dtos.room.RoomResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약-회의실 조회 전용 프로젝션
+ * 예약 ID와 회의실 응답에 필요한 컬럼만 담는다.
+ */
+public record RentRoomView(
+    Long rentId,
+    Long roomId,
+    String name,
+    String location,
+    Integer capacity,
+    String description,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+    
+    public RoomResponse toRoomResponse() {
+        return new RoomResponse(roomId, name, location, capacity, description, createdAt, updatedAt);
+    }
+}
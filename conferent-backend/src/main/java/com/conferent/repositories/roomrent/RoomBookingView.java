@@ -0,0 +1,15 @@
+package com.conferent.repositories.roomrent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회의실 점유 구간 조회 전용 프로젝션
+ * 회의실 ID와 예약 시간 구간 [startTime, endTime)만 담는다.
+ */
+public record RoomBookingView(
+    Long rentId,
+    Long roomId,
+    LocalDateTime startTime,
+    LocalDateTime endTime
+) {
+}
@@ -0,0 +1,17 @@
+package com.conferent.repositories.roomrent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회의실 현황 표시용 예약 프로젝션 (문 앞 태블릿 등)
+ * 점유 구간과 함께 화면에 보여줄 예약 목적과 예약자 이름만 담는다.
+ */
+public record RoomDisplayBookingView(
+    Long roomId,
+    Long rentId,
+    LocalDateTime startTime,
+    LocalDateTime endTime,
+    String purpose,
+    String organizerName
+) {
+}
@@ -0,0 +1,60 @@
+package com.conferent.repositories.roomrent;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 회의실-예약 연결 일괄 저장 리포지토리 (JDBC 배치)
+ *
+ * RoomRent는 IDENTITY 키를 사용하므로 Hibernate가 INSERT를 배치로 묶지 못한다.
+ * 반복 예약처럼 (회차 × 회의실) 조합이 많은 경우 JdbcTemplate 배치로 한 번에 전송한다.
+ *
+ * 저장된 연결은 영속성 컨텍스트에 올라가지 않으므로, 이후 조회는 쿼리로 수행해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RoomRentBatchRepository {
+
+    // 한 번의 배치로 전송할 최대 행 수
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO room_rents (room_id, rent_id, created_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 예약 × 회의실 조합마다 연결을 일괄 저장
+     *
+     * @return 저장된 연결 수
+     */
+    public int insertLinks(Collection<Long> rentIds, Collection<Long> roomIds, LocalDateTime createdAt) {
+        List<LinkRow> rows = new ArrayList<>(rentIds.size() * roomIds.size());
+        for (Long rentId : rentIds) {
+            for (Long roomId : roomIds) {
+                rows.add(new LinkRow(roomId, rentId));
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.roomId());
+            ps.setLong(2, row.rentId());
+            ps.setTimestamp(3, timestamp);
+        });
+        return rows.size();
+    }
+
+    private record LinkRow(Long roomId, Long rentId) {
+    }
+}
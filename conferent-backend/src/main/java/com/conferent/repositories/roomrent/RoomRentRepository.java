@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +31,14 @@ public interface RoomRentRepository extends JpaRepository<RoomRent, Long> {
      */
     List<RoomRent> findByRentId(Long rentId);
     
+    /**
+     * 여러 예약의 회의실 정보를 한 번에 조회 (목록 응답 조립용 프로젝션)
+     */
+    @Query("SELECT new com.conferent.repositories.roomrent.RentRoomView(" +
+           "rr.rent.id, r.id, r.name, r.location, r.capacity, r.description, r.createdAt, r.updatedAt) " +
+           "FROM RoomRent rr JOIN rr.room r WHERE rr.rent.id IN :rentIds ORDER BY rr.id")
+    List<RentRoomView> findRoomViewsByRentIdIn(@Param("rentIds") Collection<Long> rentIds);
+    
     /**
      * 회의실 ID로 예약들 조회
      */
@@ -70,17 +79,73 @@ public interface RoomRentRepository extends JpaRepository<RoomRent, Long> {
                                               @Param("endTime") LocalDateTime endTime);
 
     /**
-     * 특정 시간대에 예약된 회의실들 조회 (기존 메서드 유지)
+     * 여러 회의실의 특정 시간대 점유 구간을 한 번에 조회 (시간 충돌 체크용 프로젝션)
+     * excludeRentId가 null이 아니면 해당 예약(수정 중인 예약)은 제외한다.
+     */
+    @Query("SELECT new com.conferent.repositories.roomrent.RoomBookingView(" +
+           "rr.rent.id, rr.room.id, rr.rent.startTime, rr.rent.endTime) " +
+           "FROM RoomRent rr WHERE rr.room.id IN :roomIds AND " +
+           "rr.rent.startTime < :endTime AND rr.rent.endTime > :startTime AND " +
+           "(:excludeRentId IS NULL OR rr.rent.id <> :excludeRentId) " +
+           "ORDER BY rr.room.id, rr.rent.startTime")
+    List<RoomBookingView> findConflictingBookingViews(@Param("roomIds") Collection<Long> roomIds,
+                                                      @Param("startTime") LocalDateTime startTime,
+                                                      @Param("endTime") LocalDateTime endTime,
+                                                      @Param("excludeRentId") Long excludeRentId);
+
+    /**
+     * 모든 회의실의 특정 기간 점유 구간을 한 번에 조회 (빈 시간/점유 현황용 프로젝션)
+     */
+    @Query("SELECT new com.conferent.repositories.roomrent.RoomBookingView(" +
+           "rr.rent.id, rr.room.id, rr.rent.startTime, rr.rent.endTime) " +
+           "FROM RoomRent rr WHERE rr.rent.startTime < :endTime AND rr.rent.endTime > :startTime " +
+           "ORDER BY rr.room.id, rr.rent.startTime")
+    List<RoomBookingView> findBookingViewsBetween(@Param("startTime") LocalDateTime startTime,
+                                                  @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * 모든 회의실의 특정 기간 예약을 표시 정보와 함께 조회 (회의실 현황판용 프로젝션)
+     */
+    @Query("SELECT new com.conferent.repositories.roomrent.RoomDisplayBookingView(" +
+           "rr.room.id, rent.id, rent.startTime, rent.endTime, rent.purpose, creator.name) " +
+           "FROM RoomRent rr JOIN rr.rent rent JOIN rent.creator creator " +
+           "WHERE rent.startTime < :endTime AND rent.endTime > :startTime " +
+           "ORDER BY rr.room.id, rent.startTime, rent.id")
+    List<RoomDisplayBookingView> findDisplayBookingViewsBetween(@Param("startTime") LocalDateTime startTime,
+                                                                @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * 여러 예약의 회의실 점유 구간 조회 (회차 일괄 수정용 프로젝션)
+     */
+    @Query("SELECT new com.conferent.repositories.roomrent.RoomBookingView(" +
+           "rr.rent.id, rr.room.id, rr.rent.startTime, rr.rent.endTime) " +
+           "FROM RoomRent rr WHERE rr.rent.id IN :rentIds")
+    List<RoomBookingView> findBookingViewsByRentIdIn(@Param("rentIds") Collection<Long> rentIds);
+    
+    /**
+     * 특정 시각 이후에 끝나는 모든 회의실 점유 구간 조회 (메모리 인덱스 적재용 프로젝션)
+     */
+    @Query("SELECT new com.conferent.repositories.roomrent.RoomBookingView(" +
+           "rr.rent.id, rr.room.id, rr.rent.startTime, rr.rent.endTime) " +
+           "FROM RoomRent rr WHERE rr.rent.endTime > :from")
+    List<RoomBookingView> findBookingViewsEndingAfter(@Param("from") LocalDateTime from);
+
+    /**
+     * 특정 시간대에 예약이 없는 회의실의 예약 연결 조회 (기존 메서드 유지)
+     * 맞닿은 예약(앞 예약 종료 = 조회 시작)은 겹치지 않는 것으로 본다.
      */
-    @Query("SELECT rr FROM RoomRent rr WHERE rr.room.id NOT IN (SELECT rr2.room.id FROM RoomRent rr2 WHERE rr2.rent.startTime <= :endTime AND rr2.rent.endTime >= :startTime)")
+    @Query("SELECT rr FROM RoomRent rr WHERE NOT EXISTS (" +
+           "SELECT 1 FROM RoomRent busy JOIN busy.rent rent WHERE busy.room = rr.room AND " +
+           "rent.startTime < :endTime AND rent.endTime > :startTime)")
     List<RoomRent> findByAvailableRoom(@Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
 
     /**
-     * 특정 시간대에 이용 가능한 회의실들 조회 (Room 엔티티 직접 반환)
+     * 특정 시간대에 예약이 있는 회의실 ID 조회 (빈 회의실 조회용)
+     * 회의실마다 예약을 훑는 안티 조인 대신 rents(end_time, start_time) 인덱스로 시간 조건에 맞는 예약을 먼저 좁히고
+     * room_rents(rent_id, room_id) 인덱스로 회의실 ID만 읽는다. 빈 회의실은 호출하는 쪽에서 전체 회의실에서 제외해 구한다.
      */
-    @Query("SELECT DISTINCT r FROM Room r WHERE r.id NOT IN " +
-           "(SELECT rr.room.id FROM RoomRent rr " +
-           "WHERE rr.rent.startTime < :endTime AND rr.rent.endTime > :startTime)")
-    List<Room> findAvailableRooms(@Param("startTime") LocalDateTime startTime, 
-                                  @Param("endTime") LocalDateTime endTime);
-} 
\ No newline at end of file
+    @Query("SELECT DISTINCT rr.room.id FROM RoomRent rr JOIN rr.rent rent " +
+           "WHERE rent.startTime < :endTime AND rent.endTime > :startTime")
+    List<Long> findBusyRoomIds(@Param("startTime") LocalDateTime startTime,
+                               @Param("endTime") LocalDateTime endTime);
+}
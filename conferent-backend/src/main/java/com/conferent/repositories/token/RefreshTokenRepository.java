@@ -0,0 +1,48 @@
+package com.conferent.repositories.token;
+
+import com.conferent.entities.RefreshToken;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    
+    /**
+     * 리프레시 토큰 행 잠금 조회 (같은 토큰으로 동시에 교체하지 못하도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "5000"))
+    @Query("SELECT t FROM RefreshToken t WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashForUpdate(@Param("tokenHash") String tokenHash);
+    
+    /**
+     * 리프레시 토큰의 세션 ID 조회 (로그아웃용)
+     */
+    @Query("SELECT t.familyId FROM RefreshToken t WHERE t.tokenHash = :tokenHash")
+    Optional<String> findFamilyIdByTokenHash(@Param("tokenHash") String tokenHash);
+    
+    /**
+     * 세션의 모든 리프레시 토큰 폐기
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+    
+    /**
+     * 만료된 리프레시 토큰 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,29 @@
+package com.conferent.repositories.token;
+
+import com.conferent.entities.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+    
+    /**
+     * 특정 ID 이후에 추가된, 아직 만료되지 않은 폐기 토큰 조회 (ID 순, 인스턴스 간 동기화용)
+     */
+    @Query("SELECT new com.conferent.repositories.token.RevokedTokenView(t.id, t.jti, t.expiresAt) " +
+           "FROM RevokedToken t WHERE t.id > :afterId AND t.expiresAt > :now ORDER BY t.id")
+    List<RevokedTokenView> findActiveViewsAfter(@Param("afterId") Long afterId, @Param("now") LocalDateTime now);
+    
+    /**
+     * 만료된 폐기 토큰 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,13 @@
+package com.conferent.repositories.token;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기 토큰 동기화 전용 프로젝션
+ */
+public record RevokedTokenView(
+    Long id,
+    String jti,
+    LocalDateTime expiresAt
+) {
+}
@@ -0,0 +1,17 @@
+package com.conferent.repositories.user;
+
+import com.conferent.enums.Role;
+
+/**
+ * 로그인 검증 전용 프로젝션
+ * 비밀번호 해시와 토큰 발급에 필요한 사용자 정보만 한 번에 담는다.
+ */
+public record LoginCredentialView(
+    Long id,
+    String name,
+    String email,
+    Role role,
+    String password,
+    Integer tokenVersion
+) {
+}
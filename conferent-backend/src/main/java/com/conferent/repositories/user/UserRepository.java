@@ -1,11 +1,14 @@
 package com.conferent.repositories.user;
 
+import com.conferent.dtos.user.UserResponse;
 import com.conferent.entities.User;
 import com.conferent.enums.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +20,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByEmail(String email);
     
+    /**
+     * ID 목록 중 존재하는 사용자 수
+     */
+    long countByIdIn(Collection<Long> ids);
+    
     /**
      * 이름으로 사용자 검색
      */
@@ -32,9 +40,61 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByEmail(String email);
     
+    /**
+     * 이메일로 로그인 검증 정보 조회 (비밀번호 해시 + 토큰 발급 정보, 로그인당 한 번만 조회)
+     */
+    @Query("SELECT new com.conferent.repositories.user.LoginCredentialView(" +
+           "u.id, u.name, u.email, u.role, u.password, u.tokenVersion) " +
+           "FROM User u WHERE u.email = :email")
+    Optional<LoginCredentialView> findLoginCredentialByEmail(@Param("email") String email);
+    
     /**
      * 모든 사용자를 이름 순으로 조회
      */
     @Query("SELECT u FROM User u ORDER BY u.name")
     List<User> findAllOrderByName();
-} 
\ No newline at end of file
+    
+    // ===== 조회 전용 DTO 프로젝션 (비밀번호 컬럼 및 연관관계 미로딩) =====
+    
+    /**
+     * 모든 사용자를 이름 순으로 조회 (응답 DTO)
+     */
+    @Query("SELECT new com.conferent.dtos.user.UserResponse(u.id, u.name, u.email, u.role, u.createdAt, u.updatedAt) " +
+           "FROM User u ORDER BY u.name")
+    List<UserResponse> findAllResponsesOrderByName();
+    
+    /**
+     * ID로 사용자 조회 (응답 DTO)
+     */
+    @Query("SELECT new com.conferent.dtos.user.UserResponse(u.id, u.name, u.email, u.role, u.createdAt, u.updatedAt) " +
+           "FROM User u WHERE u.id = :id")
+    Optional<UserResponse> findResponseById(@Param("id") Long id);
+    
+    /**
+     * 여러 ID로 사용자 조회 (응답 DTO)
+     */
+    @Query("SELECT new com.conferent.dtos.user.UserResponse(u.id, u.name, u.email, u.role, u.createdAt, u.updatedAt) " +
+           "FROM User u WHERE u.id IN :ids")
+    List<UserResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 이메일로 사용자 조회 (응답 DTO)
+     */
+    @Query("SELECT new com.conferent.dtos.user.UserResponse(u.id, u.name, u.email, u.role, u.createdAt, u.updatedAt) " +
+           "FROM User u WHERE u.email = :email")
+    Optional<UserResponse> findResponseByEmail(@Param("email") String email);
+    
+    /**
+     * 이름으로 사용자 검색 (응답 DTO)
+     */
+    @Query("SELECT new com.conferent.dtos.user.UserResponse(u.id, u.name, u.email, u.role, u.createdAt, u.updatedAt) " +
+           "FROM User u WHERE u.name LIKE CONCAT('%', :name, '%') ORDER BY u.name")
+    List<UserResponse> findResponsesByNameContaining(@Param("name") String name);
+    
+    /**
+     * 역할로 사용자 필터링 (응답 DTO)
+     */
+    @Query("SELECT new com.conferent.dtos.user.UserResponse(u.id, u.name, u.email, u.role, u.createdAt, u.updatedAt) " +
+           "FROM User u WHERE u.role = :role ORDER BY u.name")
+    List<UserResponse> findResponsesByRole(@Param("role") Role role);
+}
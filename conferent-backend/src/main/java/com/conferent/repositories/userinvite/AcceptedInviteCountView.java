@@ -0,0 +1,11 @@
+package com.conferent.repositories.userinvite;
+
+/**
+ * 예약·회의실별 수락한 초대 수 프로젝션 (이용 집계용)
+ */
+public record AcceptedInviteCountView(
+    Long rentId,
+    Long roomId,
+    Long acceptedCount
+) {
+}
@@ -0,0 +1,32 @@
+package com.conferent.repositories.userinvite;
+
+import com.conferent.dtos.rent.InviteeResponse;
+import com.conferent.dtos.user.UserResponse;
+import com.conferent.enums.InviteStatus;
+import com.conferent.enums.Role;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약-초대 조회 전용 프로젝션
+ * 예약 ID와 초대 응답에 필요한 컬럼만 담는다. (사용자 비밀번호 제외)
+ */
+public record RentInviteeView(
+    Long rentId,
+    Long inviteId,
+    Long userId,
+    String userName,
+    String userEmail,
+    Role userRole,
+    LocalDateTime userCreatedAt,
+    LocalDateTime userUpdatedAt,
+    InviteStatus status,
+    LocalDateTime invitedAt,
+    LocalDateTime respondedAt
+) {
+    
+    public InviteeResponse toInviteeResponse() {
+        UserResponse user = new UserResponse(userId, userName, userEmail, userRole, userCreatedAt, userUpdatedAt);
+        return new InviteeResponse(inviteId, user, status, invitedAt, respondedAt);
+    }
+}
@@ -0,0 +1,15 @@
+package com.conferent.repositories.userinvite;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 일정 점유 조회 전용 프로젝션
+ * 사용자가 생성했거나 초대(대기/수락)된 예약의 시간만 담는다.
+ */
+public record UserBusyView(
+    Long userId,
+    Long rentId,
+    LocalDateTime startTime,
+    LocalDateTime endTime
+) {
+}
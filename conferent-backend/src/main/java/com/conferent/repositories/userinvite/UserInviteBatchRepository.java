@@ -0,0 +1,101 @@
+package com.conferent.repositories.userinvite;
+
+import com.conferent.enums.InviteStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 초대 일괄 저장 리포지토리 (JDBC 배치)
+ *
+ * UserInvite는 IDENTITY 키를 사용하므로 Hibernate가 INSERT를 배치로 묶지 못한다.
+ * 예약 생성 시 (초대 대상 × 회의실) 조합만큼 초대가 만들어지므로,
+ * 생성된 ID가 필요 없는 초대 INSERT는 JdbcTemplate 배치로 한 번에 전송한다.
+ *
+ * 저장된 초대는 영속성 컨텍스트에 올라가지 않으므로, 이후 조회는 쿼리로 수행해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserInviteBatchRepository {
+
+    // 한 번의 배치로 전송할 최대 행 수
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO user_invites (user_id, room_rent_id, status, invited_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_FOR_SERIES_SQL =
+            "INSERT INTO user_invites (user_id, room_rent_id, status, invited_at, created_at, updated_at) " +
+            "SELECT ?, rr.id, ?, ?, ?, ? FROM room_rents rr JOIN rents r ON rr.rent_id = r.id " +
+            "WHERE r.series_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자 × 회의실-예약 연결 조합마다 대기(PENDING) 초대를 일괄 저장
+     *
+     * @return 저장된 초대 수
+     */
+    public int insertPendingInvites(Collection<Long> userIds, Collection<Long> roomRentIds, LocalDateTime invitedAt) {
+        List<InviteRow> rows = new ArrayList<>(userIds.size() * roomRentIds.size());
+        for (Long userId : userIds) {
+            for (Long roomRentId : roomRentIds) {
+                rows.add(new InviteRow(userId, roomRentId));
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(invitedAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.userId());
+            ps.setLong(2, row.roomRentId());
+            ps.setString(3, InviteStatus.PENDING.name());
+            ps.setTimestamp(4, timestamp);
+            ps.setTimestamp(5, timestamp);
+            ps.setTimestamp(6, timestamp);
+        });
+        return rows.size();
+    }
+
+    /**
+     * 반복 예약의 모든 회의실-예약 연결에 사용자마다 대기(PENDING) 초대를 일괄 저장
+     * 연결 ID를 애플리케이션으로 읽어오지 않도록 INSERT ... SELECT로 사용자당 한 행씩 배치 전송한다.
+     *
+     * @return 저장된 초대 수
+     */
+    public int insertPendingInvitesForSeries(Long seriesId, Collection<Long> userIds, LocalDateTime invitedAt) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(invitedAt);
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_FOR_SERIES_SQL, new ArrayList<>(userIds), BATCH_SIZE, (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setString(2, InviteStatus.PENDING.name());
+            ps.setTimestamp(3, timestamp);
+            ps.setTimestamp(4, timestamp);
+            ps.setTimestamp(5, timestamp);
+            ps.setLong(6, seriesId);
+        });
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // 드라이버가 행 수를 알려주지 않는 경우(SUCCESS_NO_INFO)는 음수
+                inserted += Math.max(count, 0);
+            }
+        }
+        return inserted;
+    }
+
+    private record InviteRow(Long userId, Long roomRentId) {
+    }
+}
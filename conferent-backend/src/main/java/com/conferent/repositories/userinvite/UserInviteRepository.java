@@ -5,10 +5,13 @@ import com.conferent.entities.User;
 import com.conferent.entities.Rent;
 import com.conferent.enums.InviteStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,6 +53,19 @@ public interface UserInviteRepository extends JpaRepository<UserInvite, Long> {
      */
     void deleteByRoomRentId(Long roomRentId);
     
+    /**
+     * 여러 RoomRent의 초대를 한 번의 DELETE로 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM UserInvite ui WHERE ui.roomRent.id IN :roomRentIds")
+    int deleteByRoomRentIdIn(@Param("roomRentIds") Collection<Long> roomRentIds);
+    
+    /**
+     * 특정 예약에 초대된 사용자 ID 목록 조회 (중복 제거)
+     */
+    @Query("SELECT DISTINCT ui.user.id FROM UserInvite ui WHERE ui.roomRent.rent.id = :rentId")
+    List<Long> findInviteeIdsByRentId(@Param("rentId") Long rentId);
+    
     /**
      * 특정 사용자의 모든 초대 삭제
      */
@@ -72,4 +88,40 @@ public interface UserInviteRepository extends JpaRepository<UserInvite, Long> {
      */
     @Query("SELECT ui FROM UserInvite ui WHERE ui.roomRent.rent.id = :rentId")
     List<UserInvite> findInvitesForRent(@Param("rentId") Long rentId);
-} 
\ No newline at end of file
+    
+    /**
+     * 여러 예약의 초대 목록을 한 번에 조회 (목록 응답 조립용 프로젝션)
+     */
+    @Query("SELECT new com.conferent.repositories.userinvite.RentInviteeView(" +
+           "rr.rent.id, ui.id, u.id, u.name, u.email, u.role, u.createdAt, u.updatedAt, " +
+           "ui.status, ui.invitedAt, ui.respondedAt) " +
+           "FROM UserInvite ui JOIN ui.user u JOIN ui.roomRent rr " +
+           "WHERE rr.rent.id IN :rentIds ORDER BY ui.id")
+    List<RentInviteeView> findInviteeViewsByRentIdIn(@Param("rentIds") Collection<Long> rentIds);
+    
+    /**
+     * 여러 사용자가 초대된 예약 중 특정 기간과 겹치는 일정 조회 (지정한 초대 상태만, 일정 찾기용 프로젝션)
+     * 한 예약의 여러 회의실에 초대된 경우도 예약당 한 번만 반환한다.
+     */
+    @Query("SELECT DISTINCT new com.conferent.repositories.userinvite.UserBusyView(" +
+           "ui.user.id, r.id, r.startTime, r.endTime) " +
+           "FROM UserInvite ui JOIN ui.roomRent rr JOIN rr.rent r " +
+           "WHERE ui.user.id IN :userIds AND ui.status IN :statuses AND " +
+           "r.startTime < :endTime AND r.endTime > :startTime")
+    List<UserBusyView> findBusyViewsByUserIdIn(@Param("userIds") Collection<Long> userIds,
+                                               @Param("statuses") Collection<InviteStatus> statuses,
+                                               @Param("startTime") LocalDateTime startTime,
+                                               @Param("endTime") LocalDateTime endTime);
+    
+    /**
+     * 여러 회의실에서 특정 기간과 겹치는 예약의 수락한 초대 수 (예약·회의실별, 이용 집계용 프로젝션)
+     */
+    @Query("SELECT new com.conferent.repositories.userinvite.AcceptedInviteCountView(rr.rent.id, rr.room.id, COUNT(ui)) " +
+           "FROM UserInvite ui JOIN ui.roomRent rr " +
+           "WHERE rr.room.id IN :roomIds AND ui.status = 'ACCEPTED' AND " +
+           "rr.rent.startTime < :endTime AND rr.rent.endTime > :startTime " +
+           "GROUP BY rr.rent.id, rr.room.id")
+    List<AcceptedInviteCountView> countAcceptedByRoomIdIn(@Param("roomIds") Collection<Long> roomIds,
+                                                          @Param("startTime") LocalDateTime startTime,
+                                                          @Param("endTime") LocalDateTime endTime);
+}
@@ -0,0 +1,26 @@
+package com.conferent.services.analytics;
+
+import com.conferent.dtos.analytics.RoomUtilizationReportResponse;
+import com.conferent.dtos.analytics.UtilizationHeatmapResponse;
+import com.conferent.dtos.analytics.UtilizationRebuildResponse;
+
+import java.time.LocalDate;
+
+public interface UtilizationAnalyticsService {
+    
+    /**
+     * [fromDate, toDate] 기간의 회의실별 이용 보고서 (집계 테이블만 합산)
+     * startHour~endHour 시간대만 합산하며 점유율의 분모도 그 시간대로 계산한다.
+     */
+    RoomUtilizationReportResponse getRoomReport(LocalDate fromDate, LocalDate toDate, int startHour, int endHour);
+    
+    /**
+     * [fromDate, toDate] 기간의 회의실 × 시간대(0~23시) 히트맵 (roomId가 null이면 전체 회의실)
+     */
+    UtilizationHeatmapResponse getHourlyHeatmap(LocalDate fromDate, LocalDate toDate, Long roomId);
+    
+    /**
+     * [fromDate, toDate] 기간의 모든 회의실 집계를 예약/초대 데이터로 다시 계산 (초기 적재, 보정용)
+     */
+    UtilizationRebuildResponse rebuild(LocalDate fromDate, LocalDate toDate);
+}
@@ -0,0 +1,147 @@
+package com.conferent.services.analytics.impl;
+
+import com.conferent.dtos.analytics.RoomHeatmapResponse;
+import com.conferent.dtos.analytics.RoomUtilizationReportResponse;
+import com.conferent.dtos.analytics.RoomUtilizationResponse;
+import com.conferent.dtos.analytics.UtilizationHeatmapResponse;
+import com.conferent.dtos.analytics.UtilizationRebuildResponse;
+import com.conferent.dtos.room.RoomResponse;
+import com.conferent.exceptions.NotFoundException;
+import com.conferent.repositories.analytics.RoomHourUtilizationView;
+import com.conferent.repositories.analytics.RoomUtilizationRepository;
+import com.conferent.repositories.analytics.RoomUtilizationTotalView;
+import com.conferent.repositories.room.RoomRepository;
+import com.conferent.services.analytics.UtilizationAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회의실 이용 분석
+ *
+ * 조회는 room_utilization_hourly 집계만 합산하므로 rents를 읽지 않고,
+ * 기간이 길어도 (회의실 수 × 일수 × 24) 행 범위의 인덱스 스캔으로 끝난다.
+ * 삭제된 회의실의 집계는 남아 있지만 보고서에는 현재 회의실만 포함한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UtilizationAnalyticsServiceImpl implements UtilizationAnalyticsService {
+    
+    private static final int HOURS_PER_DAY = 24;
+    private static final int MINUTES_PER_HOUR = 60;
+    
+    // 한 번에 조회/재계산할 수 있는 최대 기간 (일)
+    private static final long MAX_RANGE_DAYS = 366;
+    
+    private final RoomRepository roomRepository;
+    private final RoomUtilizationRepository roomUtilizationRepository;
+    private final UtilizationRollupUpdater utilizationRollupUpdater;
+    
+    @Override
+    public RoomUtilizationReportResponse getRoomReport(LocalDate fromDate, LocalDate toDate, int startHour, int endHour) {
+        long days = validateRange(fromDate, toDate);
+        if (startHour < 0 || endHour > HOURS_PER_DAY || startHour >= endHour) {
+            throw new IllegalArgumentException("집계 시간대는 0 <= 시작 시각 < 종료 시각 <= 24 이어야 합니다.");
+        }
+        
+        Map<Long, RoomUtilizationTotalView> totals = new HashMap<>();
+        for (RoomUtilizationTotalView total : roomUtilizationRepository.sumByRoom(fromDate, toDate, startHour, endHour)) {
+            totals.put(total.roomId(), total);
+        }
+        
+        long availableMinutes = days * (endHour - startHour) * MINUTES_PER_HOUR;
+        List<RoomUtilizationResponse> rooms = new ArrayList<>();
+        for (RoomResponse room : roomRepository.findAllResponsesOrderByName()) {
+            RoomUtilizationTotalView total = totals.get(room.getId());
+            long bookedMinutes = total != null ? total.bookedMinutes() : 0;
+            long bookingCount = total != null ? total.bookingCount() : 0;
+            long acceptedAttendeeCount = total != null ? total.acceptedAttendeeCount() : 0;
+            rooms.add(new RoomUtilizationResponse(
+                    room.getId(),
+                    room.getName(),
+                    room.getLocation(),
+                    room.getCapacity(),
+                    bookedMinutes,
+                    bookingCount,
+                    acceptedAttendeeCount,
+                    (double) bookedMinutes / availableMinutes,
+                    bookingCount > 0 ? (double) acceptedAttendeeCount / bookingCount : 0));
+        }
+        return new RoomUtilizationReportResponse(fromDate, toDate, startHour, endHour, availableMinutes, rooms);
+    }
+    
+    @Override
+    public UtilizationHeatmapResponse getHourlyHeatmap(LocalDate fromDate, LocalDate toDate, Long roomId) {
+        long days = validateRange(fromDate, toDate);
+        
+        List<RoomResponse> rooms;
+        if (roomId != null) {
+            rooms = List.of(roomRepository.findResponseById(roomId)
+                    .orElseThrow(() -> new NotFoundException("회의실을 찾을 수 없습니다. ID: " + roomId)));
+        } else {
+            rooms = roomRepository.findAllResponsesOrderByName();
+        }
+        
+        // 회의실 ID -> [0~23시 예약 분, 0~23시 예약 수]
+        Map<Long, long[][]> hourTotals = new HashMap<>();
+        for (RoomHourUtilizationView view : roomUtilizationRepository.sumByRoomAndHour(fromDate, toDate, roomId)) {
+            long[][] totals = hourTotals.computeIfAbsent(view.roomId(), id -> new long[2][HOURS_PER_DAY]);
+            totals[0][view.hourOfDay()] = view.bookedMinutes();
+            totals[1][view.hourOfDay()] = view.bookingCount();
+        }
+        
+        long minutesPerHourSlot = days * MINUTES_PER_HOUR;
+        List<RoomHeatmapResponse> heatmap = new ArrayList<>(rooms.size());
+        for (RoomResponse room : rooms) {
+            long[][] totals = hourTotals.getOrDefault(room.getId(), new long[2][HOURS_PER_DAY]);
+            List<Double> occupancyRates = Arrays.stream(totals[0])
+                    .mapToObj(minutes -> (double) minutes / minutesPerHourSlot)
+                    .toList();
+            heatmap.add(new RoomHeatmapResponse(
+                    room.getId(),
+                    room.getName(),
+                    Arrays.stream(totals[0]).boxed().toList(),
+                    Arrays.stream(totals[1]).boxed().toList(),
+                    occupancyRates));
+        }
+        return new UtilizationHeatmapResponse(fromDate, toDate, heatmap);
+    }
+    
+    @Override
+    // 회의실 묶음마다 별도 트랜잭션으로 교체하므로 바깥 트랜잭션을 열지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UtilizationRebuildResponse rebuild(LocalDate fromDate, LocalDate toDate) {
+        validateRange(fromDate, toDate);
+        long startedAt = System.currentTimeMillis();
+        int rows = utilizationRollupUpdater.recomputeAllRooms(fromDate, toDate);
+        log.info("이용 집계 재계산 완료 - 기간: {} ~ {}, 저장 행 수: {}, 소요: {}ms",
+                fromDate, toDate, rows, System.currentTimeMillis() - startedAt);
+        return new UtilizationRebuildResponse(fromDate, toDate, rows);
+    }
+    
+    /**
+     * 조회 기간 검증 후 일수 반환 (양 끝 포함)
+     */
+    private long validateRange(LocalDate fromDate, LocalDate toDate) {
+        if (toDate.isBefore(fromDate)) {
+            throw new IllegalArgumentException("종료 날짜는 시작 날짜 이후여야 합니다.");
+        }
+        long days = ChronoUnit.DAYS.between(fromDate, toDate) + 1;
+        if (days > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+        return days;
+    }
+}
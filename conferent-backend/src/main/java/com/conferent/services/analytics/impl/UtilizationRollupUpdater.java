@@ -0,0 +1,363 @@
+package com.conferent.services.analytics.impl;
+
+import com.conferent.events.InviteChangedEvent;
+import com.conferent.events.RentChangedEvent;
+import com.conferent.events.RentSnapshot;
+import com.conferent.repositories.analytics.RoomUtilizationBatchRepository;
+import com.conferent.repositories.analytics.RoomUtilizationBatchRepository.HourlyRow;
+import com.conferent.repositories.room.RoomRepository;
+import com.conferent.repositories.roomrent.RoomBookingView;
+import com.conferent.repositories.roomrent.RoomRentRepository;
+import com.conferent.repositories.userinvite.AcceptedInviteCountView;
+import com.conferent.repositories.userinvite.UserInviteRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 회의실 이용 집계(room_utilization_hourly) 갱신
+ *
+ * 예약/초대 변경 커밋 후 변경 전/후에 걸친 (회의실, 날짜)만 다시 계산해 교체한다.
+ * 증감 대신 셀 단위 재계산을 쓰므로 같은 이벤트가 중복되거나 순서가 바뀌어도 결과가 같고,
+ * 한 번의 재계산은 회의실 IN 목록 × 날짜 범위 쿼리 두 번(점유 구간, 수락한 초대 수)으로 끝난다.
+ *
+ * - 커밋한 스레드는 바뀐 (회의실, 날짜) 셀을 대기 목록에 넣기만 하고, 전용 스레드 하나가 flush-delay 동안
+ *   모인 셀을 회의실별 연속 날짜 구간으로 합쳐 재계산한다. 반복 예약처럼 한 번에 수백 건의 이벤트가 나와도
+ *   요청 스레드는 기다리지 않고, 재계산은 구간 수만큼만 실행된다.
+ * - 재계산은 새 트랜잭션에서 수행하여 커밋된 데이터만 읽는다.
+ * - 재계산 실패는 원래 쓰기에 영향을 주지 않도록 로그만 남기고, 야간 보정 작업이 일정 기간 전체를 다시 맞춘다.
+ * - 같은 인스턴스 안의 재계산(대기 셀 처리, 야간 보정, 관리자 재계산)은 직렬화하여 같은 셀의 삭제/저장이 섞이지 않도록 한다.
+ */
+@Slf4j
+@Component
+class UtilizationRollupUpdater {
+
+    // 야간 보정 시 한 번에 재계산할 회의실 수
+    private static final int RECONCILE_ROOM_CHUNK = 100;
+
+    // 대기 셀을 합칠 때 이 일수 이하의 빈 날짜는 이어서 한 구간으로 재계산 (주간 반복 예약을 한 구간으로)
+    private static final int MAX_MERGED_GAP_DAYS = 7;
+
+    // 한 번의 재계산 트랜잭션이 다루는 최대 일수
+    private static final int MAX_RANGE_DAYS = 31;
+
+    private final RoomRepository roomRepository;
+    private final RoomRentRepository roomRentRepository;
+    private final UserInviteRepository userInviteRepository;
+    private final RoomUtilizationBatchRepository roomUtilizationBatchRepository;
+    private final TransactionTemplate recomputeTransaction;
+    private final int reconcileDaysBack;
+    private final int reconcileDaysAhead;
+    private final Duration flushDelay;
+
+    private final Object recomputeLock = new Object();
+
+    // 재계산 대기 중인 (회의실, 날짜) 셀
+    private final Set<DirtyCell> pendingCells = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService recomputeExecutor;
+
+    UtilizationRollupUpdater(RoomRepository roomRepository,
+                             RoomRentRepository roomRentRepository,
+                             UserInviteRepository userInviteRepository,
+                             RoomUtilizationBatchRepository roomUtilizationBatchRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${conferent.analytics.rollup.reconcile-days-back:7}") int reconcileDaysBack,
+                             @Value("${conferent.analytics.rollup.reconcile-days-ahead:90}") int reconcileDaysAhead,
+                             @Value("${conferent.analytics.rollup.flush-delay:500ms}") Duration flushDelay) {
+        this.roomRepository = roomRepository;
+        this.roomRentRepository = roomRentRepository;
+        this.userInviteRepository = userInviteRepository;
+        this.roomUtilizationBatchRepository = roomUtilizationBatchRepository;
+        this.recomputeTransaction = new TransactionTemplate(transactionManager);
+        this.recomputeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reconcileDaysBack = reconcileDaysBack;
+        this.reconcileDaysAhead = reconcileDaysAhead;
+        this.flushDelay = flushDelay;
+        this.recomputeExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "utilization-rollup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 예약 생성/수정/삭제 커밋 후 변경 전/후 회의실·날짜를 재계산 대기 목록에 추가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRentChanged(RentChangedEvent event) {
+        markSnapshot(event.before());
+        markSnapshot(event.after());
+        scheduleFlush();
+    }
+
+    /**
+     * 초대 상태 변경/삭제 커밋 후 해당 회의실·예약 날짜를 재계산 대기 목록에 추가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onInviteChanged(InviteChangedEvent event) {
+        mark(Set.of(event.roomId()), event.startTime(), event.endTime());
+        scheduleFlush();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 남은 대기 셀은 야간 보정에서 반영
+        recomputeExecutor.shutdown();
+        if (!recomputeExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+            recomputeExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 야간 보정: 최근/향후 일정 기간의 모든 회의실 집계를 다시 계산
+     * (다른 인스턴스의 쓰기나 실패한 이벤트 처리로 어긋난 셀을 맞춘다)
+     */
+    @Scheduled(cron = "${conferent.analytics.rollup.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        LocalDate fromDate = today.minusDays(reconcileDaysBack);
+        LocalDate toDate = today.plusDays(reconcileDaysAhead);
+        long startedAt = System.currentTimeMillis();
+        try {
+            int rows = recomputeAllRooms(fromDate, toDate);
+            log.info("이용 집계 야간 보정 완료 - 기간: {} ~ {}, 저장 행 수: {}, 소요: {}ms",
+                    fromDate, toDate, rows, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("이용 집계 야간 보정 실패 - 기간: {} ~ {}", fromDate, toDate, e);
+        }
+    }
+
+    /**
+     * 모든 회의실의 [fromDate, toDate] 집계를 회의실 묶음 단위로 다시 계산
+     *
+     * @return 저장된 행 수
+     */
+    int recomputeAllRooms(LocalDate fromDate, LocalDate toDate) {
+        List<Long> roomIds = roomRepository.findAllIds();
+        int rows = 0;
+        for (int from = 0; from < roomIds.size(); from += RECONCILE_ROOM_CHUNK) {
+            List<Long> chunk = roomIds.subList(from, Math.min(from + RECONCILE_ROOM_CHUNK, roomIds.size()));
+            rows += recompute(chunk, fromDate, toDate);
+        }
+        return rows;
+    }
+
+    private void markSnapshot(RentSnapshot snapshot) {
+        if (snapshot != null && !snapshot.roomIds().isEmpty()) {
+            mark(snapshot.roomIds(), snapshot.startTime(), snapshot.endTime());
+        }
+    }
+
+    /**
+     * 시간 구간이 걸친 날짜 전체를 대기 목록에 추가 (종료 시각이 자정이면 그날은 제외)
+     */
+    private void mark(Collection<Long> roomIds, LocalDateTime startTime, LocalDateTime endTime) {
+        LocalDate fromDate = startTime.toLocalDate();
+        LocalDate toDate = endTime.minusNanos(1).toLocalDate();
+        for (LocalDate date = fromDate; !date.isAfter(toDate) || date.equals(fromDate); date = date.plusDays(1)) {
+            for (Long roomId : roomIds) {
+                pendingCells.add(new DirtyCell(roomId, date));
+            }
+        }
+    }
+
+    /**
+     * 대기 셀 처리 작업이 예약되어 있지 않으면 flush-delay 뒤로 예약
+     */
+    private void scheduleFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            recomputeExecutor.schedule(this::flushPending, flushDelay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - 남은 셀은 야간 보정에서 반영
+            log.debug("이용 집계 재계산 예약 거부 (종료 중)");
+        }
+    }
+
+    /**
+     * 대기 셀을 회의실별 날짜 구간으로 합치고, 같은 구간을 가진 회의실끼리 묶어 재계산
+     */
+    private void flushPending() {
+        // 처리 중 들어온 셀이 다음 작업을 예약할 수 있도록 먼저 해제
+        flushScheduled.set(false);
+
+        Map<Long, TreeSet<LocalDate>> datesByRoomId = new TreeMap<>();
+        int cellCount = 0;
+        for (Iterator<DirtyCell> iterator = pendingCells.iterator(); iterator.hasNext(); ) {
+            DirtyCell cell = iterator.next();
+            iterator.remove();
+            datesByRoomId.computeIfAbsent(cell.roomId(), id -> new TreeSet<>()).add(cell.date());
+            cellCount++;
+        }
+        if (cellCount == 0) {
+            return;
+        }
+
+        Map<DateRange, Set<Long>> roomIdsByRange = new LinkedHashMap<>();
+        datesByRoomId.forEach((roomId, dates) -> {
+            for (DateRange range : mergeRanges(dates)) {
+                roomIdsByRange.computeIfAbsent(range, key -> new TreeSet<>()).add(roomId);
+            }
+        });
+
+        long startedAt = System.currentTimeMillis();
+        roomIdsByRange.forEach((range, roomIds) -> {
+            try {
+                recompute(roomIds, range.fromDate(), range.toDate());
+            } catch (RuntimeException e) {
+                log.warn("이용 집계 갱신 실패 (야간 보정에서 반영) - 회의실 ID: {}, 기간: {} ~ {}",
+                        roomIds, range.fromDate(), range.toDate(), e);
+            }
+        });
+        log.debug("이용 집계 대기 셀 처리 - 셀 수: {}, 재계산 횟수: {}, 소요: {}ms",
+                cellCount, roomIdsByRange.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 정렬된 날짜를 구간으로 합침 (MAX_MERGED_GAP_DAYS 이하 간격은 잇고, 구간 길이는 MAX_RANGE_DAYS 이하)
+     */
+    private static List<DateRange> mergeRanges(TreeSet<LocalDate> dates) {
+        List<DateRange> ranges = new ArrayList<>();
+        LocalDate from = null;
+        LocalDate to = null;
+        for (LocalDate date : dates) {
+            if (from != null
+                    && ChronoUnit.DAYS.between(to, date) <= MAX_MERGED_GAP_DAYS
+                    && ChronoUnit.DAYS.between(from, date) < MAX_RANGE_DAYS) {
+                to = date;
+                continue;
+            }
+            if (from != null) {
+                ranges.add(new DateRange(from, to));
+            }
+            from = date;
+            to = date;
+        }
+        if (from != null) {
+            ranges.add(new DateRange(from, to));
+        }
+        return ranges;
+    }
+
+    /**
+     * 회의실 목록 × [fromDate, toDate] 집계를 커밋된 예약/초대로 다시 계산해 교체
+     *
+     * @return 저장된 행 수
+     */
+    int recompute(Collection<Long> roomIds, LocalDate fromDate, LocalDate toDate) {
+        Set<Long> distinctRoomIds = new TreeSet<>(roomIds);
+        LocalDateTime rangeStart = fromDate.atStartOfDay();
+        LocalDateTime rangeEnd = toDate.plusDays(1).atStartOfDay();
+
+        synchronized (recomputeLock) {
+            Integer saved = recomputeTransaction.execute(status -> {
+                List<RoomBookingView> bookings =
+                        roomRentRepository.findConflictingBookingViews(distinctRoomIds, rangeStart, rangeEnd, null);
+                Map<BookingKey, Long> acceptedCounts = new HashMap<>();
+                for (AcceptedInviteCountView view :
+                        userInviteRepository.countAcceptedByRoomIdIn(distinctRoomIds, rangeStart, rangeEnd)) {
+                    acceptedCounts.put(new BookingKey(view.rentId(), view.roomId()), view.acceptedCount());
+                }
+
+                List<HourlyRow> rows = aggregate(bookings, acceptedCounts, rangeStart, rangeEnd);
+                return roomUtilizationBatchRepository.replace(distinctRoomIds, fromDate, toDate, rows, LocalDateTime.now());
+            });
+            log.debug("이용 집계 재계산 - 회의실 수: {}, 기간: {} ~ {}, 저장 행 수: {}",
+                    distinctRoomIds.size(), fromDate, toDate, saved);
+            return saved != null ? saved : 0;
+        }
+    }
+
+    /**
+     * 점유 구간을 (회의실, 날짜, 시간대) 셀로 나누어 합산
+     * 예약 분은 걸친 시간대마다 나누고, 예약 수/수락 인원은 시작 시간대에만 더한다.
+     * 조회 범위 밖에서 시작한 예약은 분만 더한다 (시작 셀은 다른 날짜 범위의 재계산이 담당).
+     */
+    private List<HourlyRow> aggregate(List<RoomBookingView> bookings, Map<BookingKey, Long> acceptedCounts,
+                                      LocalDateTime rangeStart, LocalDateTime rangeEnd) {
+        Map<CellKey, int[]> cells = new TreeMap<>();
+        for (RoomBookingView booking : bookings) {
+            LocalDateTime start = booking.startTime().isBefore(rangeStart) ? rangeStart : booking.startTime();
+            LocalDateTime end = booking.endTime().isAfter(rangeEnd) ? rangeEnd : booking.endTime();
+
+            LocalDateTime hourStart = start.truncatedTo(ChronoUnit.HOURS);
+            while (hourStart.isBefore(end)) {
+                LocalDateTime hourEnd = hourStart.plusHours(1);
+                LocalDateTime from = start.isAfter(hourStart) ? start : hourStart;
+                LocalDateTime to = end.isBefore(hourEnd) ? end : hourEnd;
+                int minutes = (int) ChronoUnit.MINUTES.between(from, to);
+
+                int[] cell = cells.computeIfAbsent(
+                        new CellKey(booking.roomId(), hourStart.toLocalDate(), hourStart.getHour()), key -> new int[3]);
+                cell[0] += minutes;
+                hourStart = hourEnd;
+            }
+
+            if (!booking.startTime().isBefore(rangeStart)) {
+                LocalDateTime startHour = booking.startTime().truncatedTo(ChronoUnit.HOURS);
+                int[] cell = cells.computeIfAbsent(
+                        new CellKey(booking.roomId(), startHour.toLocalDate(), startHour.getHour()), key -> new int[3]);
+                cell[1] += 1;
+                cell[2] += acceptedCounts.getOrDefault(new BookingKey(booking.rentId(), booking.roomId()), 0L).intValue();
+            }
+        }
+
+        List<HourlyRow> rows = new ArrayList<>(cells.size());
+        cells.forEach((key, cell) ->
+                rows.add(new HourlyRow(key.roomId(), key.date(), key.hour(), cell[0], cell[1], cell[2])));
+        return rows;
+    }
+
+    private record BookingKey(Long rentId, Long roomId) {
+    }
+
+    private record DirtyCell(Long roomId, LocalDate date) {
+    }
+
+    private record DateRange(LocalDate fromDate, LocalDate toDate) {
+    }
+
+    private record CellKey(Long roomId, LocalDate date, int hour) implements Comparable<CellKey> {
+
+        @Override
+        public int compareTo(CellKey other) {
+            int result = roomId.compareTo(other.roomId);
+            if (result != 0) {
+                return result;
+            }
+            result = date.compareTo(other.date);
+            return result != 0 ? result : Integer.compare(hour, other.hour);
+        }
+    }
+}
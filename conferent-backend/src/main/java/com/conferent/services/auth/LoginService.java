@@ -0,0 +1,21 @@
+package com.conferent.services.auth;
+
+import com.conferent.dtos.auth.LoginResponse;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public interface LoginService {
+    
+    /**
+     * 이메일/비밀번호 로그인
+     * 비밀번호 해시 검증은 로그인 전용 스레드 풀에서 수행하고, 결과는 비동기로 돌려준다.
+     * 계정/IP별 시도 한도를 넘었거나 검증 대기열이 가득 차면 LoginThrottledException이 발생한다.
+     * 
+     * @param email 이메일
+     * @param rawPassword 평문 비밀번호
+     * @param clientIp 요청한 클라이언트 IP
+     * @return 인증 성공 시 토큰과 사용자 정보, 실패 시 빈 값
+     */
+    CompletableFuture<Optional<LoginResponse>> login(String email, String rawPassword, String clientIp);
+}
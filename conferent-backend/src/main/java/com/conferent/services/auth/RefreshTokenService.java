@@ -0,0 +1,37 @@
+package com.conferent.services.auth;
+
+import com.conferent.dtos.auth.LoginResponse;
+import com.conferent.enums.Role;
+
+import java.util.Optional;
+
+public interface RefreshTokenService {
+    
+    /**
+     * 새 로그인 세션 발급 (액세스 토큰 + 리프레시 토큰)
+     * 
+     * @param userId 사용자 ID
+     * @param email 사용자 이메일
+     * @param name 사용자 이름
+     * @param role 사용자 역할
+     * @param tokenVersion 현재 사용자 토큰 버전
+     */
+    LoginResponse issueSession(Long userId, String email, String name, Role role, int tokenVersion);
+    
+    /**
+     * 리프레시 토큰으로 액세스 토큰 재발급 (리프레시 토큰도 새로 교체)
+     * 이미 쓰인 토큰이 다시 오면 세션 전체를 폐기한다.
+     * 
+     * @param refreshToken 리프레시 토큰
+     * @return 재발급 성공 시 새 토큰과 사용자 정보, 토큰이 유효하지 않으면 빈 값
+     */
+    Optional<LoginResponse> refresh(String refreshToken);
+    
+    /**
+     * 로그인 세션 폐기 (로그아웃)
+     * 
+     * @param sessionId 액세스 토큰의 세션 ID (없으면 null)
+     * @param refreshToken 리프레시 토큰 (없으면 null)
+     */
+    void revokeSession(String sessionId, String refreshToken);
+}
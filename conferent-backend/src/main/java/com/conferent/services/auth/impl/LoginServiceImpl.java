@@ -0,0 +1,146 @@
+package com.conferent.services.auth.impl;
+
+import com.conferent.dtos.auth.LoginResponse;
+import com.conferent.exceptions.LoginThrottledException;
+import com.conferent.repositories.user.LoginCredentialView;
+import com.conferent.repositories.user.UserRepository;
+import com.conferent.services.auth.LoginService;
+import com.conferent.services.auth.RefreshTokenService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 처리 (비밀번호 해시 검증 격리 + 시도 한도)
+ *
+ * BCrypt 검증은 CPU를 많이 쓰므로 요청 스레드가 아니라 크기가 정해진 로그인 전용 스레드 풀에서 수행한다.
+ * 로그인이 몰려도 해시 검증이 쓰는 코어 수는 스레드 수로 제한되어 예약 등 다른 API의 응답 시간이 유지된다.
+ *
+ * - 계정/IP별 토큰 버킷 한도를 넘은 시도는 DB 조회 없이 바로 429로 거절한다.
+ * - 검증 대기열이 가득 찼거나, 대기열에서 queue-timeout 이상 기다린 요청은 해시 검증 없이 429로 거절한다.
+ * - 사용자 정보는 로그인당 한 번만 조회하며 (비밀번호 해시 + 토큰 발급 정보), 해시 검증 중에는 DB 연결을 잡지 않는다.
+ * - 스레드 풀 지표: /actuator/metrics/executor.queued?tag=name:loginHashing
+ */
+@Slf4j
+@Service
+public class LoginServiceImpl implements LoginService {
+
+    private static final String EXECUTOR_NAME = "loginHashing";
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginThrottle loginThrottle;
+    private final long queueTimeoutNanos;
+    private final ThreadPoolExecutor hashingExecutor;
+    private final Counter throttledCounter;
+    private final Counter busyCounter;
+
+    public LoginServiceImpl(UserRepository userRepository,
+                            PasswordEncoder passwordEncoder,
+                            RefreshTokenService refreshTokenService,
+                            LoginThrottle loginThrottle,
+                            MeterRegistry meterRegistry,
+                            @Value("${conferent.auth.login.hashing-threads:0}") int hashingThreads,
+                            @Value("${conferent.auth.login.queue-capacity:64}") int queueCapacity,
+                            @Value("${conferent.auth.login.queue-timeout:2s}") Duration queueTimeout) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.refreshTokenService = refreshTokenService;
+        this.loginThrottle = loginThrottle;
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+
+        // 0이면 코어의 절반 (최소 1개)
+        int threads = hashingThreads > 0 ? hashingThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.hashingExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(hashingExecutor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+        this.throttledCounter = meterRegistry.counter("conferent.login.rejected", "reason", "throttled");
+        this.busyCounter = meterRegistry.counter("conferent.login.rejected", "reason", "busy");
+        log.info("로그인 해시 검증 스레드 풀 - 스레드: {}, 대기열: {}", threads, queueCapacity);
+    }
+
+    @Override
+    public CompletableFuture<Optional<LoginResponse>> login(String email, String rawPassword, String clientIp) {
+        // 1. 계정/IP별 시도 한도 확인
+        long retryAfterSeconds = loginThrottle.tryAcquire(email, clientIp);
+        if (retryAfterSeconds > 0) {
+            throttledCounter.increment();
+            log.warn("로그인 시도 한도 초과 - 이메일: {}, IP: {}", email, clientIp);
+            throw new LoginThrottledException(
+                    "로그인 시도가 너무 많습니다. " + retryAfterSeconds + "초 후에 다시 시도해주세요", retryAfterSeconds);
+        }
+
+        // 2. 사용자 조회 (로그인당 한 번)
+        LoginCredentialView credential = userRepository.findLoginCredentialByEmail(email).orElse(null);
+        if (credential == null) {
+            log.debug("사용자 인증 실패 - 존재하지 않는 이메일: {}", email);
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        // 3. 비밀번호 검증은 로그인 전용 스레드 풀에서 수행
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> verify(credential, rawPassword, queuedAt), hashingExecutor);
+        } catch (RejectedExecutionException e) {
+            busyCounter.increment();
+            log.warn("로그인 검증 대기열 가득 참 - 이메일: {}", email);
+            throw busy();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdownNow();
+    }
+
+    /**
+     * 비밀번호 해시 검증 후 로그인 세션(액세스 + 리프레시 토큰) 발급 (로그인 전용 스레드에서 실행)
+     */
+    private Optional<LoginResponse> verify(LoginCredentialView credential, String rawPassword, long queuedAt) {
+        // 오래 기다린 요청은 클라이언트가 이미 포기했을 수 있으므로 해시 검증 없이 거절
+        if (System.nanoTime() - queuedAt > queueTimeoutNanos) {
+            busyCounter.increment();
+            log.warn("로그인 검증 대기 시간 초과 - 이메일: {}", credential.email());
+            throw busy();
+        }
+
+        if (!passwordEncoder.matches(rawPassword, credential.password())) {
+            log.debug("사용자 인증 실패 - 비밀번호 불일치: {}", credential.email());
+            return Optional.empty();
+        }
+
+        return Optional.of(refreshTokenService.issueSession(
+                credential.id(),
+                credential.email(),
+                credential.name(),
+                credential.role(),
+                credential.tokenVersion()));
+    }
+
+    private LoginThrottledException busy() {
+        return new LoginThrottledException("로그인 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요", 1);
+    }
+}
@@ -0,0 +1,99 @@
+package com.conferent.services.auth.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도 한도 (메모리 토큰 버킷)
+ * 
+ * 계정(이메일)별, 클라이언트 IP별로 버킷을 두고 로그인 시도마다 토큰을 하나씩 쓴다.
+ * 버킷은 refill-period 동안 capacity만큼 다시 채워지며, 그 시간 동안 쓰이지 않은 버킷은 가득 찬 상태와 같으므로 캐시에서 내보낸다.
+ * 한도는 인스턴스마다 따로 적용된다.
+ */
+@Component
+class LoginThrottle {
+
+    private final Cache<String, TokenBucket> accountBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final int accountCapacity;
+    private final long accountNanosPerToken;
+    private final int ipCapacity;
+    private final long ipNanosPerToken;
+
+    LoginThrottle(@Value("${conferent.auth.login.account.capacity:10}") int accountCapacity,
+                  @Value("${conferent.auth.login.account.refill-period:5m}") Duration accountRefillPeriod,
+                  @Value("${conferent.auth.login.ip.capacity:30}") int ipCapacity,
+                  @Value("${conferent.auth.login.ip.refill-period:1m}") Duration ipRefillPeriod,
+                  @Value("${conferent.auth.login.max-tracked-keys:100000}") long maxTrackedKeys) {
+        this.accountCapacity = accountCapacity;
+        this.accountNanosPerToken = accountRefillPeriod.toNanos() / accountCapacity;
+        this.ipCapacity = ipCapacity;
+        this.ipNanosPerToken = ipRefillPeriod.toNanos() / ipCapacity;
+        this.accountBuckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(accountRefillPeriod)
+                .build();
+        this.ipBuckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(ipRefillPeriod)
+                .build();
+    }
+
+    /**
+     * 로그인 시도 1회 허용 여부 확인 (IP 한도를 먼저 확인)
+     * 
+     * @return 허용되면 0, 아니면 다시 시도할 수 있을 때까지의 초
+     */
+    long tryAcquire(String email, String clientIp) {
+        long now = System.nanoTime();
+        String ipKey = clientIp == null ? "unknown" : clientIp;
+        long waitNanos = ipBuckets.get(ipKey, key -> new TokenBucket(ipCapacity, ipNanosPerToken, now)).tryConsume(now);
+        if (waitNanos == 0) {
+            String accountKey = email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+            waitNanos = accountBuckets.get(accountKey, key -> new TokenBucket(accountCapacity, accountNanosPerToken, now)).tryConsume(now);
+        }
+        return waitNanos == 0 ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+    }
+
+    /**
+     * 토큰 버킷 (토큰 하나가 채워지는 시간 단위로만 충전)
+     */
+    private static final class TokenBucket {
+
+        private final int capacity;
+        private final long nanosPerToken;
+        private int tokens;
+        private long refilledAt;
+
+        TokenBucket(int capacity, long nanosPerToken, long now) {
+            this.capacity = capacity;
+            this.nanosPerToken = nanosPerToken;
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        /**
+         * 토큰 1개 사용
+         * 
+         * @return 사용했으면 0, 아니면 다음 토큰이 채워질 때까지의 나노초
+         */
+        synchronized long tryConsume(long now) {
+            long refill = (now - refilledAt) / nanosPerToken;
+            if (refill > 0) {
+                tokens = (int) Math.min(capacity, tokens + refill);
+                refilledAt = tokens == capacity ? now : refilledAt + refill * nanosPerToken;
+            }
+            if (tokens > 0) {
+                tokens--;
+                return 0;
+            }
+            return nanosPerToken - (now - refilledAt);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.conferent.services.auth.impl;
+
+import com.conferent.config.JwtTokenProvider;
+import com.conferent.dtos.auth.LoginResponse;
+import com.conferent.entities.RefreshToken;
+import com.conferent.entities.User;
+import com.conferent.enums.Role;
+import com.conferent.repositories.token.RefreshTokenRepository;
+import com.conferent.repositories.user.UserRepository;
+import com.conferent.services.auth.RefreshTokenService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급/교체/폐기
+ *
+ * 액세스 토큰은 짧게(기본 15분) 발급하고 요청마다는 서명만 확인한다.
+ * 사용자 조회, 토큰 버전(역할/이메일/비밀번호 변경) 확인, 세션 폐기 확인 같은 상태 확인은 모두 리프레시 때 한다.
+ *
+ * - 리프레시 토큰은 32바이트 난수이며 SHA-256 다이제스트로만 저장하고 조회한다. (BCrypt 미사용)
+ * - 리프레시할 때마다 같은 세션의 새 토큰으로 교체하고, 쓰인 토큰은 usedAt을 남긴다.
+ * - 쓰인 토큰이 다시 오면(재사용) 탈취로 보고 세션 전체를 폐기한다.
+ *   단, 교체 직후 유예 시간 안의 재사용은 여러 탭이 같은 토큰으로 동시에 리프레시한 경우이므로 거절만 하고,
+ *   늦은 탭은 먼저 끝난 탭이 저장한 새 토큰을 쓴다.
+ */
+@Slf4j
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Duration refreshTokenValidity;
+    private final Duration reuseGrace;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenServiceImpl(RefreshTokenRepository refreshTokenRepository,
+                                   UserRepository userRepository,
+                                   JwtTokenProvider jwtTokenProvider,
+                                   @Value("${jwt.refresh-token.validity:14d}") Duration refreshTokenValidity,
+                                   @Value("${jwt.refresh-token.reuse-grace:10s}") Duration reuseGrace) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenValidity = refreshTokenValidity;
+        this.reuseGrace = reuseGrace;
+    }
+
+    @Override
+    @Transactional
+    public LoginResponse issueSession(Long userId, String email, String name, Role role, int tokenVersion) {
+        return issue(UUID.randomUUID().toString(), userId, email, name, role, tokenVersion);
+    }
+
+    @Override
+    @Transactional
+    public Optional<LoginResponse> refresh(String refreshToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(digestOf(refreshToken)).orElse(null);
+        if (current == null) {
+            log.debug("알 수 없는 리프레시 토큰");
+            return Optional.empty();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (current.getRevokedAt() != null) {
+            log.debug("폐기된 세션의 리프레시 토큰 - 세션: {}", current.getFamilyId());
+            return Optional.empty();
+        }
+        if (current.getUsedAt() != null && current.getUsedAt().plus(reuseGrace).isAfter(now)) {
+            // 방금 교체된 토큰 -> 다른 탭의 동시 리프레시로 보고 폐기 없이 거절
+            log.debug("교체 직후 리프레시 토큰 재사용, 폐기 없이 거절 - 세션: {}", current.getFamilyId());
+            return Optional.empty();
+        }
+        if (current.getUsedAt() != null) {
+            // 이미 교체된 토큰이 다시 쓰임 -> 탈취로 보고 세션 전체 폐기
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("리프레시 토큰 재사용 감지, 세션 폐기 - 사용자 ID: {}, 세션: {}", current.getUserId(), current.getFamilyId());
+            return Optional.empty();
+        }
+        if (!current.getExpiresAt().isAfter(now)) {
+            log.debug("만료된 리프레시 토큰 - 세션: {}", current.getFamilyId());
+            return Optional.empty();
+        }
+
+        // 사용자 삭제 또는 역할/이메일/비밀번호 변경 후에는 다시 로그인해야 함
+        User user = userRepository.findById(current.getUserId()).orElse(null);
+        if (user == null || !user.getTokenVersion().equals(current.getTokenVersion())) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.info("사용자 정보 변경으로 세션 폐기 - 사용자 ID: {}, 세션: {}", current.getUserId(), current.getFamilyId());
+            return Optional.empty();
+        }
+
+        current.setUsedAt(now);
+        return Optional.of(issue(current.getFamilyId(), user.getId(), user.getEmail(), user.getName(),
+                user.getRole(), user.getTokenVersion()));
+    }
+
+    @Override
+    @Transactional
+    public void revokeSession(String sessionId, String refreshToken) {
+        String familyId = sessionId;
+        if (familyId == null && refreshToken != null && !refreshToken.isBlank()) {
+            familyId = refreshTokenRepository.findFamilyIdByTokenHash(digestOf(refreshToken)).orElse(null);
+        }
+        if (familyId == null) {
+            return;
+        }
+        int revoked = refreshTokenRepository.revokeFamily(familyId, LocalDateTime.now());
+        log.debug("세션 폐기 - 세션: {}, 폐기한 리프레시 토큰: {}", familyId, revoked);
+    }
+
+    /**
+     * 만료된 리프레시 토큰 삭제
+     */
+    @Scheduled(cron = "${jwt.refresh-token.cleanup-cron:0 45 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("만료된 리프레시 토큰 삭제 - {}건", deleted);
+    }
+
+    /**
+     * 세션의 새 리프레시 토큰 저장 후 액세스 토큰과 함께 응답 생성
+     */
+    private LoginResponse issue(String familyId, Long userId, String email, String name, Role role, int tokenVersion) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        LocalDateTime refreshExpiresAt = LocalDateTime.now().plus(refreshTokenValidity);
+        refreshTokenRepository.save(new RefreshToken(null, digestOf(refreshToken), familyId, userId, tokenVersion,
+                refreshExpiresAt, null, null, null));
+
+        String accessToken = jwtTokenProvider.createToken(userId, email, name, role, familyId);
+        return new LoginResponse(
+                accessToken,
+                jwtTokenProvider.getExpirationDate(accessToken),
+                userId,
+                name,
+                email,
+                role,
+                refreshToken,
+                refreshExpiresAt);
+    }
+
+    private static String digestOf(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
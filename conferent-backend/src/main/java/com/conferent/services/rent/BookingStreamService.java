@@ -0,0 +1,17 @@
+package com.conferent.services.rent;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+public interface BookingStreamService {
+    
+    /**
+     * 예약 변경 스트림 구독 (Server-Sent Events)
+     * location/roomIds가 모두 비어 있으면 전체 회의실, 둘 다 주어지면 둘 중 하나에 해당하는 회의실의 변경을 받는다.
+     * 
+     * @param location 위치(건물/층) 필터
+     * @param roomIds 회의실 ID 필터
+     */
+    SseEmitter subscribe(String location, Set<Long> roomIds);
+}
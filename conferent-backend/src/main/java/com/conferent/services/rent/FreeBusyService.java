@@ -0,0 +1,34 @@
+package com.conferent.services.rent;
+
+import com.conferent.dtos.rent.AvailableSlotResponse;
+import com.conferent.dtos.rent.FreeBusyProbe;
+import com.conferent.dtos.rent.FreeBusyProbeResponse;
+import com.conferent.dtos.rent.FreeBusyResponse;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FreeBusyService {
+    
+    /**
+     * 전체 회의실의 빈 시간/점유 현황 조회
+     * startDate 0시부터 days일 동안을 slotMinutes 단위 슬롯으로 나눈다.
+     */
+    FreeBusyResponse getFreeBusy(LocalDate startDate, int days, int slotMinutes);
+    
+    /**
+     * 여러 (회의실, 시간대) 후보의 예약 가능 여부를 한 번에 확인 (요청 순서 유지)
+     */
+    List<FreeBusyProbeResponse> probe(List<FreeBusyProbe> probes);
+    
+    /**
+     * [windowStart, windowEnd) 안에서 duration 길이로 예약 가능한 가장 이른 빈 시간 최대 limit개 조회
+     * 
+     * @param roomIds 후보 회의실 (비어 있으면 전체 회의실)
+     * @param together true면 모든 회의실이 함께 비어 있는 시간, false면 회의실 하나라도 비어 있는 시간
+     */
+    List<AvailableSlotResponse> findNextAvailableSlots(List<Long> roomIds, boolean together, Duration duration,
+                                                       LocalDateTime windowStart, LocalDateTime windowEnd, int limit);
+}
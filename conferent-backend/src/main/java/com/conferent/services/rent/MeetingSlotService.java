@@ -0,0 +1,15 @@
+package com.conferent.services.rent;
+
+import com.conferent.dtos.rent.MeetingSlotResponse;
+import com.conferent.dtos.rent.MeetingSlotSearchRequest;
+
+import java.util.List;
+
+public interface MeetingSlotService {
+    
+    /**
+     * 모든 참석자와 조건에 맞는 회의실 하나 이상이 함께 비어 있는 회의 시간 조회 (이른 순)
+     * 참석자는 자신이 생성한 예약과 대기/수락 상태로 초대된 예약 시간에 점유된 것으로 본다.
+     */
+    List<MeetingSlotResponse> findMeetingSlots(MeetingSlotSearchRequest request);
+}
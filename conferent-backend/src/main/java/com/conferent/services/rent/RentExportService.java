@@ -0,0 +1,17 @@
+package com.conferent.services.rent;
+
+import com.conferent.enums.RentExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface RentExportService {
+    
+    /**
+     * 기간별 예약 내보내기 (스트리밍)
+     * 전체 결과를 메모리에 올리지 않고 일정 크기 단위로 읽어서 바로 출력 스트림에 기록
+     */
+    void exportRentsByDateRange(LocalDateTime startDate, LocalDateTime endDate,
+                                RentExportFormat format, OutputStream outputStream) throws IOException;
+}
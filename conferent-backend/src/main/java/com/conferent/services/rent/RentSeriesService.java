@@ -0,0 +1,24 @@
+package com.conferent.services.rent;
+
+import com.conferent.dtos.rent.CreateRentSeriesRequest;
+import com.conferent.dtos.rent.RentSeriesResponse;
+import com.conferent.dtos.rent.UpdateRentSeriesRequest;
+
+public interface RentSeriesService {
+    
+    /**
+     * 반복 예약 생성 (모든 회차를 한 번에 생성)
+     */
+    RentSeriesResponse createSeries(CreateRentSeriesRequest request);
+    
+    /**
+     * 반복 예약 조회
+     */
+    RentSeriesResponse getSeries(Long id);
+    
+    /**
+     * 반복 예약의 특정 회차와 이후 회차 수정
+     * 이전 회차는 그대로 두고, 기준 회차부터는 새 반복 예약으로 분리한다.
+     */
+    RentSeriesResponse updateFollowing(Long seriesId, Long rentId, UpdateRentSeriesRequest request);
+}
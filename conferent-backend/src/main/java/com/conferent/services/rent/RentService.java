@@ -1,6 +1,8 @@
 package com.conferent.services.rent;
 
 import com.conferent.dtos.rent.CreateRentRequest;
+import com.conferent.dtos.rent.RentConflictResponse;
+import com.conferent.dtos.rent.RentPageResponse;
 import com.conferent.dtos.rent.RentResponse;
 
 import java.time.LocalDateTime;
@@ -72,9 +74,29 @@ public interface RentService {
      * 시간 충돌 검사 (기존 예약 제외)
      */
     boolean hasTimeConflict(List<Long> roomIds, LocalDateTime startTime, LocalDateTime endTime, Long excludeRentId);
+    
+    /**
+     * 시간 충돌 상세 조회 (충돌하는 회의실과 점유 구간)
+     */
+    RentConflictResponse findTimeConflicts(List<Long> roomIds, LocalDateTime startTime, LocalDateTime endTime, Long excludeRentId);
 
     /**
      * 최근 예약 조회
      */
     List<RentResponse> getRecentRents(Long userId);
-} 
\ No newline at end of file
+
+    /**
+     * 모든 예약 커서 페이지 조회 (cursor가 null이면 첫 페이지)
+     */
+    RentPageResponse getRentsPage(String cursor, int limit);
+
+    /**
+     * 생성자 ID별 예약 커서 페이지 조회
+     */
+    RentPageResponse getRentsPageByCreatorId(Long creatorId, String cursor, int limit);
+
+    /**
+     * 특정 회의실의 예약 커서 페이지 조회
+     */
+    RentPageResponse getRentsPageByRoomId(Long roomId, String cursor, int limit);
+}
@@ -0,0 +1,216 @@
+package com.conferent.services.rent.cache;
+
+import com.conferent.events.RentChangedEvent;
+import com.conferent.events.RentSnapshot;
+import com.conferent.events.RoomChangedEvent;
+import com.conferent.repositories.roomrent.RoomBookingView;
+import com.conferent.repositories.roomrent.RoomRentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * (회의실, 날짜)별 점유 구간 캐시
+ *
+ * 일간/주간 현황과 빈 시간 확인처럼 같은 회의실·날짜를 반복해서 읽는 조회를 위해
+ * 그날과 겹치는 점유 구간 목록을 Caffeine 캐시에 보관한다.
+ *
+ * - 캐시에 없는 (회의실, 날짜)는 회의실 IN 목록 × 날짜 범위 쿼리 한 번으로 채운다.
+ * - 예약 생성/수정/삭제 커밋 후 RentChangedEvent의 변경 전/후 회의실·날짜만 무효화한다.
+ * - 적재는 새 읽기 트랜잭션에서 수행하고, 적재 중 무효화가 있었으면 결과를 캐시에 넣지 않는다
+ *   (호출 트랜잭션의 오래된 스냅샷이나 커밋-무효화 사이의 경합으로 지난 데이터가 남지 않도록).
+ * - 다른 인스턴스의 쓰기는 무효화되지 않으므로 expireAfterWrite로 최대 유지 시간을 제한한다.
+ * - 적중/미적중/제거 통계는 /actuator/metrics의 cache.* 지표(cache=roomDayOccupancy)로 노출한다.
+ */
+@Slf4j
+@Component
+public class RoomDayOccupancyCache {
+
+    private static final String CACHE_NAME = "roomDayOccupancy";
+
+    private static final Comparator<RoomBookingView> BY_START_TIME =
+            Comparator.comparing(RoomBookingView::startTime).thenComparing(RoomBookingView::rentId);
+
+    private final RoomRentRepository roomRentRepository;
+    private final TransactionTemplate loadTransaction;
+    private final Cache<RoomDay, List<RoomBookingView>> cache;
+
+    // 무효화 세대 (적재 중 무효화 여부 확인용)
+    private long generation;
+
+    public RoomDayOccupancyCache(RoomRentRepository roomRentRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${conferent.cache.room-day-occupancy.maximum-size:20000}") long maximumSize,
+                                 @Value("${conferent.cache.room-day-occupancy.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.roomRentRepository = roomRentRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("회의실 날짜별 점유 캐시 초기화 - 최대 항목 수: {}, 최대 유지 시간: {}", maximumSize, expireAfterWrite);
+    }
+
+    /**
+     * 여러 회의실의 [startTime, endTime)과 겹치는 점유 구간 조회
+     * 회의실 ID -> 점유 구간 (시작 시간 순, 여러 날에 걸친 예약도 한 번만 포함). 점유가 없는 회의실은 빈 목록.
+     */
+    public Map<Long, List<RoomBookingView>> getBookings(Collection<Long> roomIds, LocalDateTime startTime, LocalDateTime endTime) {
+        List<LocalDate> dates = datesOf(startTime, endTime);
+        List<RoomDay> keys = new ArrayList<>(roomIds.size() * dates.size());
+        for (Long roomId : roomIds) {
+            for (LocalDate date : dates) {
+                keys.add(new RoomDay(roomId, date));
+            }
+        }
+        Map<RoomDay, List<RoomBookingView>> days = new HashMap<>(cache.getAllPresent(keys));
+        if (days.size() < keys.size()) {
+            days.putAll(load(keys.stream().filter(key -> !days.containsKey(key)).toList()));
+        }
+
+        Map<Long, List<RoomBookingView>> bookingsByRoomId = new LinkedHashMap<>();
+        for (Long roomId : roomIds) {
+            Map<Long, RoomBookingView> byRentId = new LinkedHashMap<>();
+            for (LocalDate date : dates) {
+                for (RoomBookingView booking : days.getOrDefault(new RoomDay(roomId, date), List.of())) {
+                    if (booking.startTime().isBefore(endTime) && booking.endTime().isAfter(startTime)) {
+                        byRentId.putIfAbsent(booking.rentId(), booking);
+                    }
+                }
+            }
+            List<RoomBookingView> bookings = new ArrayList<>(byRentId.values());
+            bookings.sort(BY_START_TIME);
+            bookingsByRoomId.put(roomId, bookings);
+        }
+        return bookingsByRoomId;
+    }
+
+    /**
+     * 커밋된 예약 변경의 변경 전/후 회의실·날짜 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRentChanged(RentChangedEvent event) {
+        Set<RoomDay> keys = new HashSet<>();
+        addKeys(keys, event.before());
+        addKeys(keys, event.after());
+        invalidate(keys);
+    }
+
+    /**
+     * 삭제된 회의실의 항목 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRoomChanged(RoomChangedEvent event) {
+        if (!event.deleted()) {
+            return;
+        }
+        synchronized (this) {
+            generation++;
+            cache.asMap().keySet().removeIf(key -> key.roomId().equals(event.roomId()));
+        }
+    }
+
+    /**
+     * 캐시에 없는 (회의실, 날짜)를 회의실 IN 목록 × 날짜 범위 쿼리 한 번으로 적재
+     */
+    private Map<RoomDay, List<RoomBookingView>> load(List<RoomDay> missing) {
+        Set<Long> roomIds = new HashSet<>();
+        LocalDate first = null;
+        LocalDate last = null;
+        Map<RoomDay, List<RoomBookingView>> loaded = new HashMap<>();
+        for (RoomDay key : missing) {
+            roomIds.add(key.roomId());
+            first = first == null || key.date().isBefore(first) ? key.date() : first;
+            last = last == null || key.date().isAfter(last) ? key.date() : last;
+            loaded.put(key, new ArrayList<>());
+        }
+
+        long loadGeneration;
+        synchronized (this) {
+            loadGeneration = generation;
+        }
+        LocalDateTime rangeStart = first.atStartOfDay();
+        LocalDateTime rangeEnd = last.plusDays(1).atStartOfDay();
+        List<RoomBookingView> bookings = loadTransaction.execute(status ->
+                roomRentRepository.findConflictingBookingViews(roomIds, rangeStart, rangeEnd, null));
+
+        for (RoomBookingView booking : bookings) {
+            for (LocalDate date : datesOf(booking.startTime(), booking.endTime())) {
+                List<RoomBookingView> day = loaded.get(new RoomDay(booking.roomId(), date));
+                if (day != null) {
+                    day.add(booking);
+                }
+            }
+        }
+        loaded.replaceAll((key, day) -> List.copyOf(day));
+
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                cache.putAll(loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private void invalidate(Set<RoomDay> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            generation++;
+            cache.invalidateAll(keys);
+        }
+    }
+
+    private static void addKeys(Set<RoomDay> keys, RentSnapshot rent) {
+        if (rent == null) {
+            return;
+        }
+        for (LocalDate date : datesOf(rent.startTime(), rent.endTime())) {
+            for (Long roomId : rent.roomIds()) {
+                keys.add(new RoomDay(roomId, date));
+            }
+        }
+    }
+
+    /**
+     * [startTime, endTime)이 걸치는 날짜 목록 (종료가 자정이면 그날은 제외)
+     */
+    private static List<LocalDate> datesOf(LocalDateTime startTime, LocalDateTime endTime) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = startTime.toLocalDate(); date.atStartOfDay().isBefore(endTime); date = date.plusDays(1)) {
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    private record RoomDay(Long roomId, LocalDate date) {
+    }
+}
@@ -0,0 +1,337 @@
+package com.conferent.services.rent.impl;
+
+import com.conferent.dtos.rent.BookingChangeResponse;
+import com.conferent.dtos.rent.BookingStateResponse;
+import com.conferent.entities.Room;
+import com.conferent.events.RentChangedEvent;
+import com.conferent.events.RentSnapshot;
+import com.conferent.exceptions.SubscriptionLimitException;
+import com.conferent.repositories.room.RoomRepository;
+import com.conferent.services.rent.BookingStreamService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 예약 변경 실시간 스트림 (Server-Sent Events)
+ *
+ * 예약 생성/수정/삭제가 커밋되면 RentChangedEvent를 변경 알림으로 바꿔,
+ * 위치(건물/층)나 회의실로 구독 범위를 정한 연결들에 밀어준다.
+ *
+ * - 구독자마다 크기가 정해진 전송 버퍼를 두고, 소수의 전송 스레드가 구독자별로 하나씩 순서대로 보낸다.
+ *   이벤트를 발행하는 커밋 스레드는 버퍼에 넣기만 하므로 느린 연결 때문에 예약 쓰기가 막히지 않는다.
+ * - 버퍼가 가득 찼거나 한 번의 전송이 제한 시간을 넘긴 구독자는 연결을 끊어 메모리와 전송 스레드를 돌려받는다.
+ *   (클라이언트는 다시 연결한 뒤 필요한 범위를 새로 조회한다)
+ * - 연결을 끊을 때는 구독 목록에서 빼고 표시만 한다. emitter.complete()는 같은 emitter의 send()가 끝날 때까지 기다리므로
+ *   호출한 스레드(커밋 스레드, 스케줄러)에서 부르지 않고 전송 스레드에 맡긴다.
+ *   멈춘 send()는 소켓 쓰기 제한 시간(server.tomcat.connection-timeout)이 지나면 실패한다.
+ * - 주기적으로 하트비트 주석을 보내 끊긴 연결을 정리하고, 프록시의 유휴 연결 종료를 막는다.
+ * - 순번은 인스턴스 안에서만 증가하며, 다른 인스턴스의 쓰기는 전달되지 않는다.
+ */
+@Slf4j
+@Service
+public class BookingStreamServiceImpl implements BookingStreamService {
+
+    private static final String EVENT_BOOKING = "booking";
+    private static final String EVENT_READY = "ready";
+
+    private final RoomRepository roomRepository;
+    private final TransactionTemplate loadTransaction;
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final Duration sendTimeout;
+    private final Duration connectionTimeout;
+    private final ExecutorService sender;
+
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public BookingStreamServiceImpl(RoomRepository roomRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${conferent.push.max-subscribers:1000}") int maxSubscribers,
+                                    @Value("${conferent.push.buffer-size:64}") int bufferSize,
+                                    @Value("${conferent.push.send-timeout:10s}") Duration sendTimeout,
+                                    @Value("${conferent.push.connection-timeout:30m}") Duration connectionTimeout,
+                                    @Value("${conferent.push.sender-threads:4}") int senderThreads) {
+        this.roomRepository = roomRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.sendTimeout = sendTimeout;
+        this.connectionTimeout = connectionTimeout;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "booking-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public SseEmitter subscribe(String location, Set<Long> roomIds) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new SubscriptionLimitException("실시간 구독 연결 수가 최대치(" + maxSubscribers + ")에 도달했습니다. 잠시 후 다시 시도해주세요");
+        }
+
+        SseEmitter emitter = new SseEmitter(connectionTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(subscriberIds.incrementAndGet(), emitter,
+                location == null || location.isBlank() ? null : location,
+                roomIds == null ? Set.of() : Set.copyOf(roomIds),
+                new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> discard(subscriber));
+        emitter.onTimeout(() -> discard(subscriber));
+        emitter.onError(error -> discard(subscriber));
+        subscribers.put(subscriber.id, subscriber);
+
+        enqueue(subscriber, SseEmitter.event().name(EVENT_READY).id(String.valueOf(sequence.get())).data("ok"));
+        log.debug("예약 스트림 구독 - 구독자 ID: {}, 위치: {}, 회의실: {}, 현재 구독자 수: {}",
+                subscriber.id, subscriber.location, subscriber.roomIds, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * 예약 변경 커밋 후 관련 회의실을 구독 중인 연결에 알림
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRentChanged(RentChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            Set<Long> affectedRoomIds = event.affectedRoomIds();
+            Map<Long, String> locations = locationsOf(affectedRoomIds);
+            long eventSequence = sequence.incrementAndGet();
+            BookingChangeResponse change = new BookingChangeResponse(
+                    eventSequence,
+                    event.type().name(),
+                    event.rentId(),
+                    toState(event.before()),
+                    toState(event.after()),
+                    LocalDateTime.now());
+
+            for (Subscriber subscriber : subscribers.values()) {
+                if (subscriber.matches(affectedRoomIds, locations)) {
+                    enqueue(subscriber, SseEmitter.event()
+                            .name(EVENT_BOOKING)
+                            .id(String.valueOf(eventSequence))
+                            .data(change, MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("예약 변경 알림 전송 실패 - 예약 ID: {}", event.rentId(), e);
+        }
+    }
+
+    /**
+     * 하트비트 전송과 전송이 멈춘 구독자 정리
+     */
+    @Scheduled(fixedDelayString = "${conferent.push.heartbeat-interval:20000}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers.values()) {
+            long sendingSince = subscriber.sendingSince;
+            if (sendingSince != 0 && now - sendingSince > sendTimeout.toNanos()) {
+                close(subscriber, "전송 지연");
+                continue;
+            }
+            enqueue(subscriber, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        subscribers.values().forEach(subscriber -> close(subscriber, null));
+        sender.shutdown();
+        if (!sender.awaitTermination(sendTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            sender.shutdownNow();
+        }
+    }
+
+    /**
+     * 구독자 버퍼에 이벤트를 넣고, 전송 중이 아니면 전송 작업 예약
+     * 버퍼가 가득 차면 느린 구독자로 보고 연결을 끊는다.
+     */
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.closed) {
+            return;
+        }
+        if (!subscriber.buffer.offer(event)) {
+            close(subscriber, "전송 버퍼 초과");
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    /**
+     * 버퍼의 이벤트를 순서대로 전송 (구독자별로 동시에 하나의 전송 작업만 실행)
+     * 연결이 끊긴 구독자면 전송 대신 emitter를 닫는다.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!subscriber.closed && (event = subscriber.buffer.poll()) != null) {
+                subscriber.sendingSince = System.nanoTime();
+                subscriber.emitter.send(event);
+                subscriber.sendingSince = 0;
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊음 (이미 실패한 연결이므로 complete 불필요)
+            discard(subscriber);
+        } finally {
+            subscriber.sendingSince = 0;
+        }
+        if (subscriber.closed && subscriber.completed.compareAndSet(false, true)) {
+            try {
+                subscriber.emitter.complete();
+            } catch (RuntimeException e) {
+                log.debug("예약 스트림 연결 종료 중 오류 - 구독자 ID: {}", subscriber.id, e);
+            }
+        }
+        subscriber.draining.set(false);
+        // 전송을 마치는 사이에 들어온 이벤트나 연결 종료 처리
+        if (subscriber.closed ? !subscriber.completed.get() : !subscriber.buffer.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    /**
+     * 구독자 연결 종료 (호출한 스레드를 막지 않음)
+     * 구독 목록에서 빼고 버퍼를 비운 뒤, emitter 닫기는 전송 스레드에 맡긴다.
+     * 전송 중인 작업이 있으면 그 작업이 send()를 마친 뒤 닫는다.
+     */
+    private void close(Subscriber subscriber, String reason) {
+        if (!markClosed(subscriber)) {
+            return;
+        }
+        if (reason != null) {
+            log.warn("예약 스트림 구독자 연결 종료 - 구독자 ID: {}, 사유: {}", subscriber.id, reason);
+        }
+        scheduleDrain(subscriber);
+    }
+
+    /**
+     * 이미 끝난 연결(완료/시간 초과/오류 콜백, 전송 실패) 정리 - emitter를 다시 닫지 않음
+     */
+    private void discard(Subscriber subscriber) {
+        subscriber.completed.set(true);
+        markClosed(subscriber);
+    }
+
+    private boolean markClosed(Subscriber subscriber) {
+        synchronized (subscriber) {
+            if (subscriber.closed) {
+                return false;
+            }
+            subscriber.closed = true;
+        }
+        subscribers.remove(subscriber.id);
+        subscriber.buffer.clear();
+        return true;
+    }
+
+    /**
+     * 위치 필터 구독자가 있을 때만 변경된 회의실의 위치 조회
+     */
+    private Map<Long, String> locationsOf(Set<Long> roomIds) {
+        boolean locationFiltered = subscribers.values().stream().anyMatch(subscriber -> subscriber.location != null);
+        if (!locationFiltered || roomIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, String> locations = new HashMap<>();
+        loadTransaction.executeWithoutResult(status -> {
+            for (Room room : roomRepository.findAllById(roomIds)) {
+                if (room.getLocation() != null) {
+                    locations.put(room.getId(), room.getLocation());
+                }
+            }
+        });
+        return locations;
+    }
+
+    private static BookingStateResponse toState(RentSnapshot snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+        return new BookingStateResponse(snapshot.startTime(), snapshot.endTime(), snapshot.roomIds());
+    }
+
+    /**
+     * 구독 연결과 전송 버퍼
+     */
+    private static final class Subscriber {
+
+        private final long id;
+        private final SseEmitter emitter;
+        private final String location;
+        private final Set<Long> roomIds;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        // emitter를 닫았는지 (또는 닫을 필요가 없는지)
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        // 진행 중인 전송 시작 시각 (System.nanoTime, 전송 중이 아니면 0)
+        private volatile long sendingSince;
+        private volatile boolean closed;
+
+        private Subscriber(long id, SseEmitter emitter, String location, Set<Long> roomIds,
+                           BlockingQueue<SseEmitter.SseEventBuilder> buffer) {
+            this.id = id;
+            this.emitter = emitter;
+            this.location = location;
+            this.roomIds = roomIds;
+            this.buffer = buffer;
+        }
+
+        private boolean matches(Set<Long> affectedRoomIds, Map<Long, String> locations) {
+            if (location == null && roomIds.isEmpty()) {
+                return true;
+            }
+            for (Long roomId : affectedRoomIds) {
+                if (roomIds.contains(roomId) || (location != null && location.equals(locations.get(roomId)))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
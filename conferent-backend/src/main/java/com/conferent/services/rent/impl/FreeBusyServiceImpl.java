@@ -0,0 +1,297 @@
+package com.conferent.services.rent.impl;
+
+import com.conferent.dtos.rent.AvailableSlotResponse;
+import com.conferent.dtos.rent.BusyIntervalResponse;
+import com.conferent.dtos.rent.FreeBusyProbe;
+import com.conferent.dtos.rent.FreeBusyProbeResponse;
+import com.conferent.dtos.rent.FreeBusyResponse;
+import com.conferent.dtos.rent.RoomFreeBusyResponse;
+import com.conferent.dtos.room.RoomResponse;
+import com.conferent.exceptions.NotFoundException;
+import com.conferent.repositories.room.RoomRepository;
+import com.conferent.repositories.roomrent.RoomBookingView;
+import com.conferent.repositories.roomrent.RoomRentRepository;
+import com.conferent.services.rent.FreeBusyService;
+import com.conferent.services.rent.cache.RoomDayOccupancyCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 빈 시간/점유 현황 서비스 구현
+ * 
+ * 회의실마다 예약을 따로 조회하지 않고, 기간 전체의 점유 구간을 프로젝션 쿼리 한 번으로
+ * (회의실 ID, 시작 시간) 순으로 읽은 뒤 회의실별로 한 번씩 훑으며(sweep) 겹치거나 맞닿은 구간을 합친다.
+ * 빈 시간 검색도 같은 방식으로 점유 구간 사이의 빈 구간을 이른 순으로 수집한다.
+ * 일간/주간 현황과 빈 시간 일괄 확인은 같은 회의실·날짜를 반복해서 읽으므로 RoomDayOccupancyCache를 거친다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FreeBusyServiceImpl implements FreeBusyService {
+    
+    // 조회 가능한 최대 일수 (주간 보기)
+    private static final int MAX_DAYS = 7;
+    
+    // 허용 슬롯 길이 (분) - 하루를 나누어 떨어지게
+    private static final Set<Integer> SLOT_MINUTES = Set.of(15, 30, 60);
+    
+    // 일괄 확인 시 전체 후보가 걸칠 수 있는 최대 기간
+    private static final Duration MAX_PROBE_SPAN = Duration.ofDays(31);
+    
+    // 빈 시간 검색 범위와 결과 수 상한
+    private static final Duration MAX_SEARCH_WINDOW = Duration.ofDays(31);
+    private static final int MAX_SUGGESTIONS = 20;
+    
+    // 제안하는 시작 시간의 정렬 단위 (분) - 예약 종료가 10:47이면 10:50부터 제안
+    private static final int START_ALIGNMENT_MINUTES = 5;
+    
+    private final RoomRepository roomRepository;
+    private final RoomRentRepository roomRentRepository;
+    private final RoomDayOccupancyCache roomDayOccupancyCache;
+    
+    @Override
+    public FreeBusyResponse getFreeBusy(LocalDate startDate, int days, int slotMinutes) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("조회 일수는 1~" + MAX_DAYS + "일이어야 합니다");
+        }
+        if (!SLOT_MINUTES.contains(slotMinutes)) {
+            throw new IllegalArgumentException("슬롯 길이는 15, 30, 60분 중 하나여야 합니다");
+        }
+        LocalDateTime startTime = startDate.atStartOfDay();
+        LocalDateTime endTime = startDate.plusDays(days).atStartOfDay();
+        int slotCount = (int) (Duration.between(startTime, endTime).toMinutes() / slotMinutes);
+        
+        List<RoomResponse> allRooms = roomRepository.findAllResponsesOrderByName();
+        Map<Long, List<RoomBookingView>> bookingsByRoomId = roomDayOccupancyCache.getBookings(
+                allRooms.stream().map(RoomResponse::getId).toList(), startTime, endTime);
+        
+        List<RoomFreeBusyResponse> rooms = new ArrayList<>();
+        for (RoomResponse room : allRooms) {
+            List<BusyIntervalResponse> busy = mergeBusyIntervals(
+                    bookingsByRoomId.getOrDefault(room.getId(), Collections.emptyList()), startTime, endTime);
+            rooms.add(new RoomFreeBusyResponse(room.getId(), room.getName(), room.getLocation(), room.getCapacity(),
+                    toSlots(busy, startTime, slotMinutes, slotCount), busy));
+        }
+        return new FreeBusyResponse(startTime, endTime, slotMinutes, rooms);
+    }
+    
+    @Override
+    public List<FreeBusyProbeResponse> probe(List<FreeBusyProbe> probes) {
+        if (probes.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<Long> roomIds = new LinkedHashSet<>();
+        LocalDateTime rangeStart = null;
+        LocalDateTime rangeEnd = null;
+        for (FreeBusyProbe probe : probes) {
+            if (!probe.getStartTime().isBefore(probe.getEndTime())) {
+                throw new IllegalArgumentException("시작 시간은 종료 시간보다 이전이어야 합니다. 회의실 ID: " + probe.getRoomId());
+            }
+            roomIds.add(probe.getRoomId());
+            if (rangeStart == null || probe.getStartTime().isBefore(rangeStart)) {
+                rangeStart = probe.getStartTime();
+            }
+            if (rangeEnd == null || probe.getEndTime().isAfter(rangeEnd)) {
+                rangeEnd = probe.getEndTime();
+            }
+        }
+        if (Duration.between(rangeStart, rangeEnd).compareTo(MAX_PROBE_SPAN) > 0) {
+            throw new IllegalArgumentException("확인할 후보 전체 범위는 최대 " + MAX_PROBE_SPAN.toDays() + "일입니다");
+        }
+        
+        // 후보 전체를 감싸는 범위를 한 번에 조회(캐시 미적중분만 DB)한 뒤 후보마다 메모리에서 확인
+        Map<Long, List<RoomBookingView>> bookingsByRoomId = roomDayOccupancyCache.getBookings(roomIds, rangeStart, rangeEnd);
+        
+        List<FreeBusyProbeResponse> results = new ArrayList<>(probes.size());
+        for (FreeBusyProbe probe : probes) {
+            List<Long> conflictingRentIds = new ArrayList<>();
+            for (RoomBookingView booking : bookingsByRoomId.getOrDefault(probe.getRoomId(), Collections.emptyList())) {
+                // 시작 시간 순이므로 후보 종료 이후에 시작하는 예약부터는 볼 필요 없음
+                if (!booking.startTime().isBefore(probe.getEndTime())) {
+                    break;
+                }
+                if (booking.endTime().isAfter(probe.getStartTime())) {
+                    conflictingRentIds.add(booking.rentId());
+                }
+            }
+            results.add(new FreeBusyProbeResponse(probe.getRoomId(), probe.getStartTime(), probe.getEndTime(),
+                    conflictingRentIds.isEmpty(), conflictingRentIds));
+        }
+        return results;
+    }
+    
+    @Override
+    public List<AvailableSlotResponse> findNextAvailableSlots(List<Long> roomIds, boolean together, Duration duration,
+                                                              LocalDateTime windowStart, LocalDateTime windowEnd, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("결과 수는 1~" + MAX_SUGGESTIONS + "개여야 합니다");
+        }
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(Duration.ofDays(1)) > 0) {
+            throw new IllegalArgumentException("예약 길이는 1분 이상 24시간 이하여야 합니다");
+        }
+        // 이미 지난 시간은 제안하지 않음
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime searchStart = windowStart.isBefore(now) ? now : windowStart;
+        if (!searchStart.isBefore(windowEnd)) {
+            throw new IllegalArgumentException("검색 종료 시간은 검색 시작 시간(과거이면 현재)보다 이후여야 합니다");
+        }
+        if (Duration.between(searchStart, windowEnd).compareTo(MAX_SEARCH_WINDOW) > 0) {
+            throw new IllegalArgumentException("검색 범위는 최대 " + MAX_SEARCH_WINDOW.toDays() + "일입니다");
+        }
+        
+        // 회의실 목록과 점유 구간을 각각 한 번에 조회 (회의실 ID, 시작 시간 순)
+        Set<Long> requestedRoomIds = roomIds != null ? new LinkedHashSet<>(roomIds) : new LinkedHashSet<>();
+        List<Long> candidateRoomIds;
+        List<RoomBookingView> bookings;
+        if (requestedRoomIds.isEmpty()) {
+            candidateRoomIds = roomRepository.findAllResponsesOrderByName().stream()
+                    .map(RoomResponse::getId)
+                    .toList();
+            bookings = roomRentRepository.findBookingViewsBetween(searchStart, windowEnd);
+        } else {
+            if (roomRepository.countByIdIn(requestedRoomIds) != requestedRoomIds.size()) {
+                throw new NotFoundException("존재하지 않는 회의실이 포함되어 있습니다. ID: " + requestedRoomIds);
+            }
+            candidateRoomIds = new ArrayList<>(requestedRoomIds);
+            bookings = roomRentRepository.findConflictingBookingViews(requestedRoomIds, searchStart, windowEnd, null);
+        }
+        if (candidateRoomIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        if (together) {
+            // 모든 회의실이 함께 비어 있어야 하므로 전체 점유 구간을 하나의 타임라인으로 합침
+            List<RoomBookingView> timeline = new ArrayList<>(bookings);
+            timeline.sort(Comparator.comparing(RoomBookingView::startTime));
+            return findGaps(timeline, searchStart, windowEnd, duration, limit, candidateRoomIds);
+        }
+        
+        // 회의실마다 가장 이른 limit개만 구하면 전체에서 가장 이른 limit개를 고를 수 있음
+        Map<Long, List<RoomBookingView>> bookingsByRoomId = groupByRoomId(bookings);
+        List<AvailableSlotResponse> slots = new ArrayList<>();
+        for (Long roomId : candidateRoomIds) {
+            slots.addAll(findGaps(bookingsByRoomId.getOrDefault(roomId, Collections.emptyList()),
+                    searchStart, windowEnd, duration, limit, List.of(roomId)));
+        }
+        // 같은 시작 시간은 회의실 순서(요청 순서 또는 이름 순) 유지
+        slots.sort(Comparator.comparing(AvailableSlotResponse::getStartTime));
+        return new ArrayList<>(slots.subList(0, Math.min(limit, slots.size())));
+    }
+    
+    /**
+     * 시작 시간 순 점유 구간을 한 번 훑으며, duration이 들어가는 빈 시간을 이른 순으로 최대 limit개 수집
+     */
+    private List<AvailableSlotResponse> findGaps(List<RoomBookingView> bookings, LocalDateTime windowStart,
+                                                 LocalDateTime windowEnd, Duration duration, int limit, List<Long> roomIds) {
+        List<AvailableSlotResponse> gaps = new ArrayList<>();
+        LocalDateTime freeFrom = windowStart;
+        for (RoomBookingView booking : bookings) {
+            if (gaps.size() >= limit) {
+                return gaps;
+            }
+            if (booking.startTime().isAfter(freeFrom)) {
+                addGapIfFits(gaps, freeFrom, booking.startTime(), duration, roomIds);
+            }
+            if (booking.endTime().isAfter(freeFrom)) {
+                freeFrom = booking.endTime();
+            }
+        }
+        if (gaps.size() < limit) {
+            addGapIfFits(gaps, freeFrom, windowEnd, duration, roomIds);
+        }
+        return gaps;
+    }
+    
+    private void addGapIfFits(List<AvailableSlotResponse> gaps, LocalDateTime freeFrom, LocalDateTime freeUntil,
+                              Duration duration, List<Long> roomIds) {
+        LocalDateTime startTime = alignUp(freeFrom);
+        LocalDateTime endTime = startTime.plus(duration);
+        if (!endTime.isAfter(freeUntil)) {
+            gaps.add(new AvailableSlotResponse(startTime, endTime, freeUntil, roomIds));
+        }
+    }
+    
+    /**
+     * START_ALIGNMENT_MINUTES 단위로 올림 (이미 맞으면 그대로)
+     */
+    private static LocalDateTime alignUp(LocalDateTime time) {
+        LocalDateTime truncated = time.truncatedTo(ChronoUnit.MINUTES);
+        int remainder = truncated.getMinute() % START_ALIGNMENT_MINUTES;
+        if (remainder == 0 && truncated.equals(time)) {
+            return time;
+        }
+        return truncated.plusMinutes(START_ALIGNMENT_MINUTES - remainder);
+    }
+    
+    /**
+     * (회의실 ID, 시작 시간) 순 점유 구간을 회의실별로 묶기 (각 목록은 시작 시간 순 유지)
+     */
+    private Map<Long, List<RoomBookingView>> groupByRoomId(List<RoomBookingView> bookings) {
+        Map<Long, List<RoomBookingView>> bookingsByRoomId = new HashMap<>();
+        for (RoomBookingView booking : bookings) {
+            bookingsByRoomId.computeIfAbsent(booking.roomId(), id -> new ArrayList<>()).add(booking);
+        }
+        return bookingsByRoomId;
+    }
+    
+    /**
+     * 시작 시간 순 점유 구간을 조회 범위로 자르고, 겹치거나 맞닿은 구간을 하나로 합침
+     */
+    private List<BusyIntervalResponse> mergeBusyIntervals(List<RoomBookingView> bookings,
+                                                          LocalDateTime startTime, LocalDateTime endTime) {
+        List<BusyIntervalResponse> merged = new ArrayList<>();
+        LocalDateTime blockStart = null;
+        LocalDateTime blockEnd = null;
+        for (RoomBookingView booking : bookings) {
+            LocalDateTime start = booking.startTime().isBefore(startTime) ? startTime : booking.startTime();
+            LocalDateTime end = booking.endTime().isAfter(endTime) ? endTime : booking.endTime();
+            if (blockEnd != null && !start.isAfter(blockEnd)) {
+                if (end.isAfter(blockEnd)) {
+                    blockEnd = end;
+                }
+                continue;
+            }
+            if (blockStart != null) {
+                merged.add(new BusyIntervalResponse(blockStart, blockEnd));
+            }
+            blockStart = start;
+            blockEnd = end;
+        }
+        if (blockStart != null) {
+            merged.add(new BusyIntervalResponse(blockStart, blockEnd));
+        }
+        return merged;
+    }
+    
+    /**
+     * 점유 구간을 슬롯 문자열로 변환 (구간이 슬롯 일부만 차지해도 점유로 표시)
+     */
+    private String toSlots(List<BusyIntervalResponse> busy, LocalDateTime startTime, int slotMinutes, int slotCount) {
+        char[] slots = new char[slotCount];
+        Arrays.fill(slots, '0');
+        long slotSeconds = slotMinutes * 60L;
+        for (BusyIntervalResponse interval : busy) {
+            long fromSeconds = Duration.between(startTime, interval.getStartTime()).getSeconds();
+            long toSeconds = Duration.between(startTime, interval.getEndTime()).getSeconds();
+            int fromSlot = (int) (fromSeconds / slotSeconds);
+            int toSlot = (int) Math.min((toSeconds + slotSeconds - 1) / slotSeconds, slotCount);
+            Arrays.fill(slots, fromSlot, toSlot, '1');
+        }
+        return new String(slots);
+    }
+}
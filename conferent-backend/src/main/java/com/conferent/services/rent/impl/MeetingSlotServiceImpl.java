@@ -0,0 +1,220 @@
+package com.conferent.services.rent.impl;
+
+import com.conferent.dtos.rent.MeetingSlotResponse;
+import com.conferent.dtos.rent.MeetingSlotSearchRequest;
+import com.conferent.dtos.room.RoomResponse;
+import com.conferent.enums.InviteStatus;
+import com.conferent.exceptions.NotFoundException;
+import com.conferent.repositories.rent.RentRepository;
+import com.conferent.repositories.room.RoomRepository;
+import com.conferent.repositories.roomrent.RoomBookingView;
+import com.conferent.repositories.roomrent.RoomRentRepository;
+import com.conferent.repositories.user.UserRepository;
+import com.conferent.repositories.userinvite.UserBusyView;
+import com.conferent.repositories.userinvite.UserInviteRepository;
+import com.conferent.services.rent.MeetingSlotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 참석자 일정 기반 회의 시간 찾기 구현
+ * 
+ * 검색 범위를 slotMinutes 단위 슬롯으로 나누고 점유 슬롯을 BitSet으로 표현한다.
+ * 1. 참석자 점유: 생성한 예약(쿼리 1번) + 대기/수락 초대 예약(쿼리 1번)
+ *    모든 참석자가 비어 있어야 하므로 참석자별 빈 슬롯의 교집합 = 점유 슬롯의 합집합을 BitSet 하나에 바로 기록
+ * 2. 근무 시간 외, 주말, 지난 시간도 같은 BitSet에 점유로 기록
+ * 3. 회의실 점유: 후보 회의실 점유 구간(쿼리 1번)으로 회의실별 BitSet 생성
+ * 회의실마다 (참석자 점유 | 회의실 점유)의 빈 구간을 nextClearBit/nextSetBit로 훑어 회의 길이만큼 연속으로 빈 시작 슬롯을 찾는다.
+ * 예약은 슬롯 일부만 차지해도 해당 슬롯 전체를 점유로 본다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MeetingSlotServiceImpl implements MeetingSlotService {
+    
+    // 검색 가능한 최대 기간
+    private static final Duration MAX_SEARCH_WINDOW = Duration.ofDays(14);
+    
+    // 허용 슬롯 길이 (분) - 한 시간을 나누어 떨어지게
+    private static final Set<Integer> SLOT_MINUTES = Set.of(15, 30, 60);
+    
+    // 참석자 일정으로 보는 초대 상태 (거절한 초대는 제외)
+    private static final List<InviteStatus> BUSY_INVITE_STATUSES = List.of(InviteStatus.PENDING, InviteStatus.ACCEPTED);
+    
+    private final UserRepository userRepository;
+    private final RoomRepository roomRepository;
+    private final RentRepository rentRepository;
+    private final UserInviteRepository userInviteRepository;
+    private final RoomRentRepository roomRentRepository;
+    
+    @Override
+    public List<MeetingSlotResponse> findMeetingSlots(MeetingSlotSearchRequest request) {
+        int slotMinutes = request.getSlotMinutes();
+        if (!SLOT_MINUTES.contains(slotMinutes)) {
+            throw new IllegalArgumentException("시작 시간 간격은 15, 30, 60분 중 하나여야 합니다");
+        }
+        LocalTime workdayStart = request.getWorkdayStart() != null ? request.getWorkdayStart() : LocalTime.of(9, 0);
+        LocalTime workdayEnd = request.getWorkdayEnd() != null ? request.getWorkdayEnd() : LocalTime.of(18, 0);
+        if (!workdayStart.isBefore(workdayEnd)) {
+            throw new IllegalArgumentException("근무 시작 시각은 근무 종료 시각보다 이전이어야 합니다");
+        }
+        
+        // 지난 시간은 제외하고 슬롯 경계에서 시작
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowStart = alignUp(request.getFrom().isBefore(now) ? now : request.getFrom(), slotMinutes);
+        if (!windowStart.isBefore(request.getTo())) {
+            throw new IllegalArgumentException("검색 종료 시간은 검색 시작 시간(과거이면 현재)보다 이후여야 합니다");
+        }
+        if (Duration.between(windowStart, request.getTo()).compareTo(MAX_SEARCH_WINDOW) > 0) {
+            throw new IllegalArgumentException("검색 범위는 최대 " + MAX_SEARCH_WINDOW.toDays() + "일입니다");
+        }
+        int slotCount = (int) (Duration.between(windowStart, request.getTo()).toMinutes() / slotMinutes);
+        int durationSlots = (request.getDurationMinutes() + slotMinutes - 1) / slotMinutes;
+        LocalDateTime windowEnd = windowStart.plusMinutes((long) slotCount * slotMinutes);
+        
+        Set<Long> attendeeIds = new LinkedHashSet<>(request.getAttendeeIds());
+        if (userRepository.countByIdIn(attendeeIds) != attendeeIds.size()) {
+            throw new NotFoundException("존재하지 않는 참석자가 포함되어 있습니다. ID: " + attendeeIds);
+        }
+        List<RoomResponse> rooms = findCandidateRooms(request, attendeeIds.size());
+        if (rooms.isEmpty() || durationSlots > slotCount) {
+            return new ArrayList<>();
+        }
+        
+        // 참석자 점유 + 제외 시간
+        BitSet blocked = outsideWorkingHours(windowStart, slotCount, slotMinutes, workdayStart, workdayEnd,
+                request.isIncludeWeekends());
+        for (UserBusyView busy : rentRepository.findCreatorBusyViews(attendeeIds, windowStart, windowEnd)) {
+            markBusy(blocked, windowStart, slotMinutes, slotCount, busy.startTime(), busy.endTime());
+        }
+        for (UserBusyView busy : userInviteRepository.findBusyViewsByUserIdIn(
+                attendeeIds, BUSY_INVITE_STATUSES, windowStart, windowEnd)) {
+            markBusy(blocked, windowStart, slotMinutes, slotCount, busy.startTime(), busy.endTime());
+        }
+        
+        // 회의실 점유
+        List<Long> roomIds = rooms.stream().map(RoomResponse::getId).collect(Collectors.toList());
+        Map<Long, BitSet> roomBusy = new HashMap<>();
+        for (RoomBookingView booking : roomRentRepository.findConflictingBookingViews(roomIds, windowStart, windowEnd, null)) {
+            BitSet busy = roomBusy.computeIfAbsent(booking.roomId(), id -> new BitSet(slotCount));
+            markBusy(busy, windowStart, slotMinutes, slotCount, booking.startTime(), booking.endTime());
+        }
+        
+        // 시작 슬롯 -> 그 시간에 비어 있는 회의실 (회의실 이름 순)
+        // 전체에서 가장 이른 limit개 시작 슬롯은 각 회의실의 가장 이른 limit개 안에 있으므로 회의실마다 limit개까지만 수집
+        int limit = request.getLimit();
+        TreeMap<Integer, List<Long>> roomIdsByStartSlot = new TreeMap<>();
+        for (RoomResponse room : rooms) {
+            BitSet busy = (BitSet) blocked.clone();
+            BitSet occupied = roomBusy.get(room.getId());
+            if (occupied != null) {
+                busy.or(occupied);
+            }
+            int found = 0;
+            int freeStart = busy.nextClearBit(0);
+            while (freeStart < slotCount && found < limit) {
+                int nextBusy = busy.nextSetBit(freeStart);
+                int freeEnd = nextBusy < 0 ? slotCount : Math.min(nextBusy, slotCount);
+                for (int slot = freeStart; slot + durationSlots <= freeEnd && found < limit; slot++) {
+                    roomIdsByStartSlot.computeIfAbsent(slot, s -> new ArrayList<>()).add(room.getId());
+                    found++;
+                }
+                freeStart = busy.nextClearBit(freeEnd);
+            }
+        }
+        
+        Duration duration = Duration.ofMinutes(request.getDurationMinutes());
+        List<MeetingSlotResponse> slots = new ArrayList<>();
+        for (Map.Entry<Integer, List<Long>> entry : roomIdsByStartSlot.entrySet()) {
+            if (slots.size() >= limit) {
+                break;
+            }
+            LocalDateTime startTime = windowStart.plusMinutes((long) entry.getKey() * slotMinutes);
+            slots.add(new MeetingSlotResponse(startTime, startTime.plus(duration), entry.getValue()));
+        }
+        return slots;
+    }
+    
+    /**
+     * 후보 회의실 조회 (이름 순)
+     * roomIds를 지정하면 해당 회의실만, 아니면 수용 인원(기본 참석자 수)/위치 조건으로 필터링
+     */
+    private List<RoomResponse> findCandidateRooms(MeetingSlotSearchRequest request, int attendeeCount) {
+        if (request.getRoomIds() != null && !request.getRoomIds().isEmpty()) {
+            Set<Long> requestedRoomIds = new LinkedHashSet<>(request.getRoomIds());
+            List<RoomResponse> rooms = roomRepository.findAllResponsesOrderByName().stream()
+                    .filter(room -> requestedRoomIds.contains(room.getId()))
+                    .collect(Collectors.toList());
+            if (rooms.size() != requestedRoomIds.size()) {
+                throw new NotFoundException("존재하지 않는 회의실이 포함되어 있습니다. ID: " + requestedRoomIds);
+            }
+            return rooms;
+        }
+        Integer minCapacity = request.getMinCapacity() != null ? request.getMinCapacity() : attendeeCount;
+        String location = request.getLocation() == null || request.getLocation().isBlank() ? null : request.getLocation();
+        return roomRepository.findResponsesByFilter(minCapacity, location);
+    }
+    
+    /**
+     * 근무 시간 밖이거나 (주말 제외 시) 주말인 슬롯을 점유로 표시한 BitSet
+     */
+    private BitSet outsideWorkingHours(LocalDateTime windowStart, int slotCount, int slotMinutes,
+                                       LocalTime workdayStart, LocalTime workdayEnd, boolean includeWeekends) {
+        int workdayStartMinute = workdayStart.getHour() * 60 + workdayStart.getMinute();
+        int workdayEndMinute = workdayEnd.getHour() * 60 + workdayEnd.getMinute();
+        BitSet blocked = new BitSet(slotCount);
+        for (int slot = 0; slot < slotCount; slot++) {
+            LocalDateTime slotStart = windowStart.plusMinutes((long) slot * slotMinutes);
+            DayOfWeek day = slotStart.getDayOfWeek();
+            int minute = slotStart.getHour() * 60 + slotStart.getMinute();
+            boolean weekend = day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
+            if ((weekend && !includeWeekends) || minute < workdayStartMinute || minute + slotMinutes > workdayEndMinute) {
+                blocked.set(slot);
+            }
+        }
+        return blocked;
+    }
+    
+    /**
+     * [startTime, endTime)과 겹치는 슬롯을 점유로 표시 (검색 범위로 자름)
+     */
+    private void markBusy(BitSet busy, LocalDateTime windowStart, int slotMinutes, int slotCount,
+                          LocalDateTime startTime, LocalDateTime endTime) {
+        long slotSeconds = slotMinutes * 60L;
+        long fromSeconds = Duration.between(windowStart, startTime).getSeconds();
+        long toSeconds = Duration.between(windowStart, endTime).getSeconds();
+        int fromSlot = (int) Math.max(Math.floorDiv(fromSeconds, slotSeconds), 0);
+        int toSlot = (int) Math.min(Math.floorDiv(toSeconds + slotSeconds - 1, slotSeconds), slotCount);
+        if (fromSlot < toSlot) {
+            busy.set(fromSlot, toSlot);
+        }
+    }
+    
+    /**
+     * 슬롯 길이 단위로 올림 (이미 맞으면 그대로)
+     */
+    private static LocalDateTime alignUp(LocalDateTime time, int slotMinutes) {
+        LocalDateTime truncated = time.truncatedTo(ChronoUnit.MINUTES);
+        int remainder = truncated.getMinute() % slotMinutes;
+        if (remainder == 0 && truncated.equals(time)) {
+            return time;
+        }
+        return truncated.plusMinutes(slotMinutes - remainder);
+    }
+}
@@ -0,0 +1,58 @@
+package com.conferent.services.rent.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 예약 목록 키셋 페이지네이션 커서
+ * 
+ * 마지막으로 반환한 예약의 (startTime, id)를 Base64(URL-safe)로 인코딩한 불투명 문자열.
+ * 클라이언트는 내용을 해석하지 않고 그대로 다음 요청에 전달한다.
+ */
+final class RentCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime startTime;
+    private final Long id;
+
+    RentCursor(LocalDateTime startTime, Long id) {
+        this.startTime = startTime;
+        this.id = id;
+    }
+
+    LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    /**
+     * 커서를 문자열로 인코딩
+     */
+    String encode() {
+        String raw = startTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 문자열 커서 디코딩
+     * 
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    static RentCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            LocalDateTime startTime = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            Long id = Long.valueOf(raw.substring(separatorIndex + 1));
+            return new RentCursor(startTime, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 페이지 커서입니다: " + cursor);
+        }
+    }
+}
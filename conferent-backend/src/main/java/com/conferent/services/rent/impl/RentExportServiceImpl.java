@@ -0,0 +1,163 @@
+package com.conferent.services.rent.impl;
+
+import com.conferent.dtos.rent.RentResponse;
+import com.conferent.dtos.room.RoomResponse;
+import com.conferent.entities.Rent;
+import com.conferent.enums.RentExportFormat;
+import com.conferent.repositories.rent.RentRepository;
+import com.conferent.services.rent.RentExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 내보내기 서비스 구현
+ * 
+ * 메모리 사용량을 기간 크기와 무관하게 유지하기 위해 (시작시간, ID) 키셋 페이지 단위로 처리한다:
+ * 1. 페이지마다 짧은 읽기 전용 트랜잭션에서 PAGE_SIZE건을 읽고
+ * 2. 같은 트랜잭션에서 RentResponseAssembler로 연관 데이터를 IN 쿼리로 일괄 로드해 응답으로 변환한 뒤
+ * 3. 트랜잭션을 닫고 출력 스트림에 기록한다
+ * 
+ * 열린 커서 위에서 다른 쿼리를 실행하면 MariaDB 드라이버가 남은 결과 전체를 메모리에 버퍼링하므로
+ * 스트리밍 커서 대신 페이지 조회를 사용한다. 느린 클라이언트에 기록하는 동안에는 커넥션을 잡지 않는다.
+ */
+@Slf4j
+@Service
+public class RentExportServiceImpl implements RentExportService {
+    
+    // 한 번에 읽고 연관 데이터를 일괄 조회하는 단위
+    private static final int PAGE_SIZE = 200;
+    
+    private static final String CSV_HEADER =
+            "id,startTime,endTime,purpose,description,creatorId,creatorName,creatorEmail,rooms,inviteeCount";
+    
+    private final RentRepository rentRepository;
+    private final RentResponseAssembler rentResponseAssembler;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate pageTransaction;
+    
+    public RentExportServiceImpl(RentRepository rentRepository,
+                                 RentResponseAssembler rentResponseAssembler,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager) {
+        this.rentRepository = rentRepository;
+        this.rentResponseAssembler = rentResponseAssembler;
+        this.objectMapper = objectMapper;
+        this.pageTransaction = new TransactionTemplate(transactionManager);
+        this.pageTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.pageTransaction.setReadOnly(true);
+    }
+    
+    @Override
+    public void exportRentsByDateRange(LocalDateTime startDate, LocalDateTime endDate,
+                                       RentExportFormat format, OutputStream outputStream) throws IOException {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 이전이어야 합니다");
+        }
+        
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == RentExportFormat.CSV) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+            writer.write('\uFEFF');
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        
+        long exported = 0;
+        Page page = readPage(startDate, endDate, null);
+        while (!page.responses().isEmpty()) {
+            exported += writePage(page.responses(), format, writer);
+            if (page.responses().size() < PAGE_SIZE) {
+                break;
+            }
+            page = readPage(startDate, endDate, page);
+        }
+        writer.flush();
+        
+        log.info("예약 내보내기 완료 - 기간: {} ~ {}, 형식: {}, 건수: {}", startDate, endDate, format, exported);
+    }
+    
+    /**
+     * 이전 페이지의 마지막 예약 다음부터 한 페이지를 읽어 응답으로 변환 (페이지마다 별도 트랜잭션)
+     */
+    private Page readPage(LocalDateTime startDate, LocalDateTime endDate, Page previous) {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        return pageTransaction.execute(status -> {
+            List<Rent> rents = previous == null
+                    ? rentRepository.findPageByDateRange(startDate, endDate, pageable)
+                    : rentRepository.findPageByDateRangeAfter(startDate, endDate,
+                            previous.lastStartTime(), previous.lastId(), pageable);
+            if (rents.isEmpty()) {
+                return new Page(List.of(), null, null);
+            }
+            Rent last = rents.get(rents.size() - 1);
+            return new Page(rentResponseAssembler.toResponses(rents), last.getStartTime(), last.getId());
+        });
+    }
+    
+    private int writePage(List<RentResponse> responses, RentExportFormat format, Writer writer) throws IOException {
+        for (RentResponse response : responses) {
+            if (format == RentExportFormat.CSV) {
+                writeCsvLine(response, writer);
+            } else {
+                writer.write(objectMapper.writeValueAsString(response));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+        return responses.size();
+    }
+    
+    private void writeCsvLine(RentResponse response, Writer writer) throws IOException {
+        String rooms = response.getRooms().stream()
+                .map(RoomResponse::getName)
+                .collect(Collectors.joining(";"));
+        
+        writer.write(String.join(",",
+                String.valueOf(response.getId()),
+                String.valueOf(response.getStartTime()),
+                String.valueOf(response.getEndTime()),
+                csvEscape(response.getPurpose()),
+                csvEscape(response.getDescription()),
+                response.getCreator() != null ? String.valueOf(response.getCreator().getId()) : "",
+                response.getCreator() != null ? csvEscape(response.getCreator().getName()) : "",
+                response.getCreator() != null ? csvEscape(response.getCreator().getEmail()) : "",
+                csvEscape(rooms),
+                String.valueOf(response.getInvitees().size())));
+        writer.write('\n');
+    }
+    
+    /**
+     * CSV 필드 이스케이프 (RFC 4180)
+     */
+    private String csvEscape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+    
+    /**
+     * 변환된 한 페이지와 다음 페이지 커서 (마지막 예약의 시작시간, ID)
+     */
+    private record Page(List<RentResponse> responses, LocalDateTime lastStartTime, Long lastId) {
+    }
+}
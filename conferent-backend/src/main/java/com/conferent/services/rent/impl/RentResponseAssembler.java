@@ -0,0 +1,115 @@
+package com.conferent.services.rent.impl;
+
+import com.conferent.dtos.rent.InviteeResponse;
+import com.conferent.dtos.rent.RentResponse;
+import com.conferent.dtos.room.RoomResponse;
+import com.conferent.dtos.user.UserResponse;
+import com.conferent.entities.Rent;
+import com.conferent.repositories.roomrent.RentRoomView;
+import com.conferent.repositories.roomrent.RoomRentRepository;
+import com.conferent.repositories.user.UserRepository;
+import com.conferent.repositories.userinvite.RentInviteeView;
+import com.conferent.repositories.userinvite.UserInviteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rent 목록을 RentResponse 목록으로 조립하는 컴포넌트
+ *
+ * 예약마다 회의실/초대/생성자를 따로 조회하면 목록 크기에 비례해 쿼리가 늘어나므로,
+ * 예약 ID와 생성자 ID를 모아 IN 쿼리로 한 번에 조회한 뒤 메모리에서 조립한다.
+ * 연관 데이터는 응답에 필요한 컬럼만 DTO 프로젝션으로 조회하므로 엔티티(사용자 비밀번호 포함)를 로드하지 않는다.
+ * 목록 하나당 쿼리 수는 예약 수와 무관하게 (청크 수 × 3)으로 고정된다.
+ *
+ * 호출하는 쪽의 트랜잭션 안에서 사용해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RentResponseAssembler {
+
+    // IN 절에 한 번에 넣을 최대 ID 개수 (DB 파라미터 개수 제한 대비)
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
+    private final RoomRentRepository roomRentRepository;
+    private final UserInviteRepository userInviteRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 단일 예약 응답 조립
+     */
+    public RentResponse toResponse(Rent rent) {
+        return toResponses(Collections.singletonList(rent)).get(0);
+    }
+
+    /**
+     * 예약 목록 응답 조립 (입력 순서 유지)
+     */
+    public List<RentResponse> toResponses(List<Rent> rents) {
+        if (rents.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<RentResponse> responses = new ArrayList<>(rents.size());
+        for (int from = 0; from < rents.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Rent> chunk = rents.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, rents.size()));
+            responses.addAll(assembleChunk(chunk));
+        }
+        return responses;
+    }
+
+    private List<RentResponse> assembleChunk(List<Rent> rents) {
+        Set<Long> rentIds = new LinkedHashSet<>();
+        Set<Long> creatorIds = new LinkedHashSet<>();
+        for (Rent rent : rents) {
+            rentIds.add(rent.getId());
+            // 지연 로딩 프록시의 ID 조회는 초기화를 일으키지 않음
+            creatorIds.add(rent.getCreator().getId());
+        }
+
+        // 1. 생성자 일괄 조회
+        Map<Long, UserResponse> creators = new HashMap<>();
+        for (UserResponse user : userRepository.findResponsesByIdIn(creatorIds)) {
+            creators.put(user.getId(), user);
+        }
+
+        // 2. 회의실 일괄 조회
+        Map<Long, List<RoomResponse>> roomsByRentId = new HashMap<>();
+        for (RentRoomView view : roomRentRepository.findRoomViewsByRentIdIn(rentIds)) {
+            roomsByRentId.computeIfAbsent(view.rentId(), id -> new ArrayList<>())
+                    .add(view.toRoomResponse());
+        }
+
+        // 3. 초대 일괄 조회
+        Map<Long, List<InviteeResponse>> inviteesByRentId = new HashMap<>();
+        for (RentInviteeView view : userInviteRepository.findInviteeViewsByRentIdIn(rentIds)) {
+            inviteesByRentId.computeIfAbsent(view.rentId(), id -> new ArrayList<>())
+                    .add(view.toInviteeResponse());
+        }
+
+        List<RentResponse> responses = new ArrayList<>(rents.size());
+        for (Rent rent : rents) {
+            RentResponse response = new RentResponse();
+            response.setId(rent.getId());
+            response.setStartTime(rent.getStartTime());
+            response.setEndTime(rent.getEndTime());
+            response.setPurpose(rent.getPurpose());
+            response.setDescription(rent.getDescription());
+            response.setCreator(creators.get(rent.getCreator().getId()));
+            response.setCreatedAt(rent.getCreatedAt());
+            response.setUpdatedAt(rent.getUpdatedAt());
+            response.setSeriesId(rent.getSeries() != null ? rent.getSeries().getId() : null);
+            response.setRooms(roomsByRentId.getOrDefault(rent.getId(), new ArrayList<>()));
+            response.setInvitees(inviteesByRentId.getOrDefault(rent.getId(), new ArrayList<>()));
+            responses.add(response);
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,391 @@
+package com.conferent.services.rent.impl;
+
+import com.conferent.dtos.rent.CreateRentSeriesRequest;
+import com.conferent.dtos.rent.RentSeriesResponse;
+import com.conferent.dtos.rent.RoomConflictResponse;
+import com.conferent.dtos.rent.UpdateRentSeriesRequest;
+import com.conferent.entities.Rent;
+import com.conferent.entities.RentSeries;
+import com.conferent.entities.User;
+import com.conferent.enums.RecurrenceFrequency;
+import com.conferent.events.RentChangedEvent;
+import com.conferent.events.RentSnapshot;
+import com.conferent.exceptions.DuplicateReservationException;
+import com.conferent.exceptions.NotFoundException;
+import com.conferent.repositories.rent.RentRepository;
+import com.conferent.repositories.rentseries.RentSeriesRepository;
+import com.conferent.repositories.room.RoomRepository;
+import com.conferent.repositories.roomrent.RoomBookingView;
+import com.conferent.repositories.roomrent.RoomRentBatchRepository;
+import com.conferent.repositories.roomrent.RoomRentRepository;
+import com.conferent.repositories.user.UserRepository;
+import com.conferent.repositories.userinvite.UserInviteBatchRepository;
+import com.conferent.services.rent.RentSeriesService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 예약 비즈니스 로직 구현 클래스
+ * 
+ * 회차는 series_id를 가진 Rent로 미리 생성한다.
+ * - 충돌 검사: 전체 기간을 회의실 전체에 대해 한 번의 범위 조회로 가져온 뒤,
+ *   회의실별로 정렬된 회차 목록에서 이진 탐색으로 겹침을 확인
+ * - 저장: 예약은 JPA로, 회의실 연결과 초대는 JDBC 배치로 일괄 저장
+ * - "이 회차 및 이후 회차" 수정: 이전 회차는 건드리지 않고 이후 회차만 새 반복 예약으로 분리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RentSeriesServiceImpl implements RentSeriesService {
+    
+    // 한 번에 생성할 수 있는 최대 회차 수
+    private static final int MAX_OCCURRENCES = 366;
+    
+    // 충돌 오류 메시지에 표시할 최대 건수
+    private static final int MAX_REPORTED_CONFLICTS = 5;
+    
+    private final RentSeriesRepository rentSeriesRepository;
+    private final RentRepository rentRepository;
+    private final RoomRepository roomRepository;
+    private final RoomRentRepository roomRentRepository;
+    private final RoomRentBatchRepository roomRentBatchRepository;
+    private final UserInviteBatchRepository userInviteBatchRepository;
+    private final UserRepository userRepository;
+    private final RoomLocker roomLocker;
+    private final RentResponseAssembler rentResponseAssembler;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Override
+    public RentSeriesResponse createSeries(CreateRentSeriesRequest request) {
+        // 입력 유효성 검증
+        if (!request.isValidTimeRange()) {
+            throw new IllegalArgumentException("시작 시간은 종료 시간보다 이전이어야 합니다");
+        }
+        if (request.getUntilDate() == null && request.getCount() == null) {
+            throw new IllegalArgumentException("반복 종료일 또는 반복 횟수 중 하나는 필수입니다");
+        }
+        int interval = request.getInterval() != null ? request.getInterval() : 1;
+        
+        // 회의실 잠금 (트랜잭션의 첫 조회여야 이후 충돌 검사가 잠금 이후 커밋된 예약까지 봄)
+        Set<Long> roomIds = new LinkedHashSet<>(request.getRoomIds());
+        roomLocker.lock(roomIds);
+        
+        // 회차 전개
+        List<Occurrence> occurrences = expand(request.getStartTime(),
+                Duration.between(request.getStartTime(), request.getEndTime()),
+                request.getFrequency(), interval, request.getUntilDate(), request.getCount());
+        
+        // 전체 기간 충돌 검사
+        Map<Long, List<Occurrence>> occurrencesByRoom = new HashMap<>();
+        for (Long roomId : roomIds) {
+            occurrencesByRoom.put(roomId, occurrences);
+        }
+        List<RoomConflictResponse> conflicts = findConflicts(occurrencesByRoom, Collections.emptySet());
+        if (!conflicts.isEmpty()) {
+            throw new DuplicateReservationException(conflictMessage(conflicts));
+        }
+        
+        // 생성자와 초대 대상을 한 번의 IN 쿼리로 확인
+        Set<Long> inviteeIds = request.getInviteeIds() != null
+                ? new LinkedHashSet<>(request.getInviteeIds())
+                : new LinkedHashSet<>();
+        User creator = findCreatorAndValidateInvitees(request.getCreatorId(), inviteeIds);
+        
+        // 반복 규칙 저장
+        RentSeries series = new RentSeries();
+        series.setFrequency(request.getFrequency());
+        series.setRepeatInterval(interval);
+        series.setUntilDate(request.getUntilDate());
+        series.setOccurrenceCount(request.getCount());
+        series.setCreator(creator);
+        rentSeriesRepository.save(series);
+        
+        // 회차 저장
+        List<Rent> rents = new ArrayList<>(occurrences.size());
+        for (Occurrence occurrence : occurrences) {
+            Rent rent = new Rent();
+            rent.setStartTime(occurrence.startTime());
+            rent.setEndTime(occurrence.endTime());
+            rent.setPurpose(request.getPurpose());
+            rent.setDescription(request.getDescription());
+            rent.setCreator(creator);
+            rent.setSeries(series);
+            rents.add(rent);
+        }
+        rentRepository.saveAll(rents);
+        
+        // 회의실 연결과 초대 일괄 저장 (회차 × 회의실, 회차 × 회의실 × 초대 대상)
+        List<Long> rentIds = rents.stream()
+                .map(Rent::getId)
+                .collect(Collectors.toList());
+        LocalDateTime now = LocalDateTime.now();
+        roomRentBatchRepository.insertLinks(rentIds, roomIds, now);
+        userInviteBatchRepository.insertPendingInvitesForSeries(series.getId(), inviteeIds, now);
+        
+        List<Long> roomIdList = new ArrayList<>(roomIds);
+        for (Rent rent : rents) {
+            eventPublisher.publishEvent(RentChangedEvent.created(
+                    new RentSnapshot(rent.getId(), rent.getStartTime(), rent.getEndTime(), roomIdList)));
+        }
+        
+        log.info("반복 예약 생성 - ID: {}, 주기: {}, 회차 수: {}", series.getId(), series.getFrequency(), rents.size());
+        return RentSeriesResponse.from(series, rentResponseAssembler.toResponses(rents));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public RentSeriesResponse getSeries(Long id) {
+        RentSeries series = rentSeriesRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("반복 예약을 찾을 수 없습니다. ID: " + id));
+        List<Rent> rents = rentRepository.findBySeriesIdOrderByStartTime(id);
+        return RentSeriesResponse.from(series, rentResponseAssembler.toResponses(rents));
+    }
+    
+    @Override
+    public RentSeriesResponse updateFollowing(Long seriesId, Long rentId, UpdateRentSeriesRequest request) {
+        // 입력 유효성 검증
+        if (!request.isValidTimeRange()) {
+            throw new IllegalArgumentException("시작 시간은 종료 시간보다 이전이어야 합니다");
+        }
+        
+        // 이후 회차가 사용하는 회의실 잠금 (트랜잭션의 첫 조회)
+        roomRepository.findAllForSeriesOccurrencesFromForUpdate(seriesId, rentId);
+        
+        RentSeries series = rentSeriesRepository.findById(seriesId)
+                .orElseThrow(() -> new NotFoundException("반복 예약을 찾을 수 없습니다. ID: " + seriesId));
+        Rent pivot = rentRepository.findById(rentId)
+                .orElseThrow(() -> new NotFoundException("예약을 찾을 수 없습니다. ID: " + rentId));
+        if (pivot.getSeries() == null || !pivot.getSeries().getId().equals(seriesId)) {
+            throw new IllegalArgumentException("예약 ID " + rentId + "는 반복 예약 ID " + seriesId + "의 회차가 아닙니다");
+        }
+        
+        LocalDateTime pivotStartTime = pivot.getStartTime();
+        List<Rent> following = rentRepository.findSeriesOccurrencesFrom(seriesId, pivotStartTime);
+        Set<Long> followingIds = following.stream()
+                .map(Rent::getId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        
+        // 회차별 회의실 (회차마다 개별 수정으로 회의실이 다를 수 있음)
+        Map<Long, List<Long>> roomIdsByRentId = new HashMap<>();
+        for (RoomBookingView view : roomRentRepository.findBookingViewsByRentIdIn(followingIds)) {
+            roomIdsByRentId.computeIfAbsent(view.rentId(), id -> new ArrayList<>()).add(view.roomId());
+        }
+        
+        // 기준 회차의 이동량과 새 길이를 이후 회차 모두에 적용
+        Duration shift = Duration.between(pivotStartTime, request.getStartTime());
+        Duration duration = Duration.between(request.getStartTime(), request.getEndTime());
+        Map<Long, Occurrence> moved = new HashMap<>();
+        Map<Long, List<Occurrence>> occurrencesByRoom = new HashMap<>();
+        Occurrence previous = null;
+        for (Rent rent : following) {
+            LocalDateTime startTime = rent.getStartTime().plus(shift);
+            Occurrence occurrence = new Occurrence(startTime, startTime.plus(duration));
+            if (previous != null && occurrence.startTime().isBefore(previous.endTime())) {
+                throw new IllegalArgumentException("예약 시간이 반복 간격보다 길어 회차끼리 겹칩니다");
+            }
+            previous = occurrence;
+            moved.put(rent.getId(), occurrence);
+            for (Long roomId : roomIdsByRentId.getOrDefault(rent.getId(), Collections.emptyList())) {
+                occurrencesByRoom.computeIfAbsent(roomId, id -> new ArrayList<>()).add(occurrence);
+            }
+        }
+        
+        // 이동할 회차 자신은 제외하고 충돌 검사
+        List<RoomConflictResponse> conflicts = findConflicts(occurrencesByRoom, followingIds);
+        if (!conflicts.isEmpty()) {
+            throw new DuplicateReservationException(conflictMessage(conflicts));
+        }
+        
+        // 기준 회차 이전 회차가 있으면 반복 예약을 분리 (이전 회차는 그대로 둠)
+        RentSeries target = splitAt(series, pivotStartTime, following.size());
+        if (series.getUntilDate() != null && previous != null) {
+            target.setUntilDate(previous.startTime().toLocalDate());
+        }
+        
+        // 이후 회차만 관리 중인 엔티티에 직접 반영 (변경 감지 UPDATE)
+        for (Rent rent : following) {
+            RentSnapshot before = new RentSnapshot(rent.getId(), rent.getStartTime(), rent.getEndTime(),
+                    roomIdsByRentId.getOrDefault(rent.getId(), Collections.emptyList()));
+            Occurrence occurrence = moved.get(rent.getId());
+            rent.setStartTime(occurrence.startTime());
+            rent.setEndTime(occurrence.endTime());
+            rent.setPurpose(request.getPurpose());
+            rent.setDescription(request.getDescription());
+            rent.setSeries(target);
+            eventPublisher.publishEvent(RentChangedEvent.updated(before,
+                    new RentSnapshot(rent.getId(), occurrence.startTime(), occurrence.endTime(), before.roomIds())));
+        }
+        
+        log.info("반복 예약 이후 회차 수정 - 반복 예약 ID: {}, 기준 예약 ID: {}, 대상 반복 예약 ID: {}, 회차 수: {}",
+                seriesId, rentId, target.getId(), following.size());
+        return RentSeriesResponse.from(target, rentResponseAssembler.toResponses(following));
+    }
+    
+    /**
+     * 기준 시각에서 반복 예약 분리
+     * 기준 시각 이전 회차가 없으면 기존 반복 예약을 그대로 사용하고,
+     * 있으면 기존 반복 예약은 기준 시각 전까지로 줄이고 같은 규칙의 새 반복 예약을 만든다.
+     */
+    private RentSeries splitAt(RentSeries series, LocalDateTime pivotStartTime, int followingCount) {
+        long earlierCount = rentRepository.countBySeriesIdAndStartTimeBefore(series.getId(), pivotStartTime);
+        if (earlierCount == 0) {
+            if (series.getOccurrenceCount() != null) {
+                series.setOccurrenceCount(followingCount);
+            }
+            return series;
+        }
+        
+        RentSeries following = new RentSeries();
+        following.setFrequency(series.getFrequency());
+        following.setRepeatInterval(series.getRepeatInterval());
+        following.setCreator(series.getCreator());
+        following.setUntilDate(series.getUntilDate());
+        if (series.getOccurrenceCount() != null) {
+            following.setOccurrenceCount(followingCount);
+            series.setOccurrenceCount((int) earlierCount);
+        }
+        if (series.getUntilDate() != null) {
+            series.setUntilDate(pivotStartTime.toLocalDate().minusDays(1));
+        }
+        return rentSeriesRepository.save(following);
+    }
+    
+    /**
+     * 반복 규칙으로 회차 전개 (시작 시간 순)
+     * 매 회차를 첫 회차 기준으로 계산하여 월말 보정이 누적되지 않도록 한다.
+     */
+    private List<Occurrence> expand(LocalDateTime firstStartTime, Duration duration, RecurrenceFrequency frequency,
+                                    int interval, LocalDate untilDate, Integer count) {
+        List<Occurrence> occurrences = new ArrayList<>();
+        for (long step = 0; count == null || step < count; step++) {
+            LocalDateTime startTime = frequency.advance(firstStartTime, step * interval);
+            if (untilDate != null && startTime.toLocalDate().isAfter(untilDate)) {
+                break;
+            }
+            if (occurrences.size() >= MAX_OCCURRENCES) {
+                throw new IllegalArgumentException("반복 예약은 최대 " + MAX_OCCURRENCES + "회까지 생성할 수 있습니다");
+            }
+            Occurrence occurrence = new Occurrence(startTime, startTime.plus(duration));
+            if (!occurrences.isEmpty() && startTime.isBefore(occurrences.get(occurrences.size() - 1).endTime())) {
+                throw new IllegalArgumentException("예약 시간이 반복 간격보다 길어 회차끼리 겹칩니다");
+            }
+            occurrences.add(occurrence);
+        }
+        if (occurrences.isEmpty()) {
+            throw new IllegalArgumentException("반복 종료일이 첫 회차 시작일보다 이전입니다");
+        }
+        return occurrences;
+    }
+    
+    /**
+     * 회의실별 회차 목록과 기존 예약의 충돌 조회
+     * 
+     * 전체 기간의 기존 예약을 회의실 전체에 대해 한 번에 조회한 뒤,
+     * 기존 예약마다 회차 목록(시작 시간 순, 서로 겹치지 않음)에서 이진 탐색으로 겹침을 확인한다.
+     */
+    private List<RoomConflictResponse> findConflicts(Map<Long, List<Occurrence>> occurrencesByRoom, Set<Long> excludedRentIds) {
+        List<RoomConflictResponse> conflicts = new ArrayList<>();
+        if (occurrencesByRoom.isEmpty()) {
+            return conflicts;
+        }
+        
+        LocalDateTime horizonStart = null;
+        LocalDateTime horizonEnd = null;
+        for (List<Occurrence> occurrences : occurrencesByRoom.values()) {
+            Occurrence first = occurrences.get(0);
+            Occurrence last = occurrences.get(occurrences.size() - 1);
+            if (horizonStart == null || first.startTime().isBefore(horizonStart)) {
+                horizonStart = first.startTime();
+            }
+            if (horizonEnd == null || last.endTime().isAfter(horizonEnd)) {
+                horizonEnd = last.endTime();
+            }
+        }
+        
+        Collection<Long> roomIds = occurrencesByRoom.keySet();
+        for (RoomBookingView booking : roomRentRepository.findConflictingBookingViews(roomIds, horizonStart, horizonEnd, null)) {
+            if (excludedRentIds.contains(booking.rentId())) {
+                continue;
+            }
+            List<Occurrence> occurrences = occurrencesByRoom.get(booking.roomId());
+            int index = firstEndingAfter(occurrences, booking.startTime());
+            if (index < occurrences.size() && occurrences.get(index).startTime().isBefore(booking.endTime())) {
+                conflicts.add(new RoomConflictResponse(booking.roomId(), booking.rentId(), booking.startTime(), booking.endTime()));
+            }
+        }
+        return conflicts;
+    }
+    
+    /**
+     * 종료 시각이 주어진 시각 이후인 첫 회차의 인덱스 (없으면 목록 크기)
+     */
+    private static int firstEndingAfter(List<Occurrence> occurrences, LocalDateTime time) {
+        int low = 0;
+        int high = occurrences.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (occurrences.get(mid).endTime().isAfter(time)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+    
+    private String conflictMessage(List<RoomConflictResponse> conflicts) {
+        String details = conflicts.stream()
+                .limit(MAX_REPORTED_CONFLICTS)
+                .map(c -> "회의실 ID " + c.getRoomId() + " (" + c.getStartTime() + " ~ " + c.getEndTime() + ")")
+                .collect(Collectors.joining(", "));
+        String more = conflicts.size() > MAX_REPORTED_CONFLICTS
+                ? " 외 " + (conflicts.size() - MAX_REPORTED_CONFLICTS) + "건"
+                : "";
+        return "반복 예약 중 이미 예약된 시간대와 겹치는 회차가 있습니다: " + details + more;
+    }
+    
+    /**
+     * 생성자 조회 및 초대 대상 존재 확인 (한 번의 IN 쿼리)
+     */
+    private User findCreatorAndValidateInvitees(Long creatorId, Set<Long> inviteeIds) {
+        Set<Long> userIds = new LinkedHashSet<>(inviteeIds);
+        userIds.add(creatorId);
+        Map<Long, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            users.put(user.getId(), user);
+        }
+        User creator = users.get(creatorId);
+        if (creator == null) {
+            throw new NotFoundException("사용자를 찾을 수 없습니다. ID: " + creatorId);
+        }
+        for (Long inviteeId : inviteeIds) {
+            if (!users.containsKey(inviteeId)) {
+                throw new NotFoundException("초대할 사용자를 찾을 수 없습니다. ID: " + inviteeId);
+            }
+        }
+        return creator;
+    }
+    
+    /**
+     * 회차 시간 구간 [startTime, endTime)
+     */
+    private record Occurrence(LocalDateTime startTime, LocalDateTime endTime) {
+    }
+}
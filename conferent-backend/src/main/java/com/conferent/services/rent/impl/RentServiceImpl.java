@@ -1,29 +1,42 @@
 package com.conferent.services.rent.impl;
 
 import com.conferent.dtos.rent.CreateRentRequest;
+import com.conferent.dtos.rent.RentConflictResponse;
+import com.conferent.dtos.rent.RentPageResponse;
 import com.conferent.dtos.rent.RentResponse;
-import com.conferent.dtos.room.RoomResponse;
-import com.conferent.dtos.rent.InviteeResponse;
+import com.conferent.dtos.rent.RoomConflictResponse;
 import com.conferent.entities.Rent;
 import com.conferent.entities.User;
 import com.conferent.entities.Room;
 import com.conferent.entities.RoomRent;
-import com.conferent.entities.UserInvite;
-import com.conferent.enums.InviteStatus;
+import com.conferent.events.RentChangedEvent;
+import com.conferent.events.RentSnapshot;
 import com.conferent.exceptions.NotFoundException;
 import com.conferent.exceptions.DuplicateReservationException;
 import com.conferent.repositories.rent.RentRepository;
+import com.conferent.repositories.roomrent.RoomBookingView;
 import com.conferent.repositories.roomrent.RoomRentRepository;
+import com.conferent.repositories.userinvite.UserInviteBatchRepository;
 import com.conferent.repositories.userinvite.UserInviteRepository;
 import com.conferent.repositories.user.UserRepository;
-import com.conferent.repositories.room.RoomRepository;
 import com.conferent.services.rent.RentService;
+import com.conferent.services.rent.index.RoomIntervalIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,19 +44,23 @@ import java.util.stream.Collectors;
 @Transactional
 public class RentServiceImpl implements RentService {
     
+    // 커서 페이지 최대 크기
+    private static final int MAX_PAGE_LIMIT = 100;
+    
     private final RentRepository rentRepository;
     private final RoomRentRepository roomRentRepository;
     private final UserInviteRepository userInviteRepository;
+    private final UserInviteBatchRepository userInviteBatchRepository;
     private final UserRepository userRepository;
-    private final RoomRepository roomRepository;
+    private final RentResponseAssembler rentResponseAssembler;
+    private final RoomLocker roomLocker;
+    private final RoomIntervalIndex roomIntervalIndex;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     @Transactional(readOnly = true)
     public List<RentResponse> getAllRents() {
-        return rentRepository.findAllOrderByStartTimeDesc()
-                .stream()
-                .map(this::convertToRentResponse)
-                .collect(Collectors.toList());
+        return rentResponseAssembler.toResponses(rentRepository.findAllOrderByStartTimeDesc());
     }
     
     @Override
@@ -51,52 +68,37 @@ public class RentServiceImpl implements RentService {
     public RentResponse getRentById(Long id) {
         Rent rent = rentRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("예약을 찾을 수 없습니다. ID: " + id));
-        return convertToRentResponse(rent);
+        return rentResponseAssembler.toResponse(rent);
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<RentResponse> getRentsByCreatorId(Long creatorId) {
-        return rentRepository.findByCreatorIdOrderByStartTimeDesc(creatorId)
-                .stream()
-                .map(this::convertToRentResponse)
-                .collect(Collectors.toList());
+        return rentResponseAssembler.toResponses(rentRepository.findByCreatorIdOrderByStartTimeDesc(creatorId));
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<RentResponse> getRentsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        return rentRepository.findByDateRange(startDate, endDate)
-                .stream()
-                .map(this::convertToRentResponse)
-                .collect(Collectors.toList());
+        return rentResponseAssembler.toResponses(rentRepository.findByDateRange(startDate, endDate));
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<RentResponse> getUpcomingRents(LocalDateTime fromTime) {
-        return rentRepository.findByStartTimeAfterOrderByStartTime(fromTime)
-                .stream()
-                .map(this::convertToRentResponse)
-                .collect(Collectors.toList());
+        return rentResponseAssembler.toResponses(rentRepository.findByStartTimeAfterOrderByStartTime(fromTime));
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<RentResponse> searchRentsByPurpose(String purpose) {
-        return rentRepository.findByPurposeContainingOrderByStartTimeDesc(purpose)
-                .stream()
-                .map(this::convertToRentResponse)
-                .collect(Collectors.toList());
+        return rentResponseAssembler.toResponses(rentRepository.findByPurposeContainingOrderByStartTimeDesc(purpose));
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<RentResponse> getRentsByRoomId(Long roomId) {
-        return rentRepository.findByRoomId(roomId)
-                .stream()
-                .map(this::convertToRentResponse)
-                .collect(Collectors.toList());
+        return rentResponseAssembler.toResponses(rentRepository.findByRoomId(roomId));
     }
     
     @Override
@@ -106,105 +108,102 @@ public class RentServiceImpl implements RentService {
             throw new IllegalArgumentException("시작 시간은 종료 시간보다 이전이어야 합니다");
         }
         
-        // 시간 충돌 검사
-        if (hasTimeConflict(request.getRoomIds(), request.getStartTime(), request.getEndTime())) {
+        // 회의실 잠금 (같은 회의실에 대한 예약 쓰기를 직렬화)
+        Map<Long, Room> rooms = roomLocker.lock(request.getRoomIds());
+        
+        // 시간 충돌 검사 (쓰기 경로는 항상 DB 기준으로 검증)
+        if (hasTimeConflictInDatabase(request.getRoomIds(), request.getStartTime(), request.getEndTime(), null)) {
             throw new DuplicateReservationException("선택한 시간대에 이미 예약된 회의실이 있습니다");
         }
         
-        // 생성자 확인
-        User creator = userRepository.findById(request.getCreatorId())
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다. ID: " + request.getCreatorId()));
+        // 생성자와 초대 대상을 한 번의 IN 쿼리로 확인
+        Set<Long> inviteeIds = request.getInviteeIds() != null
+                ? new LinkedHashSet<>(request.getInviteeIds())
+                : new LinkedHashSet<>();
+        Map<Long, User> users = findUsersByIds(request.getCreatorId(), inviteeIds);
+        User creator = users.get(request.getCreatorId());
+        if (creator == null) {
+            throw new NotFoundException("사용자를 찾을 수 없습니다. ID: " + request.getCreatorId());
+        }
+        for (Long inviteeId : inviteeIds) {
+            if (!users.containsKey(inviteeId)) {
+                throw new NotFoundException("초대할 사용자를 찾을 수 없습니다. ID: " + inviteeId);
+            }
+        }
         
         // 예약 생성
-        Rent rent = new Rent();
-        // 필드 직접 설정을 위해 리플렉션 대신 빌더 패턴 적용 필요
-        // 임시로 생성자 사용
-        rent = createRentEntity(request.getStartTime(), request.getEndTime(), 
-                               request.getPurpose(), request.getDescription(), creator);
-        
+        Rent rent = createRentEntity(request.getStartTime(), request.getEndTime(), 
+                                     request.getPurpose(), request.getDescription(), creator);
         Rent savedRent = rentRepository.save(rent);
         
-        // 회의실 연결 생성
-        for (Long roomId : request.getRoomIds()) {
-            Room room = roomRepository.findById(roomId)
-                    .orElseThrow(() -> new NotFoundException("회의실을 찾을 수 없습니다. ID: " + roomId));
-            
+        // 회의실 연결 생성 (생성된 연결은 초대 저장에 그대로 사용)
+        List<RoomRent> roomRents = new ArrayList<>();
+        for (Long roomId : new LinkedHashSet<>(request.getRoomIds())) {
             RoomRent roomRent = new RoomRent();
             roomRent.setRent(savedRent);
-            roomRent.setRoom(room);
-            roomRentRepository.save(roomRent);
+            roomRent.setRoom(rooms.get(roomId));
+            roomRents.add(roomRent);
         }
+        roomRentRepository.saveAll(roomRents);
         
-        // 사용자 초대 생성
-        if (request.getInviteeIds() != null && !request.getInviteeIds().isEmpty()) {
-            for (Long inviteeId : request.getInviteeIds()) {
-                User invitee = userRepository.findById(inviteeId)
-                        .orElseThrow(() -> new NotFoundException("초대할 사용자를 찾을 수 없습니다. ID: " + inviteeId));
-                
-                // 각 회의실별로 초대 생성
-                for (Long roomId : request.getRoomIds()) {
-                    RoomRent roomRent = roomRentRepository.findByRentIdAndRoomId(savedRent.getId(), roomId)
-                            .orElseThrow(() -> new NotFoundException("회의실-예약 연결을 찾을 수 없습니다"));
-                    
-                    UserInvite userInvite = new UserInvite();
-                    userInvite.setRoomRent(roomRent);
-                    userInvite.setUser(invitee);
-                    userInvite.setStatus(InviteStatus.PENDING);
-                    userInvite.setInvitedAt(LocalDateTime.now());
-                    userInviteRepository.save(userInvite);
-                }
-            }
+        // 사용자 초대 생성 (초대 대상 × 회의실, JDBC 배치)
+        if (!inviteeIds.isEmpty()) {
+            List<Long> roomRentIds = roomRents.stream()
+                    .map(RoomRent::getId)
+                    .collect(Collectors.toList());
+            userInviteBatchRepository.insertPendingInvites(inviteeIds, roomRentIds, LocalDateTime.now());
         }
         
-        return convertToRentResponse(savedRent);
+        eventPublisher.publishEvent(RentChangedEvent.created(
+                new RentSnapshot(savedRent.getId(), request.getStartTime(), request.getEndTime(), request.getRoomIds())));
+        
+        return rentResponseAssembler.toResponse(savedRent);
     }
     
     @Override
     public RentResponse updateRent(Long id, CreateRentRequest request) {
-        Rent existingRent = rentRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("예약을 찾을 수 없습니다. ID: " + id));
-        
         // 입력 유효성 검증
         if (!request.isValidTimeRange()) {
             throw new IllegalArgumentException("시작 시간은 종료 시간보다 이전이어야 합니다");
         }
         
-        // 시간 충돌 검사 (기존 예약 제외)
-        if (hasTimeConflict(request.getRoomIds(), request.getStartTime(), request.getEndTime(), id)) {
+        // 회의실 잠금 (트랜잭션의 첫 조회여야 이후 충돌 검사가 잠금 이후 커밋된 예약까지 봄)
+        Map<Long, Room> rooms = roomLocker.lock(request.getRoomIds());
+        
+        Rent existingRent = rentRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("예약을 찾을 수 없습니다. ID: " + id));
+        
+        // 시간 충돌 검사 (기존 예약 제외, 쓰기 경로는 항상 DB 기준으로 검증)
+        if (hasTimeConflictInDatabase(request.getRoomIds(), request.getStartTime(), request.getEndTime(), id)) {
             throw new DuplicateReservationException("선택한 시간대에 이미 예약된 회의실이 있습니다");
         }
         
-        // 예약 정보 업데이트
-        Rent updatedRentData = createRentEntity(request.getStartTime(), request.getEndTime(), 
-                                               request.getPurpose(), request.getDescription(), existingRent.getCreator());
-        updatedRentData.setId(existingRent.getId());
-        updatedRentData.setCreatedAt(existingRent.getCreatedAt());
+        List<RoomRent> existingRoomRents = roomRentRepository.findByRentId(id);
+        RentSnapshot before = toSnapshot(existingRent, existingRoomRents);
         
-        Rent updatedRent = rentRepository.save(updatedRentData);
+        // 예약 정보는 관리 중인 엔티티에 직접 반영 (변경 감지로 한 번의 UPDATE)
+        existingRent.setStartTime(request.getStartTime());
+        existingRent.setEndTime(request.getEndTime());
+        existingRent.setPurpose(request.getPurpose());
+        existingRent.setDescription(request.getDescription());
         
-        // 기존 회의실 연결 삭제 후 새로 생성
-        roomRentRepository.deleteByRentId(id);
-        for (Long roomId : request.getRoomIds()) {
-            Room room = roomRepository.findById(roomId)
-                    .orElseThrow(() -> new NotFoundException("회의실을 찾을 수 없습니다. ID: " + roomId));
-            
-            RoomRent roomRent = new RoomRent();
-            roomRent.setRent(updatedRent);
-            roomRent.setRoom(room);
-            roomRentRepository.save(roomRent);
-        }
+        // 회의실 연결은 변경분만 반영 (유지되는 연결과 그 초대는 그대로 둠)
+        syncRoomRents(existingRent, existingRoomRents, new LinkedHashSet<>(request.getRoomIds()), rooms);
         
-        return convertToRentResponse(updatedRent);
+        eventPublisher.publishEvent(RentChangedEvent.updated(before,
+                new RentSnapshot(id, request.getStartTime(), request.getEndTime(), request.getRoomIds())));
+        
+        return rentResponseAssembler.toResponse(existingRent);
     }
     
     @Override
     public void deleteRent(Long id) {
-        if (!rentRepository.existsById(id)) {
-            throw new NotFoundException("예약을 찾을 수 없습니다. ID: " + id);
-        }
+        Rent rent = rentRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("예약을 찾을 수 없습니다. ID: " + id));
         
         // 연관된 데이터 먼저 삭제
         List<RoomRent> roomRents = roomRentRepository.findByRentId(id);
+        RentSnapshot before = toSnapshot(rent, roomRents);
         for (RoomRent roomRent : roomRents) {
             userInviteRepository.deleteByRoomRentId(roomRent.getId());
         }
@@ -212,6 +211,8 @@ public class RentServiceImpl implements RentService {
         
         // 예약 삭제
         rentRepository.deleteById(id);
+        
+        eventPublisher.publishEvent(RentChangedEvent.deleted(before));
     }
     
     @Override
@@ -229,44 +230,120 @@ public class RentServiceImpl implements RentService {
     @Override
     @Transactional(readOnly = true)
     public boolean hasTimeConflict(List<Long> roomIds, LocalDateTime startTime, LocalDateTime endTime, Long excludeRentId) {
-        for (Long roomId : roomIds) {
-            List<RoomRent> conflictingReservations = roomRentRepository.findConflictingReservations(roomId, startTime, endTime);
-            
-            // 제외할 예약이 있다면 필터링
-            if (excludeRentId != null) {
-                conflictingReservations = conflictingReservations.stream()
-                        .filter(rr -> !rr.getRent().getId().equals(excludeRentId))
-                        .collect(Collectors.toList());
+        // 메모리 인덱스가 해당 구간을 보장하면 DB 왕복 없이 확인
+        if (roomIntervalIndex.covers(startTime)) {
+            return roomIntervalIndex.hasConflict(roomIds, startTime, endTime, excludeRentId);
+        }
+        return hasTimeConflictInDatabase(roomIds, startTime, endTime, excludeRentId);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public RentConflictResponse findTimeConflicts(List<Long> roomIds, LocalDateTime startTime, LocalDateTime endTime, Long excludeRentId) {
+        List<RoomConflictResponse> conflicts = new ArrayList<>();
+        if (roomIds.isEmpty()) {
+            return RentConflictResponse.of(conflicts);
+        }
+        
+        if (roomIntervalIndex.covers(startTime)) {
+            // 메모리 인덱스 조회 (회의실 ID 순)
+            for (Long roomId : new TreeSet<>(roomIds)) {
+                for (RoomIntervalIndex.Booking booking : roomIntervalIndex.findConflicts(roomId, startTime, endTime, excludeRentId)) {
+                    conflicts.add(new RoomConflictResponse(roomId, booking.rentId(), booking.startTime(), booking.endTime()));
+                }
             }
-            
-            if (!conflictingReservations.isEmpty()) {
-                return true;
+        } else {
+            // 모든 회의실을 한 번의 쿼리로 조회
+            for (RoomBookingView view : roomRentRepository.findConflictingBookingViews(roomIds, startTime, endTime, excludeRentId)) {
+                conflicts.add(new RoomConflictResponse(view.roomId(), view.rentId(), view.startTime(), view.endTime()));
             }
         }
-        return false;
+        return RentConflictResponse.of(conflicts);
     }
     
     /**
-     * Rent 엔티티를 RentResponse DTO로 변환
+     * 예약의 회의실 연결을 새 회의실 목록에 맞춤
+     * 
+     * 빠진 회의실의 연결과 초대만 삭제하고, 추가된 회의실만 연결을 만든다.
+     * 추가된 회의실에는 기존 초대 대상을 대기(PENDING) 상태로 초대해
+     * 생성 시와 같이 (초대 대상 × 회의실) 조합을 유지한다.
      */
-    private RentResponse convertToRentResponse(Rent rent) {
-        RentResponse response = RentResponse.from(rent);
+    private void syncRoomRents(Rent rent, List<RoomRent> existingRoomRents, Set<Long> newRoomIds, Map<Long, Room> rooms) {
+        Set<Long> keptRoomIds = new HashSet<>();
+        List<RoomRent> removedRoomRents = new ArrayList<>();
+        for (RoomRent roomRent : existingRoomRents) {
+            // 지연 로딩 프록시의 ID 조회는 초기화를 일으키지 않음
+            Long roomId = roomRent.getRoom().getId();
+            if (newRoomIds.contains(roomId)) {
+                keptRoomIds.add(roomId);
+            } else {
+                removedRoomRents.add(roomRent);
+            }
+        }
         
-        // 연관된 회의실들 설정
-        List<RoomRent> roomRents = roomRentRepository.findByRentId(rent.getId());
-        List<RoomResponse> rooms = roomRents.stream()
-                .map(rr -> RoomResponse.from(rr.getRoom()))
-                .collect(Collectors.toList());
-        response.setRooms(rooms);
+        // 1. 빠진 회의실: 초대 → 연결 순으로 일괄 삭제
+        if (!removedRoomRents.isEmpty()) {
+            List<Long> removedRoomRentIds = removedRoomRents.stream()
+                    .map(RoomRent::getId)
+                    .collect(Collectors.toList());
+            userInviteRepository.deleteByRoomRentIdIn(removedRoomRentIds);
+            roomRentRepository.deleteAllInBatch(removedRoomRents);
+        }
         
-        // 초대된 사용자들 설정
-        List<UserInvite> userInvites = userInviteRepository.findInvitesForRent(rent.getId());
-        List<InviteeResponse> invitees = userInvites.stream()
-                .map(InviteeResponse::from)
+        // 2. 추가된 회의실: 연결 생성 후 기존 초대 대상 초대
+        List<RoomRent> addedRoomRents = new ArrayList<>();
+        for (Long roomId : newRoomIds) {
+            if (!keptRoomIds.contains(roomId)) {
+                RoomRent roomRent = new RoomRent();
+                roomRent.setRent(rent);
+                roomRent.setRoom(rooms.get(roomId));
+                addedRoomRents.add(roomRent);
+            }
+        }
+        if (!addedRoomRents.isEmpty()) {
+            roomRentRepository.saveAll(addedRoomRents);
+            List<Long> inviteeIds = userInviteRepository.findInviteeIdsByRentId(rent.getId());
+            if (!inviteeIds.isEmpty()) {
+                List<Long> addedRoomRentIds = addedRoomRents.stream()
+                        .map(RoomRent::getId)
+                        .collect(Collectors.toList());
+                userInviteBatchRepository.insertPendingInvites(inviteeIds, addedRoomRentIds, LocalDateTime.now());
+            }
+        }
+    }
+    
+    /**
+     * 생성자와 초대 대상 사용자 일괄 조회 (ID -> User)
+     */
+    private Map<Long, User> findUsersByIds(Long creatorId, Set<Long> inviteeIds) {
+        Set<Long> userIds = new LinkedHashSet<>(inviteeIds);
+        userIds.add(creatorId);
+        Map<Long, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            users.put(user.getId(), user);
+        }
+        return users;
+    }
+    
+    /**
+     * DB 기준 시간 충돌 검사 (예약 쓰기 트랜잭션의 최종 검증용)
+     * 모든 회의실과 제외 조건을 한 번의 쿼리로 확인한다.
+     */
+    private boolean hasTimeConflictInDatabase(List<Long> roomIds, LocalDateTime startTime, LocalDateTime endTime, Long excludeRentId) {
+        if (roomIds.isEmpty()) {
+            return false;
+        }
+        return !roomRentRepository.findConflictingBookingViews(roomIds, startTime, endTime, excludeRentId).isEmpty();
+    }
+    
+    /**
+     * 변경 이벤트용 예약 스냅샷 생성
+     */
+    private RentSnapshot toSnapshot(Rent rent, List<RoomRent> roomRents) {
+        List<Long> roomIds = roomRents.stream()
+                .map(rr -> rr.getRoom().getId())
                 .collect(Collectors.toList());
-        response.setInvitees(invitees);
-        
-        return response;
+        return new RentSnapshot(rent.getId(), rent.getStartTime(), rent.getEndTime(), roomIds);
     }
     
     /**
@@ -286,7 +363,7 @@ public class RentServiceImpl implements RentService {
             // 간단한 방법으로 빌더 패턴이나 다른 방법 필요
             // 일단 AllArgsConstructor 사용
             rent = new Rent(null, startTime, endTime, purpose, description, creator, 
-                           null, null, null);
+                           null, null, null, null);
         }
         return rent;
     }
@@ -295,9 +372,75 @@ public class RentServiceImpl implements RentService {
     @Transactional(readOnly = true)
     public List<RentResponse> getRecentRents(Long userId) {
         //현재 ~ 미래 예약만 조회
-        return rentRepository.findByCreatorIdAndStartTimeAfterOrderByStartTimeDesc(userId, LocalDateTime.now())
-                .stream()
-                .map(this::convertToRentResponse)
-                .collect(Collectors.toList());
+        return rentResponseAssembler.toResponses(rentRepository.findByCreatorIdAndStartTimeAfterOrderByStartTimeDesc(userId, LocalDateTime.now()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RentPageResponse getRentsPage(String cursor, int limit) {
+        int pageLimit = validateLimit(limit);
+        Pageable pageable = PageRequest.of(0, pageLimit + 1);
+        List<Rent> rents;
+        if (cursor == null || cursor.isBlank()) {
+            rents = rentRepository.findPageOrderByStartTimeDesc(pageable);
+        } else {
+            RentCursor after = RentCursor.decode(cursor);
+            rents = rentRepository.findPageBeforeOrderByStartTimeDesc(after.getStartTime(), after.getId(), pageable);
+        }
+        return toPage(rents, pageLimit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RentPageResponse getRentsPageByCreatorId(Long creatorId, String cursor, int limit) {
+        int pageLimit = validateLimit(limit);
+        Pageable pageable = PageRequest.of(0, pageLimit + 1);
+        List<Rent> rents;
+        if (cursor == null || cursor.isBlank()) {
+            rents = rentRepository.findPageByCreatorId(creatorId, pageable);
+        } else {
+            RentCursor after = RentCursor.decode(cursor);
+            rents = rentRepository.findPageByCreatorIdBefore(creatorId, after.getStartTime(), after.getId(), pageable);
+        }
+        return toPage(rents, pageLimit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RentPageResponse getRentsPageByRoomId(Long roomId, String cursor, int limit) {
+        int pageLimit = validateLimit(limit);
+        Pageable pageable = PageRequest.of(0, pageLimit + 1);
+        List<Rent> rents;
+        if (cursor == null || cursor.isBlank()) {
+            rents = rentRepository.findPageByRoomId(roomId, pageable);
+        } else {
+            RentCursor after = RentCursor.decode(cursor);
+            rents = rentRepository.findPageByRoomIdBefore(roomId, after.getStartTime(), after.getId(), pageable);
+        }
+        return toPage(rents, pageLimit);
+    }
+
+    /**
+     * 페이지 크기 검증
+     */
+    private int validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_LIMIT + " 이하여야 합니다");
+        }
+        return limit;
+    }
+
+    /**
+     * limit + 1건 조회 결과로 페이지 응답 생성 (초과분이 있으면 다음 커서 발급)
+     */
+    private RentPageResponse toPage(List<Rent> rents, int limit) {
+        boolean hasNext = rents.size() > limit;
+        List<Rent> pageRents = hasNext ? rents.subList(0, limit) : rents;
+        String nextCursor = null;
+        if (hasNext) {
+            Rent last = pageRents.get(pageRents.size() - 1);
+            nextCursor = new RentCursor(last.getStartTime(), last.getId()).encode();
+        }
+        return new RentPageResponse(rentResponseAssembler.toResponses(pageRents), nextCursor, hasNext);
     }
-} 
\ No newline at end of file
+}
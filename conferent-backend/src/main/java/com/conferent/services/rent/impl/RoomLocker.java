@@ -0,0 +1,49 @@
+package com.conferent.services.rent.impl;
+
+import com.conferent.entities.Room;
+import com.conferent.exceptions.NotFoundException;
+import com.conferent.repositories.room.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 예약 쓰기용 회의실 행 잠금
+ *
+ * 같은 회의실을 예약하는 트랜잭션은 잠금 순서대로 직렬화되어 "충돌 검사 후 저장" 사이에
+ * 다른 트랜잭션이 끼어들 수 없고, 서로 다른 회의실 예약은 잠금이 겹치지 않아 병렬로 진행된다.
+ * ID 순으로 잠가 여러 회의실을 동시에 예약해도 교착 상태가 생기지 않는다.
+ *
+ * 반복 가능 읽기(MariaDB 기본) 격리 수준에서는 트랜잭션의 첫 일반 조회 시점에 스냅샷이 정해지므로,
+ * 잠금을 다른 조회보다 먼저 수행해야 뒤이은 충돌 검사가 앞선 트랜잭션의 커밋을 볼 수 있다.
+ * 호출하는 쪽의 쓰기 트랜잭션 안에서 사용해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+class RoomLocker {
+
+    private final RoomRepository roomRepository;
+
+    /**
+     * 회의실들을 ID 순으로 잠그고 반환 (ID -> Room)
+     * 존재하지 않는 회의실이 있으면 NotFoundException
+     */
+    Map<Long, Room> lock(Collection<Long> roomIds) {
+        Set<Long> sortedRoomIds = new TreeSet<>(roomIds);
+        Map<Long, Room> rooms = new HashMap<>();
+        for (Room room : roomRepository.findAllByIdInForUpdate(sortedRoomIds)) {
+            rooms.put(room.getId(), room);
+        }
+        for (Long roomId : sortedRoomIds) {
+            if (!rooms.containsKey(roomId)) {
+                throw new NotFoundException("회의실을 찾을 수 없습니다. ID: " + roomId);
+            }
+        }
+        return rooms;
+    }
+}
@@ -0,0 +1,421 @@
+package com.conferent.services.rent.index;
+
+import com.conferent.dtos.room.RoomResponse;
+import com.conferent.events.RentChangedEvent;
+import com.conferent.events.RentSnapshot;
+import com.conferent.events.RoomChangedEvent;
+import com.conferent.repositories.room.RoomRepository;
+import com.conferent.repositories.roomrent.RoomBookingView;
+import com.conferent.repositories.roomrent.RoomRentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 회의실별 일자 점유 비트맵 인덱스
+ *
+ * 하루를 15분 슬롯 96개로 나누고, 회의실·일자마다 점유 여부를 long 2개(비트 96개)로 보관한다.
+ * "[startTime, endTime) 동안 비어 있고 수용 인원 N 이상, 위치 L인 회의실" 조회를
+ * 회의실 정보(메모리)와 일자별 비트 마스크 AND만으로 DB 왕복 없이 처리한다.
+ *
+ * - 예약이 슬롯 일부만 차지해도 해당 슬롯 비트를 세우므로, 조회 구간이 슬롯 경계에 맞지 않으면
+ *   경계 슬롯만 겹친 회의실은 "확인 필요"로 분류해 호출하는 쪽에서 정확히 확인해야 한다.
+ * - 슬롯마다 점유 예약 수를 함께 세어, 같은 슬롯을 나눠 쓰는 예약 하나가 삭제되어도 비트가 유지된다.
+ * - 수용 인원 순 회의실 인덱스(TreeMap 계열)를 함께 두어, 인원에 맞는 가장 작은 빈 회의실을 작은 순으로만 훑어 찾는다.
+ * - 애플리케이션 기동 시 현재 이후에 끝나는 예약으로 적재하고, RentChangedEvent/RoomChangedEvent로 커밋 후 갱신한다.
+ * - 주기적으로 오늘 이전 일자의 비트맵과 이미 끝난 예약을 제거해 크기를 현재 이후 예약 수로 유지한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomAvailabilityIndex {
+
+    // 슬롯 길이(초)와 하루 슬롯 수 (15분 × 96 = 24시간)
+    private static final int SLOT_SECONDS = 15 * 60;
+    private static final int SLOTS_PER_DAY = 24 * 60 * 60 / SLOT_SECONDS;
+    private static final int WORDS_PER_DAY = (SLOTS_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private static final Comparator<RoomResponse> BY_NAME =
+            Comparator.comparing(RoomResponse::getName).thenComparing(RoomResponse::getId);
+
+    private static final Comparator<RoomResponse> BY_CAPACITY =
+            Comparator.comparing(RoomAvailabilityIndex::capacityOf).thenComparing(BY_NAME);
+
+    private final RoomRepository roomRepository;
+    private final RoomRentRepository roomRentRepository;
+
+    // 회의실 ID -> 회의실 정보 (수용 인원/위치 필터용)
+    private final Map<Long, RoomResponse> rooms = new ConcurrentHashMap<>();
+
+    // 수용 인원 -> 회의실 ID (수용 인원 오름차순)
+    private final NavigableMap<Integer, Set<Long>> roomIdsByCapacity = new ConcurrentSkipListMap<>();
+
+    // 회의실 ID -> 일자별 점유 비트맵
+    private final Map<Long, RoomOccupancy> occupancies = new ConcurrentHashMap<>();
+
+    // 예약 ID -> 반영된 예약 정보 (수정/삭제 시 기존 구간 제거용)
+    private final Map<Long, RentSnapshot> indexedRents = new ConcurrentHashMap<>();
+
+    // 적재 완료 전에 수정/삭제된 예약 ID (적재 시 오래된 데이터로 덮어쓰지 않도록)
+    private final Set<Long> removedBeforeWarmUp = ConcurrentHashMap.newKeySet();
+
+    // 인덱스가 보장하는 조회 시작 시각 (적재 전에는 null)
+    private volatile LocalDateTime coverageStart;
+
+    /**
+     * 기동 시 회의실 정보와 점유 비트맵 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        for (RoomResponse room : roomRepository.findAllResponsesOrderByName()) {
+            // 적재 중 이벤트로 먼저 반영된 회의실은 이벤트 쪽이 최신
+            if (rooms.putIfAbsent(room.getId(), room) == null) {
+                indexCapacity(room);
+            }
+        }
+
+        LocalDateTime from = LocalDateTime.now();
+        Map<Long, List<Long>> roomIdsByRentId = new HashMap<>();
+        Map<Long, RoomBookingView> firstViewByRentId = new HashMap<>();
+        for (RoomBookingView booking : roomRentRepository.findBookingViewsEndingAfter(from)) {
+            roomIdsByRentId.computeIfAbsent(booking.rentId(), id -> new ArrayList<>()).add(booking.roomId());
+            firstViewByRentId.putIfAbsent(booking.rentId(), booking);
+        }
+        for (Map.Entry<Long, List<Long>> entry : roomIdsByRentId.entrySet()) {
+            Long rentId = entry.getKey();
+            // 적재 중 이벤트로 먼저 반영(생성/수정/삭제)된 예약은 이벤트 쪽이 최신이므로 건너뜀
+            if (indexedRents.containsKey(rentId) || removedBeforeWarmUp.contains(rentId)) {
+                continue;
+            }
+            RoomBookingView view = firstViewByRentId.get(rentId);
+            add(new RentSnapshot(rentId, view.startTime(), view.endTime(), entry.getValue()));
+        }
+        coverageStart = from;
+        removedBeforeWarmUp.clear();
+        log.info("회의실 점유 비트맵 적재 완료 - 회의실 수: {}, 예약 수: {}, 기준 시각: {}",
+                rooms.size(), roomIdsByRentId.size(), from);
+    }
+
+    /**
+     * 지난 일자 정리
+     * 보장 범위를 먼저 현재 시각으로 올려 그 이전 조회가 DB로 가도록 한 뒤,
+     * 오늘 이전 일자의 점유 비트맵과 이미 끝난 예약 정보를 제거한다.
+     * 오늘 일자는 남겨 두지만 현재 시각 이전 슬롯은 더 이상 조회되지 않는다.
+     */
+    @Scheduled(cron = "${conferent.index.prune-cron:0 5 * * * *}")
+    public void evictPast() {
+        if (coverageStart == null) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now();
+        coverageStart = cutoff;
+        long today = cutoff.toLocalDate().toEpochDay();
+
+        int evictedDays = 0;
+        for (RoomOccupancy occupancy : occupancies.values()) {
+            evictedDays += occupancy.evictBefore(today);
+        }
+        for (Long roomId : occupancies.keySet()) {
+            occupancies.computeIfPresent(roomId, (id, occupancy) -> occupancy.isEmpty() ? null : occupancy);
+        }
+        // 끝난 예약은 이후 조회에 영향이 없으므로 스냅샷만 버림 (값 비교 제거라 정리 중 갱신된 스냅샷은 유지)
+        int before = indexedRents.size();
+        indexedRents.values().removeIf(rent -> !rent.endTime().isAfter(cutoff));
+        log.info("회의실 점유 비트맵 정리 - 제거 일자: {}, 제거 예약: {}, 기준 시각: {}",
+                evictedDays, before - indexedRents.size(), cutoff);
+    }
+
+    /**
+     * 주어진 시작 시각부터의 조회를 인덱스로 처리할 수 있는지 확인
+     */
+    public boolean covers(LocalDateTime startTime) {
+        LocalDateTime coverage = coverageStart;
+        return coverage != null && !startTime.isBefore(coverage);
+    }
+
+    /**
+     * [startTime, endTime) 동안의 회의실 가용성 조회 (이름 순)
+     *
+     * @param minCapacity 최소 수용 인원 (null이면 조건 없음)
+     * @param location 위치 (null이면 조건 없음)
+     */
+    public Availability findAvailability(LocalDateTime startTime, LocalDateTime endTime, Integer minCapacity, String location) {
+        List<DayMask> masks = dayMasks(startTime, endTime);
+        List<RoomResponse> available = new ArrayList<>();
+        List<RoomResponse> needsCheck = new ArrayList<>();
+
+        for (RoomResponse room : rooms.values()) {
+            if (minCapacity != null && (room.getCapacity() == null || room.getCapacity() < minCapacity)) {
+                continue;
+            }
+            if (location != null && !location.equals(room.getLocation())) {
+                continue;
+            }
+            RoomOccupancy occupancy = occupancies.get(room.getId());
+            Overlap overlap = occupancy != null ? occupancy.overlap(masks) : Overlap.NONE;
+            if (overlap == Overlap.NONE) {
+                available.add(copyOf(room));
+            } else if (overlap == Overlap.BOUNDARY) {
+                needsCheck.add(copyOf(room));
+            }
+        }
+        available.sort(BY_NAME);
+        needsCheck.sort(BY_NAME);
+        return new Availability(available, needsCheck);
+    }
+
+    /**
+     * 수용 인원 minCapacity 이상 회의실을 수용 인원이 작은 순으로 훑으며 [startTime, endTime) 가용성 조회
+     * 확실히 비어 있는 회의실이 limit개 모이면 더 큰 수용 인원은 보지 않는다 (같은 수용 인원은 끝까지 확인).
+     * 결과는 수용 인원, 이름 순.
+     */
+    public Availability findSmallestAvailability(LocalDateTime startTime, LocalDateTime endTime, int minCapacity, int limit) {
+        List<DayMask> masks = dayMasks(startTime, endTime);
+        List<RoomResponse> available = new ArrayList<>();
+        List<RoomResponse> needsCheck = new ArrayList<>();
+
+        for (Set<Long> roomIds : roomIdsByCapacity.tailMap(minCapacity, true).values()) {
+            if (available.size() >= limit) {
+                break;
+            }
+            for (Long roomId : roomIds) {
+                RoomResponse room = rooms.get(roomId);
+                if (room == null) {
+                    continue;
+                }
+                RoomOccupancy occupancy = occupancies.get(roomId);
+                Overlap overlap = occupancy != null ? occupancy.overlap(masks) : Overlap.NONE;
+                if (overlap == Overlap.NONE) {
+                    available.add(copyOf(room));
+                } else if (overlap == Overlap.BOUNDARY) {
+                    needsCheck.add(copyOf(room));
+                }
+            }
+        }
+        available.sort(BY_CAPACITY);
+        needsCheck.sort(BY_CAPACITY);
+        return new Availability(available, needsCheck);
+    }
+
+    /**
+     * 커밋된 예약 변경 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRentChanged(RentChangedEvent event) {
+        remove(event.rentId());
+        if (event.after() != null) {
+            add(event.after());
+        }
+    }
+
+    /**
+     * 커밋된 회의실 변경 반영 (해당 회의실 정보만 다시 조회)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRoomChanged(RoomChangedEvent event) {
+        if (event.deleted()) {
+            unindexCapacity(rooms.remove(event.roomId()));
+            occupancies.remove(event.roomId());
+            return;
+        }
+        roomRepository.findResponseById(event.roomId()).ifPresent(room -> {
+            unindexCapacity(rooms.put(room.getId(), room));
+            indexCapacity(room);
+        });
+    }
+
+    private void indexCapacity(RoomResponse room) {
+        roomIdsByCapacity.computeIfAbsent(capacityOf(room), capacity -> ConcurrentHashMap.newKeySet()).add(room.getId());
+    }
+
+    private void unindexCapacity(RoomResponse room) {
+        if (room == null) {
+            return;
+        }
+        roomIdsByCapacity.computeIfPresent(capacityOf(room), (capacity, roomIds) -> {
+            roomIds.remove(room.getId());
+            return roomIds.isEmpty() ? null : roomIds;
+        });
+    }
+
+    private static int capacityOf(RoomResponse room) {
+        return room.getCapacity() != null ? room.getCapacity() : 0;
+    }
+
+    private void add(RentSnapshot rent) {
+        LocalDateTime coverage = coverageStart;
+        // 보장 범위 이전에 끝난 예약은 조회에 쓰이지 않으므로 반영하지 않음
+        if (coverage != null && !rent.endTime().isAfter(coverage)) {
+            return;
+        }
+        indexedRents.put(rent.rentId(), rent);
+        for (Long roomId : rent.roomIds()) {
+            // 정리 작업이 빈 점유 상태를 제거하는 것과 겹치지 않도록 키 단위로 원자적으로 반영
+            occupancies.compute(roomId, (id, occupancy) -> {
+                RoomOccupancy target = occupancy != null ? occupancy : new RoomOccupancy();
+                target.apply(rent.startTime(), rent.endTime(), 1);
+                return target;
+            });
+        }
+    }
+
+    private void remove(Long rentId) {
+        if (coverageStart == null) {
+            removedBeforeWarmUp.add(rentId);
+        }
+        RentSnapshot previous = indexedRents.remove(rentId);
+        if (previous == null) {
+            return;
+        }
+        for (Long roomId : previous.roomIds()) {
+            RoomOccupancy occupancy = occupancies.get(roomId);
+            if (occupancy != null) {
+                occupancy.apply(previous.startTime(), previous.endTime(), -1);
+            }
+        }
+    }
+
+    /**
+     * 조회 구간을 일자별 슬롯 마스크로 변환
+     * any: 구간과 조금이라도 겹치는 슬롯, full: 구간이 완전히 덮는 슬롯
+     */
+    private static List<DayMask> dayMasks(LocalDateTime startTime, LocalDateTime endTime) {
+        List<DayMask> masks = new ArrayList<>();
+        for (LocalDate date = startTime.toLocalDate(); date.atStartOfDay().isBefore(endTime); date = date.plusDays(1)) {
+            int from = date.equals(startTime.toLocalDate()) ? startTime.toLocalTime().toSecondOfDay() : 0;
+            int to = date.equals(endTime.toLocalDate()) ? endTime.toLocalTime().toSecondOfDay() : SECONDS_PER_DAY;
+            long[] any = new long[WORDS_PER_DAY];
+            long[] full = new long[WORDS_PER_DAY];
+            setRange(any, from / SLOT_SECONDS, ceilDiv(to, SLOT_SECONDS));
+            setRange(full, ceilDiv(from, SLOT_SECONDS), to / SLOT_SECONDS);
+            masks.add(new DayMask(date.toEpochDay(), any, full));
+        }
+        return masks;
+    }
+
+    private static void setRange(long[] words, int fromSlot, int toSlot) {
+        for (int slot = fromSlot; slot < toSlot; slot++) {
+            words[slot / Long.SIZE] |= 1L << (slot % Long.SIZE);
+        }
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    private static RoomResponse copyOf(RoomResponse room) {
+        return new RoomResponse(room.getId(), room.getName(), room.getLocation(), room.getCapacity(),
+                room.getDescription(), room.getCreatedAt(), room.getUpdatedAt());
+    }
+
+    /**
+     * 가용성 조회 결과
+     *
+     * @param available 확실히 비어 있는 회의실
+     * @param needsCheck 경계 슬롯만 겹쳐 실제 예약 시간으로 다시 확인해야 하는 회의실
+     */
+    public record Availability(List<RoomResponse> available, List<RoomResponse> needsCheck) {
+    }
+
+    private enum Overlap {
+        NONE,
+        BOUNDARY,
+        BUSY
+    }
+
+    private record DayMask(long epochDay, long[] any, long[] full) {
+    }
+
+    /**
+     * 한 회의실의 일자별 점유 상태
+     * 슬롯마다 점유 예약 수를 세고, 점유 수가 1 이상인 슬롯의 비트를 세운다.
+     */
+    private static final class RoomOccupancy {
+
+        private final Map<Long, short[]> countsByDay = new HashMap<>();
+        private final Map<Long, long[]> bitsByDay = new HashMap<>();
+
+        synchronized void apply(LocalDateTime startTime, LocalDateTime endTime, int delta) {
+            for (LocalDate date = startTime.toLocalDate(); date.atStartOfDay().isBefore(endTime); date = date.plusDays(1)) {
+                int from = date.equals(startTime.toLocalDate()) ? startTime.toLocalTime().toSecondOfDay() : 0;
+                int to = date.equals(endTime.toLocalDate()) ? endTime.toLocalTime().toSecondOfDay() : SECONDS_PER_DAY;
+                long epochDay = date.toEpochDay();
+                short[] counts = countsByDay.computeIfAbsent(epochDay, day -> new short[SLOTS_PER_DAY]);
+                long[] bits = bitsByDay.computeIfAbsent(epochDay, day -> new long[WORDS_PER_DAY]);
+
+                boolean empty = true;
+                for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+                    if (slot >= from / SLOT_SECONDS && slot < ceilDiv(to, SLOT_SECONDS)) {
+                        counts[slot] = (short) Math.max(counts[slot] + delta, 0);
+                    }
+                    long bit = 1L << (slot % Long.SIZE);
+                    if (counts[slot] > 0) {
+                        bits[slot / Long.SIZE] |= bit;
+                        empty = false;
+                    } else {
+                        bits[slot / Long.SIZE] &= ~bit;
+                    }
+                }
+                // 점유가 없어진 일자는 제거해 메모리를 회수
+                if (empty) {
+                    countsByDay.remove(epochDay);
+                    bitsByDay.remove(epochDay);
+                }
+            }
+        }
+
+        /**
+         * epochDay 이전 일자 제거 후 제거한 일자 수 반환
+         */
+        synchronized int evictBefore(long epochDay) {
+            int before = countsByDay.size();
+            countsByDay.keySet().removeIf(day -> day < epochDay);
+            bitsByDay.keySet().removeIf(day -> day < epochDay);
+            return before - countsByDay.size();
+        }
+
+        synchronized boolean isEmpty() {
+            return countsByDay.isEmpty();
+        }
+
+        synchronized Overlap overlap(List<DayMask> masks) {
+            Overlap result = Overlap.NONE;
+            for (DayMask mask : masks) {
+                long[] bits = bitsByDay.get(mask.epochDay());
+                if (bits == null) {
+                    continue;
+                }
+                for (int word = 0; word < WORDS_PER_DAY; word++) {
+                    long hit = bits[word] & mask.any()[word];
+                    if ((hit & mask.full()[word]) != 0) {
+                        return Overlap.BUSY;
+                    }
+                    if (hit != 0) {
+                        result = Overlap.BOUNDARY;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.conferent.services.rent.index;
+
+import com.conferent.events.RentChangedEvent;
+import com.conferent.events.RentSnapshot;
+import com.conferent.repositories.roomrent.RoomBookingView;
+import com.conferent.repositories.roomrent.RoomRentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 회의실별 예약 구간 메모리 인덱스
+ *
+ * 회의실마다 [startTime, endTime) 구간을 시작 시간 순으로 정렬해 보관하여
+ * 시간 충돌 여부를 DB 왕복 없이 O(log n + k)로 확인한다.
+ *
+ * - 애플리케이션 기동 시 현재 이후에 끝나는 예약으로 적재 (coverageStart 이전 구간은 DB로 조회해야 함)
+ * - 예약 생성/수정/삭제 커밋 후 RentChangedEvent로 갱신
+ * - 주기적으로 이미 끝난 예약을 제거하고 coverageStart를 앞당겨 크기를 현재 이후 예약 수로 유지
+ * - 같은 인스턴스의 쓰기만 반영하므로 충돌 확인용 조회에만 사용하고,
+ *   예약 쓰기 트랜잭션 안의 최종 검증은 항상 DB로 수행한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomIntervalIndex {
+
+    private final RoomRentRepository roomRentRepository;
+
+    // 회의실 ID -> 예약 구간 타임라인
+    private final Map<Long, RoomTimeline> timelines = new ConcurrentHashMap<>();
+
+    // 예약 ID -> 인덱싱된 예약 정보 (수정/삭제 시 기존 구간 제거용)
+    private final Map<Long, RentSnapshot> indexedRents = new ConcurrentHashMap<>();
+
+    // 적재 완료 전에 수정/삭제된 예약 ID (적재 시 오래된 데이터로 덮어쓰지 않도록)
+    private final Set<Long> removedBeforeWarmUp = ConcurrentHashMap.newKeySet();
+
+    // 인덱스가 보장하는 조회 시작 시각 (적재 전에는 null)
+    private volatile LocalDateTime coverageStart;
+
+    /**
+     * 기동 시 인덱스 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        LocalDateTime from = LocalDateTime.now();
+        List<RoomBookingView> bookings = roomRentRepository.findBookingViewsEndingAfter(from);
+
+        // 예약 단위로 회의실 ID 묶기
+        Map<Long, List<Long>> roomIdsByRentId = new HashMap<>();
+        Map<Long, RoomBookingView> firstViewByRentId = new HashMap<>();
+        for (RoomBookingView booking : bookings) {
+            roomIdsByRentId.computeIfAbsent(booking.rentId(), id -> new ArrayList<>()).add(booking.roomId());
+            firstViewByRentId.putIfAbsent(booking.rentId(), booking);
+        }
+
+        for (Map.Entry<Long, List<Long>> entry : roomIdsByRentId.entrySet()) {
+            Long rentId = entry.getKey();
+            // 적재 중 이벤트로 먼저 반영(생성/수정/삭제)된 예약은 이벤트 쪽이 최신이므로 건너뜀
+            if (indexedRents.containsKey(rentId) || removedBeforeWarmUp.contains(rentId)) {
+                continue;
+            }
+            RoomBookingView view = firstViewByRentId.get(rentId);
+            add(new RentSnapshot(rentId, view.startTime(), view.endTime(), entry.getValue()));
+        }
+        coverageStart = from;
+        removedBeforeWarmUp.clear();
+        log.info("회의실 예약 인덱스 적재 완료 - 예약 수: {}, 기준 시각: {}", roomIdsByRentId.size(), from);
+    }
+
+    /**
+     * 이미 끝난 예약 정리
+     * 기준 시각 이전에 끝난 구간은 기준 시각 이후의 조회와 겹칠 수 없으므로, 보장 범위를 먼저 기준 시각으로
+     * 올려 그 이전 조회가 DB로 가도록 한 뒤 제거한다.
+     */
+    @Scheduled(cron = "${conferent.index.prune-cron:0 5 * * * *}")
+    public void pruneEnded() {
+        if (coverageStart == null) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now();
+        coverageStart = cutoff;
+
+        int pruned = 0;
+        for (RentSnapshot rent : indexedRents.values()) {
+            // 정리 중 이벤트로 바뀐 예약은 새 스냅샷이 남도록 같은 스냅샷일 때만 제거
+            if (!rent.endTime().isAfter(cutoff) && indexedRents.remove(rent.rentId(), rent)) {
+                pruned++;
+            }
+        }
+        for (Long roomId : timelines.keySet()) {
+            timelines.computeIfPresent(roomId, (id, timeline) -> timeline.pruneEndedBy(cutoff) ? null : timeline);
+        }
+        log.info("회의실 예약 인덱스 정리 - 제거: {}, 남은 예약 수: {}, 기준 시각: {}", pruned, indexedRents.size(), cutoff);
+    }
+
+    /**
+     * 주어진 시작 시각부터의 조회를 인덱스로 처리할 수 있는지 확인
+     */
+    public boolean covers(LocalDateTime startTime) {
+        LocalDateTime coverage = coverageStart;
+        return coverage != null && !startTime.isBefore(coverage);
+    }
+
+    /**
+     * 여러 회의실 중 하나라도 [startTime, endTime)과 겹치는 예약이 있는지 확인
+     */
+    public boolean hasConflict(Collection<Long> roomIds, LocalDateTime startTime, LocalDateTime endTime, Long excludeRentId) {
+        for (Long roomId : roomIds) {
+            if (!findConflicts(roomId, startTime, endTime, excludeRentId).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 특정 회의실에서 [startTime, endTime)과 겹치는 예약 구간 조회 (시작 시간 순)
+     */
+    public List<Booking> findConflicts(Long roomId, LocalDateTime startTime, LocalDateTime endTime, Long excludeRentId) {
+        RoomTimeline timeline = timelines.get(roomId);
+        if (timeline == null) {
+            return new ArrayList<>();
+        }
+        return timeline.findOverlapping(startTime, endTime, excludeRentId);
+    }
+
+    /**
+     * 커밋된 예약 변경 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRentChanged(RentChangedEvent event) {
+        remove(event.rentId());
+        if (event.after() != null) {
+            add(event.after());
+        }
+        log.debug("회의실 예약 인덱스 갱신 - 예약 ID: {}, 변경: {}", event.rentId(), event.type());
+    }
+
+    private void add(RentSnapshot rent) {
+        LocalDateTime coverage = coverageStart;
+        // 보장 범위 이전에 끝난 예약은 조회에 쓰이지 않으므로 보관하지 않음
+        if (coverage != null && !rent.endTime().isAfter(coverage)) {
+            return;
+        }
+        indexedRents.put(rent.rentId(), rent);
+        Booking booking = new Booking(rent.rentId(), rent.startTime(), rent.endTime());
+        for (Long roomId : rent.roomIds()) {
+            // 정리 작업이 빈 타임라인을 제거하는 것과 겹치지 않도록 키 단위로 원자적으로 추가
+            timelines.compute(roomId, (id, timeline) -> {
+                RoomTimeline target = timeline != null ? timeline : new RoomTimeline();
+                target.add(booking);
+                return target;
+            });
+        }
+    }
+
+    private void remove(Long rentId) {
+        if (coverageStart == null) {
+            removedBeforeWarmUp.add(rentId);
+        }
+        RentSnapshot previous = indexedRents.remove(rentId);
+        if (previous == null) {
+            return;
+        }
+        Booking booking = new Booking(rentId, previous.startTime(), previous.endTime());
+        for (Long roomId : previous.roomIds()) {
+            RoomTimeline timeline = timelines.get(roomId);
+            if (timeline != null) {
+                timeline.remove(booking);
+            }
+        }
+    }
+
+    /**
+     * 인덱싱된 예약 구간 [startTime, endTime)
+     */
+    public record Booking(Long rentId, LocalDateTime startTime, LocalDateTime endTime) {
+    }
+
+    /**
+     * 한 회의실의 예약 구간 집합
+     * 시작 시간 순으로 정렬하고, 가장 긴 예약 길이를 기록해 역방향 탐색 범위를 제한한다.
+     */
+    private static final class RoomTimeline {
+
+        private static final Comparator<Booking> ORDER =
+                Comparator.comparing(Booking::startTime).thenComparing(Booking::rentId);
+
+        private final NavigableSet<Booking> bookings = new TreeSet<>(ORDER);
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        // 보관 중인 예약 중 가장 긴 길이 이상 (삭제 시에는 줄이지 않고 정리 때 다시 계산 - 탐색 범위 상한으로만 사용)
+        private Duration maxDuration = Duration.ZERO;
+
+        void add(Booking booking) {
+            lock.writeLock().lock();
+            try {
+                bookings.add(booking);
+                Duration duration = Duration.between(booking.startTime(), booking.endTime());
+                if (duration.compareTo(maxDuration) > 0) {
+                    maxDuration = duration;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Booking booking) {
+            lock.writeLock().lock();
+            try {
+                bookings.remove(booking);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * cutoff 이전에 끝난 구간 제거 후 비었는지 여부 반환
+         */
+        boolean pruneEndedBy(LocalDateTime cutoff) {
+            lock.writeLock().lock();
+            try {
+                bookings.removeIf(booking -> !booking.endTime().isAfter(cutoff));
+                maxDuration = Duration.ZERO;
+                for (Booking booking : bookings) {
+                    Duration duration = Duration.between(booking.startTime(), booking.endTime());
+                    if (duration.compareTo(maxDuration) > 0) {
+                        maxDuration = duration;
+                    }
+                }
+                return bookings.isEmpty();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Booking> findOverlapping(LocalDateTime startTime, LocalDateTime endTime, Long excludeRentId) {
+            List<Booking> overlapping = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                // 시작 시간이 endTime 이전인 구간만 후보
+                Booking upperBound = new Booking(Long.MIN_VALUE, endTime, endTime);
+                // 이 시각 이전에 시작한 구간은 startTime까지 이어질 수 없음
+                LocalDateTime earliestRelevantStart = startTime.minus(maxDuration);
+
+                Iterator<Booking> candidates = bookings.headSet(upperBound, false).descendingIterator();
+                while (candidates.hasNext()) {
+                    Booking booking = candidates.next();
+                    if (!booking.startTime().isAfter(earliestRelevantStart)) {
+                        break;
+                    }
+                    if (booking.endTime().isAfter(startTime) && !booking.rentId().equals(excludeRentId)) {
+                        overlapping.add(booking);
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            overlapping.sort(ORDER);
+            return overlapping;
+        }
+    }
+}
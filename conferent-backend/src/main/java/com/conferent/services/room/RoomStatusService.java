@@ -0,0 +1,18 @@
+package com.conferent.services.room;
+
+import com.conferent.dtos.room.RoomStatusResponse;
+
+public interface RoomStatusService {
+    
+    /**
+     * 회의실의 현재/다음 회의 현황 조회 (메모리 스냅샷, DB 조회 없음)
+     */
+    RoomStatusResponse getStatus(Long roomId);
+    
+    /**
+     * 회의실 일정이 바뀌면 listener를 한 번 호출하도록 등록 (롱 폴링용)
+     * 
+     * @return 등록 취소
+     */
+    Runnable awaitChange(Long roomId, Runnable listener);
+}
@@ -3,15 +3,16 @@ package com.conferent.services.room.impl;
 import com.conferent.dtos.room.RoomRequest;
 import com.conferent.dtos.room.RoomResponse;
 import com.conferent.entities.Room;
+import com.conferent.events.RoomChangedEvent;
 import com.conferent.exceptions.NotFoundException;
 import com.conferent.repositories.room.RoomRepository;
 import com.conferent.services.room.RoomService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -19,49 +20,37 @@ import java.util.stream.Collectors;
 public class RoomServiceImpl implements RoomService {
     
     private final RoomRepository roomRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     @Transactional(readOnly = true)
     public List<RoomResponse> getAllRooms() {
-        return roomRepository.findAllOrderByName()
-                .stream()
-                .map(RoomResponse::from)
-                .collect(Collectors.toList());
+        return roomRepository.findAllResponsesOrderByName();
     }
     
     @Override
     @Transactional(readOnly = true)
     public RoomResponse getRoomById(Long id) {
-        Room room = roomRepository.findById(id)
+        return roomRepository.findResponseById(id)
                 .orElseThrow(() -> new NotFoundException("회의실을 찾을 수 없습니다. ID: " + id));
-        return RoomResponse.from(room);
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<RoomResponse> searchRoomsByName(String name) {
-        return roomRepository.findByNameContainingOrderByName(name)
-                .stream()
-                .map(RoomResponse::from)
-                .collect(Collectors.toList());
+        return roomRepository.findResponsesByNameContaining(name);
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<RoomResponse> findRoomsByCapacity(Integer minCapacity) {
-        return roomRepository.findByCapacityGreaterThanEqualOrderByCapacity(minCapacity)
-                .stream()
-                .map(RoomResponse::from)
-                .collect(Collectors.toList());
+        return roomRepository.findResponsesByCapacityAtLeast(minCapacity);
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<RoomResponse> findRoomsByLocation(String location) {
-        return roomRepository.findByLocationOrderByName(location)
-                .stream()
-                .map(RoomResponse::from)
-                .collect(Collectors.toList());
+        return roomRepository.findResponsesByLocation(location);
     }
     
     @Override
@@ -78,6 +67,7 @@ public class RoomServiceImpl implements RoomService {
         room.setDescription(request.getDescription());
                 
         Room savedRoom = roomRepository.save(room);
+        eventPublisher.publishEvent(RoomChangedEvent.saved(savedRoom.getId()));
         return RoomResponse.from(savedRoom);
     }
     
@@ -97,6 +87,7 @@ public class RoomServiceImpl implements RoomService {
         existingRoom.setCapacity(request.getCapacity());
         existingRoom.setDescription(request.getDescription());        
         Room updatedRoom = roomRepository.save(existingRoom);
+        eventPublisher.publishEvent(RoomChangedEvent.saved(updatedRoom.getId()));
         return RoomResponse.from(updatedRoom);
     }
     
@@ -106,6 +97,7 @@ public class RoomServiceImpl implements RoomService {
             throw new NotFoundException("회의실을 찾을 수 없습니다. ID: " + id);
         }
         roomRepository.deleteById(id);
+        eventPublisher.publishEvent(RoomChangedEvent.deleted(id));
     }
     
     @Override
@@ -0,0 +1,83 @@
+package com.conferent.services.room.impl;
+
+import com.conferent.dtos.room.RoomStatusBookingResponse;
+import com.conferent.dtos.room.RoomStatusResponse;
+import com.conferent.exceptions.NotFoundException;
+import com.conferent.repositories.roomrent.RoomDisplayBookingView;
+import com.conferent.services.room.RoomStatusService;
+import com.conferent.services.room.status.RoomStatusBoard;
+import com.conferent.services.room.status.RoomStatusBoard.RoomSchedule;
+import com.conferent.services.room.status.RoomStatusBoard.Snapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class RoomStatusServiceImpl implements RoomStatusService {
+    
+    private final RoomStatusBoard roomStatusBoard;
+    
+    @Override
+    public RoomStatusResponse getStatus(Long roomId) {
+        Snapshot snapshot = roomStatusBoard.current();
+        RoomSchedule schedule = snapshot.rooms().get(roomId);
+        if (schedule == null) {
+            throw new NotFoundException("회의실을 찾을 수 없습니다. ID: " + roomId);
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        RoomDisplayBookingView current = null;
+        List<RoomDisplayBookingView> upcoming = new ArrayList<>();
+        for (RoomDisplayBookingView booking : schedule.bookings()) {
+            if (!booking.startTime().isAfter(now) && booking.endTime().isAfter(now)) {
+                current = booking;
+            } else if (booking.startTime().isAfter(now)) {
+                upcoming.add(booking);
+            }
+        }
+        RoomDisplayBookingView next = upcoming.isEmpty() ? null : upcoming.get(0);
+        
+        // 예약 변경이 없어도 현재 회의가 끝나거나 다음 회의가 시작되면 현황이 바뀜
+        LocalDateTime changesAt = snapshot.date().plusDays(1).atStartOfDay();
+        if (current != null && current.endTime().isBefore(changesAt)) {
+            changesAt = current.endTime();
+        }
+        if (next != null && next.startTime().isBefore(changesAt)) {
+            changesAt = next.startTime();
+        }
+        
+        String statusVersion = schedule.version() + "-" + rentIdOf(current) + "-" + rentIdOf(next);
+        return new RoomStatusResponse(
+                schedule.room().getId(),
+                schedule.room().getName(),
+                schedule.room().getLocation(),
+                now,
+                current != null,
+                toResponse(current),
+                toResponse(next),
+                upcoming.stream().map(RoomStatusServiceImpl::toResponse).toList(),
+                changesAt,
+                statusVersion);
+    }
+    
+    @Override
+    public Runnable awaitChange(Long roomId, Runnable listener) {
+        return roomStatusBoard.awaitChange(roomId, listener);
+    }
+    
+    private static long rentIdOf(RoomDisplayBookingView booking) {
+        return booking != null ? booking.rentId() : 0;
+    }
+    
+    private static RoomStatusBookingResponse toResponse(RoomDisplayBookingView booking) {
+        if (booking == null) {
+            return null;
+        }
+        return new RoomStatusBookingResponse(
+                booking.rentId(), booking.purpose(), booking.organizerName(), booking.startTime(), booking.endTime());
+    }
+}
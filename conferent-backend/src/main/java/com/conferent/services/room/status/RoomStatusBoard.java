@@ -0,0 +1,257 @@
+package com.conferent.services.room.status;
+
+import com.conferent.dtos.room.RoomResponse;
+import com.conferent.events.RentChangedEvent;
+import com.conferent.events.RentSnapshot;
+import com.conferent.events.RoomChangedEvent;
+import com.conferent.repositories.room.RoomRepository;
+import com.conferent.repositories.roomrent.RoomDisplayBookingView;
+import com.conferent.repositories.roomrent.RoomRentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 회의실별 오늘 예약 현황판 (문 앞 태블릿의 "현재/다음 회의" 조회용)
+ *
+ * 오늘 예약 전체를 회의실별 불변 스냅샷으로 만들어 두고, 조회는 volatile 참조 하나만 읽어 DB를 거치지 않는다.
+ *
+ * - 예약/회의실 변경 커밋 후와 자정에 오늘 예약을 쿼리 한 번으로 다시 읽어 스냅샷을 통째로 교체한다.
+ *   커밋한 스레드는 다시 읽기를 예약만 하고, 전용 스레드 하나가 refresh-delay 동안 모인 변경을 한 번에 반영한다.
+ *   예약이 몰려도 쓰기 요청은 기다리지 않고, 다시 읽기는 지연 시간마다 한 번만 실행된다.
+ * - 회의실마다 버전을 두어 일정이 실제로 바뀐 회의실만 버전을 올리고, 해당 회의실의 대기 중인 조회(롱 폴링)를 깨운다.
+ * - 다시 읽기는 새 읽기 트랜잭션에서 수행하여 커밋된 데이터만 반영하고, 동시에 하나만 실행한다.
+ */
+@Slf4j
+@Component
+public class RoomStatusBoard {
+
+    private final RoomRepository roomRepository;
+    private final RoomRentRepository roomRentRepository;
+    private final TransactionTemplate loadTransaction;
+    private final Duration refreshDelay;
+
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService refreshExecutor;
+
+    // 회의실 ID -> 일정이 바뀌면 한 번 호출할 대기자
+    private final Map<Long, Set<Runnable>> waiters = new ConcurrentHashMap<>();
+
+    // 현재 스냅샷 (적재 전에는 null)
+    private volatile Snapshot snapshot;
+
+    // 마지막으로 부여한 회의실 일정 버전
+    private long lastVersion;
+
+    public RoomStatusBoard(RoomRepository roomRepository,
+                           RoomRentRepository roomRentRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${conferent.room-status.refresh-delay:200ms}") Duration refreshDelay) {
+        this.roomRepository = roomRepository;
+        this.roomRentRepository = roomRentRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.refreshDelay = refreshDelay;
+        this.refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "room-status-board");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 오늘 현황 스냅샷 (적재 전이거나 날짜가 바뀌었으면 먼저 다시 읽음)
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || !current.date().equals(LocalDate.now())) {
+            return rebuild(true);
+        }
+        return current;
+    }
+
+    /**
+     * 회의실 일정이 바뀌면 listener를 한 번 호출하도록 등록
+     *
+     * @return 등록 취소 (응답 완료/시간 초과 시 호출)
+     */
+    public Runnable awaitChange(Long roomId, Runnable listener) {
+        waiters.computeIfAbsent(roomId, id -> ConcurrentHashMap.newKeySet()).add(listener);
+        return () -> {
+            Set<Runnable> roomWaiters = waiters.get(roomId);
+            if (roomWaiters != null) {
+                roomWaiters.remove(listener);
+            }
+        };
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Snapshot loaded = rebuild(false);
+        log.info("회의실 현황판 적재 완료 - 날짜: {}, 회의실 수: {}", loaded.date(), loaded.rooms().size());
+    }
+
+    /**
+     * 자정에 새 날짜의 현황으로 교체
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rollOver() {
+        rebuild(false);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        refreshExecutor.shutdown();
+        if (!refreshExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 오늘 일정에 걸친 예약 변경 커밋 후 다시 읽기 예약
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRentChanged(RentChangedEvent event) {
+        Snapshot current = snapshot;
+        if (current != null && !touches(event.before(), current.date()) && !touches(event.after(), current.date())) {
+            return;
+        }
+        scheduleRefresh();
+    }
+
+    /**
+     * 회의실 생성/수정/삭제 커밋 후 다시 읽기 예약 (이름/위치 표시, 회의실 목록 반영)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRoomChanged(RoomChangedEvent event) {
+        scheduleRefresh();
+    }
+
+    /**
+     * 다시 읽기가 예약되어 있지 않으면 refresh-delay 뒤로 예약
+     */
+    private void scheduleRefresh() {
+        if (!refreshScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.schedule(this::refreshPending, refreshDelay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            log.debug("회의실 현황판 갱신 예약 거부 (종료 중)");
+        }
+    }
+
+    private void refreshPending() {
+        // 다시 읽는 중 커밋된 변경이 다음 갱신을 예약할 수 있도록 먼저 해제
+        refreshScheduled.set(false);
+        try {
+            rebuild(false);
+        } catch (RuntimeException e) {
+            // 다음 변경이나 자정 교체 때 다시 읽으므로 원래 쓰기에는 영향을 주지 않음
+            log.warn("회의실 현황판 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 오늘 예약을 다시 읽어 스냅샷 교체 후, 일정이 바뀐 회의실의 대기자 호출
+     *
+     * @param onlyIfStale true면 기다리는 동안 다른 스레드가 오늘 스냅샷을 만들었을 때 다시 읽지 않음
+     */
+    private Snapshot rebuild(boolean onlyIfStale) {
+        List<Long> changedRoomIds = new ArrayList<>();
+        Snapshot rebuilt;
+        synchronized (this) {
+            LocalDate today = LocalDate.now();
+            if (onlyIfStale && snapshot != null && snapshot.date().equals(today)) {
+                return snapshot;
+            }
+            LocalDateTime dayStart = today.atStartOfDay();
+            LocalDateTime dayEnd = today.plusDays(1).atStartOfDay();
+            Loaded loaded = loadTransaction.execute(status -> new Loaded(
+                    roomRepository.findAllResponsesOrderByName(),
+                    roomRentRepository.findDisplayBookingViewsBetween(dayStart, dayEnd)));
+
+            Map<Long, List<RoomDisplayBookingView>> bookingsByRoomId = new HashMap<>();
+            for (RoomDisplayBookingView booking : loaded.bookings()) {
+                bookingsByRoomId.computeIfAbsent(booking.roomId(), id -> new ArrayList<>()).add(booking);
+            }
+
+            Snapshot previous = snapshot;
+            Map<Long, RoomSchedule> rooms = new HashMap<>();
+            for (RoomResponse room : loaded.rooms()) {
+                List<RoomDisplayBookingView> bookings = List.copyOf(bookingsByRoomId.getOrDefault(room.getId(), List.of()));
+                RoomSchedule before = previous != null ? previous.rooms().get(room.getId()) : null;
+                if (before != null && before.room().equals(room) && before.bookings().equals(bookings)) {
+                    rooms.put(room.getId(), before);
+                } else {
+                    rooms.put(room.getId(), new RoomSchedule(room, ++lastVersion, bookings));
+                    changedRoomIds.add(room.getId());
+                }
+            }
+            if (previous != null) {
+                previous.rooms().keySet().stream()
+                        .filter(roomId -> !rooms.containsKey(roomId))
+                        .forEach(changedRoomIds::add);
+            }
+            rebuilt = new Snapshot(today, Map.copyOf(rooms));
+            snapshot = rebuilt;
+        }
+
+        for (Long roomId : changedRoomIds) {
+            Set<Runnable> roomWaiters = waiters.remove(roomId);
+            if (roomWaiters != null) {
+                roomWaiters.forEach(Runnable::run);
+            }
+        }
+        return rebuilt;
+    }
+
+    private static boolean touches(RentSnapshot rent, LocalDate date) {
+        return rent != null
+                && rent.startTime().isBefore(date.plusDays(1).atStartOfDay())
+                && rent.endTime().isAfter(date.atStartOfDay());
+    }
+
+    /**
+     * 특정 날짜의 회의실별 일정 (불변)
+     */
+    public record Snapshot(LocalDate date, Map<Long, RoomSchedule> rooms) {
+    }
+
+    /**
+     * 회의실 정보와 그날 예약 (시작 시간 순, 불변)
+     *
+     * @param version 일정이나 회의실 정보가 바뀔 때마다 증가하는 값 (조건부 조회용)
+     */
+    public record RoomSchedule(RoomResponse room, long version, List<RoomDisplayBookingView> bookings) {
+    }
+
+    private record Loaded(List<RoomResponse> rooms, List<RoomDisplayBookingView> bookings) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.conferent.services.roomrent;
 
+import com.conferent.dtos.room.RoomRecommendationResponse;
+import com.conferent.dtos.room.RoomResponse;
 import com.conferent.entities.RoomRent;
 import com.conferent.entities.Room;
 import com.conferent.entities.Rent;
@@ -68,4 +70,16 @@ public interface RoomRentService {
      * 이용 가능한 회의실 조회
      */
     List<Room> getAvailableRooms();
+    
+    /**
+     * 특정 시간대에 비어 있는 회의실 조회 (수용 인원/위치 조건은 선택, 이름 순)
+     */
+    List<RoomResponse> findAvailableRooms(LocalDateTime startTime, LocalDateTime endTime, Integer minCapacity, String location);
+    
+    /**
+     * 특정 시간대에 비어 있고 참석 인원이 들어가는 회의실 추천
+     * 남는 좌석이 적은 순, 같으면 선호 위치 우선, 이름 순으로 최대 limit개
+     */
+    List<RoomRecommendationResponse> recommendRooms(LocalDateTime startTime, LocalDateTime endTime,
+                                                    int attendeeCount, String preferredLocation, int limit);
 } 
\ No newline at end of file
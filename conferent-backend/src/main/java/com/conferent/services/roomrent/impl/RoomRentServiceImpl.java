@@ -1,20 +1,39 @@
 package com.conferent.services.roomrent.impl;
 
+import com.conferent.dtos.room.RoomRecommendationResponse;
+import com.conferent.dtos.room.RoomResponse;
 import com.conferent.entities.RoomRent;
 import com.conferent.entities.Room;
 import com.conferent.entities.Rent;
+import com.conferent.events.RentChangedEvent;
+import com.conferent.events.RentSnapshot;
 import com.conferent.exceptions.NotFoundException;
+import com.conferent.repositories.roomrent.RoomBookingView;
 import com.conferent.repositories.roomrent.RoomRentRepository;
 import com.conferent.repositories.room.RoomRepository;
 import com.conferent.repositories.rent.RentRepository;
+import com.conferent.services.rent.index.RoomAvailabilityIndex;
+import com.conferent.services.rent.index.RoomIntervalIndex;
 import com.conferent.services.roomrent.RoomRentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +43,18 @@ public class RoomRentServiceImpl implements RoomRentService {
     private final RoomRentRepository roomRentRepository;
     private final RoomRepository roomRepository;
     private final RentRepository rentRepository;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+    private final RoomIntervalIndex roomIntervalIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    // 가용 회의실 조회 최대 기간 (일)
+    private static final long MAX_AVAILABILITY_DAYS = 31;
+    
+    // 회의실 추천 최대 개수
+    private static final int MAX_RECOMMENDATIONS = 20;
+    
+    // 후보 회의실이 이보다 많으면 회의실 ID IN 목록 대신 시간 조건으로 예약 있는 회의실을 찾음
+    private static final int ROOM_ID_LOOKUP_LIMIT = 500;
     
     @Override
     @Transactional(readOnly = true)
@@ -58,29 +89,59 @@ public class RoomRentServiceImpl implements RoomRentService {
         Rent rent = rentRepository.findById(rentId)
                 .orElseThrow(() -> new NotFoundException("예약을 찾을 수 없습니다. ID: " + rentId));
         
+        RentSnapshot before = snapshotOf(rent);
+        
         RoomRent roomRent = new RoomRent();
         roomRent.setRoom(room);
         roomRent.setRent(rent);
+        RoomRent savedRoomRent = roomRentRepository.save(roomRent);
         
-        return roomRentRepository.save(roomRent);
+        List<Long> roomIds = new ArrayList<>(before.roomIds());
+        roomIds.add(roomId);
+        eventPublisher.publishEvent(RentChangedEvent.updated(before, withRooms(before, roomIds)));
+        return savedRoomRent;
     }
     
     @Override
     public void deleteRoomRent(Long id) {
-        if (!roomRentRepository.existsById(id)) {
-            throw new NotFoundException("회의실-예약 연결을 찾을 수 없습니다. ID: " + id);
-        }
+        RoomRent roomRent = roomRentRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("회의실-예약 연결을 찾을 수 없습니다. ID: " + id));
+        RentSnapshot before = snapshotOf(roomRent.getRent());
+        Long roomId = roomRent.getRoom().getId();
+        
         roomRentRepository.deleteById(id);
+        
+        List<Long> roomIds = new ArrayList<>(before.roomIds());
+        roomIds.remove(roomId);
+        eventPublisher.publishEvent(RentChangedEvent.updated(before, withRooms(before, roomIds)));
     }
     
     @Override
     public void deleteByRentId(Long rentId) {
+        Optional<Rent> rent = rentRepository.findById(rentId);
+        RentSnapshot before = rent.map(this::snapshotOf).orElse(null);
+        
         roomRentRepository.deleteByRentId(rentId);
+        
+        if (before != null) {
+            eventPublisher.publishEvent(RentChangedEvent.updated(before, withRooms(before, Collections.emptyList())));
+        }
     }
     
     @Override
     public void deleteByRoomId(Long roomId) {
+        Set<Long> rentIds = roomRentRepository.findByRoomId(roomId).stream()
+                .map(rr -> rr.getRent().getId())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Collection<RentSnapshot> befores = snapshotsOf(rentIds).values();
+        
         roomRentRepository.deleteByRoomId(roomId);
+        
+        for (RentSnapshot before : befores) {
+            List<Long> roomIds = new ArrayList<>(before.roomIds());
+            roomIds.remove(roomId);
+            eventPublisher.publishEvent(RentChangedEvent.updated(before, withRooms(before, roomIds)));
+        }
     }
     
     @Override
@@ -109,6 +170,144 @@ public class RoomRentServiceImpl implements RoomRentService {
         // 현재 시간부터 1시간 후까지 사용 가능한 회의실 조회
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime oneHourLater = now.plusHours(1);
-        return roomRentRepository.findAvailableRooms(now, oneHourLater);
+        // 예약이 있는 회의실을 시간 조건으로 먼저 찾고 전체 회의실(이름 순)에서 제외
+        Set<Long> busyRoomIds = new HashSet<>(roomRentRepository.findBusyRoomIds(now, oneHourLater));
+        return roomRepository.findAllOrderByName().stream()
+                .filter(room -> !busyRoomIds.contains(room.getId()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoomResponse> findAvailableRooms(LocalDateTime startTime, LocalDateTime endTime, Integer minCapacity, String location) {
+        validateAvailabilityRange(startTime, endTime);
+        String locationFilter = (location == null || location.isBlank()) ? null : location;
+        
+        // 점유 비트맵으로 조회 (DB 왕복 없음)
+        if (roomAvailabilityIndex.covers(startTime)) {
+            RoomAvailabilityIndex.Availability availability =
+                    roomAvailabilityIndex.findAvailability(startTime, endTime, minCapacity, locationFilter);
+            if (availability.needsCheck().isEmpty()) {
+                return availability.available();
+            }
+            // 경계 슬롯만 겹친 회의실은 실제 예약 시간으로 확인
+            List<RoomResponse> rooms = new ArrayList<>(availability.available());
+            rooms.addAll(excludeBusyRooms(availability.needsCheck(), startTime, endTime));
+            rooms.sort(Comparator.comparing(RoomResponse::getName).thenComparing(RoomResponse::getId));
+            return rooms;
+        }
+        
+        // 인덱스 적재 전이거나 과거 구간은 DB로 조회
+        List<RoomResponse> candidates = roomRepository.findResponsesByFilter(minCapacity, locationFilter);
+        return excludeBusyRooms(candidates, startTime, endTime);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoomRecommendationResponse> recommendRooms(LocalDateTime startTime, LocalDateTime endTime,
+                                                           int attendeeCount, String preferredLocation, int limit) {
+        validateAvailabilityRange(startTime, endTime);
+        if (attendeeCount < 1) {
+            throw new IllegalArgumentException("참석 인원은 1명 이상이어야 합니다");
+        }
+        if (limit < 1 || limit > MAX_RECOMMENDATIONS) {
+            throw new IllegalArgumentException("추천 개수는 1~" + MAX_RECOMMENDATIONS + "개여야 합니다");
+        }
+        String location = (preferredLocation == null || preferredLocation.isBlank()) ? null : preferredLocation;
+        
+        List<RoomResponse> candidates;
+        if (roomAvailabilityIndex.covers(startTime)) {
+            // 수용 인원 순 인덱스로 작은 회의실부터 확인 (충분히 모이면 큰 회의실은 보지 않음)
+            RoomAvailabilityIndex.Availability availability =
+                    roomAvailabilityIndex.findSmallestAvailability(startTime, endTime, attendeeCount, limit);
+            candidates = new ArrayList<>(availability.available());
+            candidates.addAll(excludeBusyRooms(availability.needsCheck(), startTime, endTime));
+        } else {
+            candidates = excludeBusyRooms(roomRepository.findResponsesByCapacityAtLeast(attendeeCount), startTime, endTime);
+        }
+        
+        return candidates.stream()
+                .map(room -> new RoomRecommendationResponse(room, room.getCapacity() - attendeeCount,
+                        location != null && location.equals(room.getLocation())))
+                .sorted(Comparator.comparingInt(RoomRecommendationResponse::getSpareSeats)
+                        .thenComparing(RoomRecommendationResponse::isPreferredLocation, Comparator.reverseOrder())
+                        .thenComparing(recommendation -> recommendation.getRoom().getName()))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+    
+    private void validateAvailabilityRange(LocalDateTime startTime, LocalDateTime endTime) {
+        if (!startTime.isBefore(endTime)) {
+            throw new IllegalArgumentException("시작 시간은 종료 시간보다 이전이어야 합니다");
+        }
+        if (Duration.between(startTime, endTime).toDays() >= MAX_AVAILABILITY_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_AVAILABILITY_DAYS + "일입니다");
+        }
+    }
+    
+    /**
+     * 후보 회의실 중 [startTime, endTime)에 예약이 있는 회의실 제외 (순서 유지)
+     */
+    private List<RoomResponse> excludeBusyRooms(List<RoomResponse> candidates, LocalDateTime startTime, LocalDateTime endTime) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        List<Long> roomIds = candidates.stream()
+                .map(RoomResponse::getId)
+                .collect(Collectors.toList());
+        
+        Set<Long> busyRoomIds = new HashSet<>();
+        if (roomIntervalIndex.covers(startTime)) {
+            for (Long roomId : roomIds) {
+                if (!roomIntervalIndex.findConflicts(roomId, startTime, endTime, null).isEmpty()) {
+                    busyRoomIds.add(roomId);
+                }
+            }
+        } else if (roomIds.size() > ROOM_ID_LOOKUP_LIMIT) {
+            // 긴 IN 목록은 행마다 목록 비교가 반복되므로 시간 범위 인덱스로 예약 있는 회의실 전체를 찾은 뒤 걸러냄
+            busyRoomIds.addAll(roomRentRepository.findBusyRoomIds(startTime, endTime));
+        } else {
+            for (RoomBookingView booking : roomRentRepository.findConflictingBookingViews(roomIds, startTime, endTime, null)) {
+                busyRoomIds.add(booking.roomId());
+            }
+        }
+        return candidates.stream()
+                .filter(room -> !busyRoomIds.contains(room.getId()))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 변경 이벤트용 예약 스냅샷 (현재 연결된 회의실 포함)
+     */
+    private RentSnapshot snapshotOf(Rent rent) {
+        RentSnapshot snapshot = snapshotsOf(Collections.singleton(rent.getId())).get(rent.getId());
+        return snapshot != null
+                ? snapshot
+                : new RentSnapshot(rent.getId(), rent.getStartTime(), rent.getEndTime(), Collections.emptyList());
+    }
+    
+    /**
+     * 여러 예약의 스냅샷을 한 번에 조회 (회의실이 연결된 예약만 포함)
+     */
+    private Map<Long, RentSnapshot> snapshotsOf(Collection<Long> rentIds) {
+        Map<Long, RentSnapshot> snapshots = new HashMap<>();
+        if (rentIds.isEmpty()) {
+            return snapshots;
+        }
+        Map<Long, List<Long>> roomIdsByRentId = new HashMap<>();
+        Map<Long, RoomBookingView> firstViewByRentId = new HashMap<>();
+        for (RoomBookingView view : roomRentRepository.findBookingViewsByRentIdIn(rentIds)) {
+            roomIdsByRentId.computeIfAbsent(view.rentId(), id -> new ArrayList<>()).add(view.roomId());
+            firstViewByRentId.putIfAbsent(view.rentId(), view);
+        }
+        for (Map.Entry<Long, List<Long>> entry : roomIdsByRentId.entrySet()) {
+            RoomBookingView view = firstViewByRentId.get(entry.getKey());
+            snapshots.put(entry.getKey(), new RentSnapshot(entry.getKey(), view.startTime(), view.endTime(), entry.getValue()));
+        }
+        return snapshots;
+    }
+    
+    private RentSnapshot withRooms(RentSnapshot snapshot, List<Long> roomIds) {
+        return new RentSnapshot(snapshot.rentId(), snapshot.startTime(), snapshot.endTime(), roomIds);
     }
-} 
\ No newline at end of file
+}
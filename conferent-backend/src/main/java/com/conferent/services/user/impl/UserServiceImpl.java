@@ -15,7 +15,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 사용자 관련 비즈니스 로직 구현 클래스
@@ -25,6 +24,9 @@ import java.util.stream.Collectors;
  * 2. Spring Security와 연동된 인증 처리
  * 3. 비밀번호 암호화/검증
  * 4. 사용자 검색 및 필터링
+ * 
+ * 조회 전용 메서드는 UserResponse DTO 프로젝션으로 조회하여
+ * 비밀번호 컬럼과 엔티티 스냅샷을 로드하지 않음
  */
 @Slf4j
 @Service
@@ -45,10 +47,7 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public List<UserResponse> getAllUsers() {
         log.debug("전체 사용자 목록 조회");
-        return userRepository.findAllOrderByName()
-                .stream()
-                .map(UserResponse::from)
-                .collect(Collectors.toList());
+        return userRepository.findAllResponsesOrderByName();
     }
     
     /**
@@ -58,9 +57,8 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public UserResponse getUserById(Long id) {
         log.debug("사용자 조회 - ID: {}", id);
-        User user = userRepository.findById(id)
+        return userRepository.findResponseById(id)
                 .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다. ID: " + id));
-        return UserResponse.from(user);
     }
     
     /**
@@ -71,9 +69,8 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public UserResponse getUserByEmail(String email) {
         log.debug("사용자 조회 - 이메일: {}", email);
-        User user = userRepository.findByEmail(email)
+        return userRepository.findResponseByEmail(email)
                 .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다. Email: " + email));
-        return UserResponse.from(user);
     }
     
     /**
@@ -83,10 +80,7 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public List<UserResponse> searchUsersByName(String name) {
         log.debug("사용자 이름 검색: {}", name);
-        return userRepository.findByNameContainingOrderByName(name)
-                .stream()
-                .map(UserResponse::from)
-                .collect(Collectors.toList());
+        return userRepository.findResponsesByNameContaining(name);
     }
     
     /**
@@ -96,10 +90,7 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public List<UserResponse> findUsersByRole(Role role) {
         log.debug("역할별 사용자 조회: {}", role);
-        return userRepository.findByRoleOrderByName(role)
-                .stream()
-                .map(UserResponse::from)
-                .collect(Collectors.toList());
+        return userRepository.findResponsesByRole(role);
     }
     
     /**
@@ -177,6 +168,10 @@ public class UserServiceImpl implements UserService {
             throw new IllegalArgumentException("이미 존재하는 이메일입니다: " + request.getEmail());
         }
         
+        // 역할/이메일/비밀번호가 바뀌면 기존 로그인 세션을 무효화하기 위해 토큰 버전을 올림 (리프레시 시 확인)
+        boolean credentialsChanged = existingUser.getRole() != request.getRole()
+                || !existingUser.getEmail().equals(request.getEmail());
+        
         existingUser.setName(request.getName());
         existingUser.setEmail(request.getEmail());
         
@@ -184,12 +179,18 @@ public class UserServiceImpl implements UserService {
         if (request.getPassword() != null && !request.getPassword().isEmpty()) {
             String encodedPassword = passwordEncoder.encode(request.getPassword());
             existingUser.setPassword(encodedPassword);
+            credentialsChanged = true;
         }
         
         existingUser.setRole(request.getRole());
         
+        if (credentialsChanged) {
+            existingUser.setTokenVersion(existingUser.getTokenVersion() + 1);
+        }
+        
         User updatedUser = userRepository.save(existingUser);
-        log.info("사용자 수정 완료 - ID: {}, 이메일: {}", updatedUser.getId(), updatedUser.getEmail());
+        log.info("사용자 수정 완료 - ID: {}, 이메일: {}, 토큰 버전: {}",
+                updatedUser.getId(), updatedUser.getEmail(), updatedUser.getTokenVersion());
         
         return UserResponse.from(updatedUser);
     }
@@ -4,12 +4,14 @@ import com.conferent.entities.UserInvite;
 import com.conferent.entities.User;
 import com.conferent.entities.RoomRent;
 import com.conferent.enums.InviteStatus;
+import com.conferent.events.InviteChangedEvent;
 import com.conferent.exceptions.NotFoundException;
 import com.conferent.repositories.userinvite.UserInviteRepository;
 import com.conferent.repositories.user.UserRepository;
 import com.conferent.repositories.roomrent.RoomRentRepository;
 import com.conferent.services.userinvite.UserInviteService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +27,7 @@ public class UserInviteServiceImpl implements UserInviteService {
     private final UserInviteRepository userInviteRepository;
     private final UserRepository userRepository;
     private final RoomRentRepository roomRentRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     @Transactional(readOnly = true)
@@ -77,28 +80,40 @@ public class UserInviteServiceImpl implements UserInviteService {
     @Override
     public UserInvite updateInviteStatus(Long id, InviteStatus status) {
         UserInvite userInvite = getUserInviteById(id);
+        boolean acceptedChanged = (userInvite.getStatus() == InviteStatus.ACCEPTED) != (status == InviteStatus.ACCEPTED);
         userInvite.setStatus(status);
         userInvite.setRespondedAt(LocalDateTime.now());
         
-        return userInviteRepository.save(userInvite);
+        UserInvite savedInvite = userInviteRepository.save(userInvite);
+        if (acceptedChanged) {
+            publishInviteChanged(savedInvite.getRoomRent());
+        }
+        return savedInvite;
     }
     
     @Override
     public void deleteUserInvite(Long id) {
-        if (!userInviteRepository.existsById(id)) {
-            throw new NotFoundException("사용자 초대를 찾을 수 없습니다. ID: " + id);
-        }
+        UserInvite userInvite = userInviteRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("사용자 초대를 찾을 수 없습니다. ID: " + id));
+        RoomRent roomRent = userInvite.getRoomRent();
+        boolean accepted = userInvite.getStatus() == InviteStatus.ACCEPTED;
         userInviteRepository.deleteById(id);
+        if (accepted) {
+            publishInviteChanged(roomRent);
+        }
     }
     
     @Override
     public void deleteByUserId(Long userId) {
+        List<UserInvite> acceptedInvites = userInviteRepository.findByUserIdAndStatus(userId, InviteStatus.ACCEPTED);
         userInviteRepository.deleteByUserId(userId);
+        acceptedInvites.forEach(invite -> publishInviteChanged(invite.getRoomRent()));
     }
     
     @Override
     public void deleteByRoomRentId(Long roomRentId) {
         userInviteRepository.deleteByRoomRentId(roomRentId);
+        roomRentRepository.findById(roomRentId).ifPresent(this::publishInviteChanged);
     }
     
     @Override
@@ -126,4 +141,15 @@ public class UserInviteServiceImpl implements UserInviteService {
     public long countAcceptedInvitesForRent(Long rentId) {
         return userInviteRepository.countAcceptedInvitesForRent(rentId);
     }
+    
+    /**
+     * 수락한 참석자 수가 바뀐 회의실-예약 알림 (커밋 후 이용 집계 갱신용)
+     */
+    private void publishInviteChanged(RoomRent roomRent) {
+        eventPublisher.publishEvent(new InviteChangedEvent(
+                roomRent.getRoom().getId(),
+                roomRent.getRent().getId(),
+                roomRent.getRent().getStartTime(),
+                roomRent.getRent().getEndTime()));
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,244 @@
+package com.conferent.repositories.roomrent;
+
+import com.conferent.entities.Room;
+import com.conferent.entities.User;
+import com.conferent.enums.Role;
+import com.conferent.repositories.room.RoomRepository;
+import com.conferent.repositories.user.UserRepository;
+import com.conferent.services.roomrent.RoomRentService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 빈 회의실 조회 벤치마크 - 회의실 1만 개 × 예약 100만 건
+ *
+ * 고정 시드로 예약을 JDBC 배치로 적재한 뒤, 과거/미래 1시간 구간에 대해
+ * 예약이 있는 회의실 ID를 먼저 찾아 제외하는 현재 방식(findBusyRoomIds), NOT EXISTS 안티 조인, 최초 NOT IN 쿼리와
+ * /available의 DB 경로(RoomRentService.findAvailableRooms)와 그 이전 IN 목록 방식의 소요 시간을 비교하고 H2 실행 계획을 출력한다.
+ * H2 메모리 DB 기준이므로 MariaDB에서의 절대 수치가 아니라 접근 방식 비교용이다.
+ *
+ * 실행: ./gradlew benchmark --tests '*AvailableRoomQueryBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        // 같은 쿼리를 반복할 때 H2가 이전 결과를 재사용하지 않도록 OPTIMIZE_REUSE_RESULTS 비활성화
+        "spring.datasource.url=jdbc:h2:mem:conferent-room-benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;OPTIMIZE_REUSE_RESULTS=FALSE",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=1000"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AvailableRoomQueryBenchmark {
+
+    private static final int ROOMS = 10_000;
+    private static final int RENTS = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final long SEED = 17L;
+
+    // 예약 분포: 오늘 기준 300일 전 ~ 65일 후, 15분 단위 시작, 30~120분 길이
+    private static final int DAYS_BACK = 300;
+    private static final int DAYS_SPAN = 365;
+
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 5;
+
+    // 최초 NOT IN 쿼리 (H2에서는 회의실마다 부분 질의를 다시 계산하여 수 분이 걸리므로 미래 구간만 한 번 측정)
+    private static final String NOT_IN =
+            "SELECT DISTINCT r FROM Room r WHERE r.id NOT IN " +
+            "(SELECT rr.room.id FROM RoomRent rr " +
+            "WHERE rr.rent.startTime < :endTime AND rr.rent.endTime > :startTime)";
+
+    // 회의실마다 예약을 훑는 NOT EXISTS 안티 조인 (findBusyRoomIds 이전 방식)
+    private static final String NOT_EXISTS =
+            "SELECT r FROM Room r WHERE NOT EXISTS (" +
+            "SELECT 1 FROM RoomRent rr JOIN rr.rent rent WHERE rr.room = r AND " +
+            "rent.startTime < :endTime AND rent.endTime > :startTime) " +
+            "ORDER BY r.name";
+
+    @Autowired
+    private RoomRentRepository roomRentRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomRentService roomRentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private LocalDate today;
+
+    @BeforeAll
+    void seed() {
+        today = LocalDate.now();
+        User user = new User();
+        user.setName("벤치마크");
+        user.setEmail("benchmark@conferent.test");
+        user.setPassword("{noop}password");
+        user.setRole(Role.USER);
+        Long creatorId = userRepository.save(user).getId();
+
+        long startedAt = System.nanoTime();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> rooms = new ArrayList<>(BATCH_SIZE);
+        for (int id = 1; id <= ROOMS; id++) {
+            rooms.add(new Object[]{id, String.format("회의실 %05d", id), "층 " + (id % 20), 4 + id % 16, now, now});
+            if (rooms.size() == BATCH_SIZE) {
+                insertRooms(rooms);
+            }
+        }
+        insertRooms(rooms);
+
+        Random random = new Random(SEED);
+        LocalDateTime origin = today.minusDays(DAYS_BACK).atStartOfDay();
+        List<Object[]> rents = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> links = new ArrayList<>(BATCH_SIZE);
+        for (int id = 1; id <= RENTS; id++) {
+            LocalDateTime startTime = origin.plusMinutes(15L * random.nextInt(DAYS_SPAN * 96));
+            LocalDateTime endTime = startTime.plusMinutes(30L + 15L * random.nextInt(7));
+            rents.add(new Object[]{id, Timestamp.valueOf(startTime), Timestamp.valueOf(endTime), creatorId, now, now});
+            links.add(new Object[]{id, 1 + random.nextInt(ROOMS), id, now});
+            if (rents.size() == BATCH_SIZE) {
+                insertRents(rents, links);
+            }
+        }
+        insertRents(rents, links);
+        jdbcTemplate.execute("ANALYZE");
+
+        System.out.printf("적재 완료 - 회의실 %,d개, 예약 %,d건, 소요: %,d ms%n",
+                ROOMS, RENTS, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @Test
+    void availableRoomQueries() {
+        Window future = new Window("미래(내일 10-11시)",
+                today.plusDays(1).atTime(10, 0), today.plusDays(1).atTime(11, 0));
+        Window past = new Window("과거(100일 전 10-11시)",
+                today.minusDays(100).atTime(10, 0), today.minusDays(100).atTime(11, 0));
+
+        for (Window window : List.of(future, past)) {
+            // RoomRentService.getAvailableRooms와 같은 방식
+            int busyFirst = measure("findBusyRoomIds 후 제외 (현재)", window, WARMUP_RUNS, MEASURED_RUNS, w -> {
+                entityManager.clear();
+                Set<Long> busyRoomIds = new HashSet<>(roomRentRepository.findBusyRoomIds(w.startTime(), w.endTime()));
+                return (int) roomRepository.findAllOrderByName().stream()
+                        .filter(room -> !busyRoomIds.contains(room.getId()))
+                        .count();
+            });
+            int notExists = measure("NOT EXISTS 안티 조인 (이전)", window, WARMUP_RUNS, MEASURED_RUNS, w -> {
+                entityManager.clear();
+                return entityManager.createQuery(NOT_EXISTS, Room.class)
+                        .setParameter("startTime", w.startTime())
+                        .setParameter("endTime", w.endTime())
+                        .getResultList().size();
+            });
+            assertThat(busyFirst).isEqualTo(notExists);
+        }
+
+        int notIn = measure("NOT IN + DISTINCT (최초)", future, 0, 1, w -> {
+            entityManager.clear();
+            return entityManager.createQuery(NOT_IN, Room.class)
+                    .setParameter("startTime", w.startTime())
+                    .setParameter("endTime", w.endTime())
+                    .getResultList().size();
+        });
+        assertThat(notIn).isEqualTo(ROOMS - roomRentRepository.findBusyRoomIds(future.startTime(), future.endTime()).size());
+
+        // /available의 DB 경로 (메모리 인덱스 보장 범위 밖인 과거 구간): 회의실 목록 + findBusyRoomIds
+        int fallback = measure("RoomRentService.findAvailableRooms", past, WARMUP_RUNS, MEASURED_RUNS, w ->
+                roomRentService.findAvailableRooms(w.startTime(), w.endTime(), null, null).size());
+        int busyInPast = roomRentRepository.findBusyRoomIds(past.startTime(), past.endTime()).size();
+        assertThat(fallback).isEqualTo(ROOMS - busyInPast);
+
+        // 같은 경로의 이전 방식: 회의실 1만 개 ID IN 목록으로 충돌 조회 (H2에서 수 분이 걸려 한 번만 측정)
+        List<Long> allRoomIds = roomRepository.findAll().stream().map(Room::getId).toList();
+        int inList = measure("회의실 ID IN 목록 충돌 조회 (이전)", past, 0, 1, w ->
+                (int) roomRentRepository.findConflictingBookingViews(allRoomIds, w.startTime(), w.endTime(), null)
+                        .stream().map(RoomBookingView::roomId).distinct().count());
+        assertThat(inList).isEqualTo(busyInPast);
+
+        printPlan(past);
+    }
+
+    /**
+     * 워밍업 후 반복 측정하여 중앙값/최솟값 출력, 기준 구간의 결과 건수 반환
+     * 측정마다 하루씩 다른 구간을 조회해 같은 결과를 재사용하지 않도록 한다.
+     */
+    private int measure(String name, Window window, int warmupRuns, int measuredRuns, Function<Window, Integer> query) {
+        for (int i = 0; i < warmupRuns; i++) {
+            query.apply(window.shiftDays(-7 - i));
+        }
+        long[] millis = new long[measuredRuns];
+        int result = 0;
+        // 마지막 측정이 기준 구간이 되도록 이전 날짜부터 조회
+        for (int i = measuredRuns - 1; i >= 0; i--) {
+            long startedAt = System.nanoTime();
+            result = query.apply(window.shiftDays(-i));
+            millis[i] = (System.nanoTime() - startedAt) / 1_000_000;
+        }
+        Arrays.sort(millis);
+        System.out.printf("%-36s %-22s 결과 %,6d개  중앙값 %,7d ms  최소 %,7d ms  (%d회)%n",
+                name, window.name(), result, millis[measuredRuns / 2], millis[0], measuredRuns);
+        return result;
+    }
+
+    private void printPlan(Window window) {
+        String sql = "EXPLAIN SELECT DISTINCT rr.room_id FROM room_rents rr JOIN rents rent ON rent.id = rr.rent_id " +
+                "WHERE rent.start_time < ? AND rent.end_time > ?";
+        String plan = jdbcTemplate.queryForObject(sql, String.class,
+                Timestamp.valueOf(window.endTime()), Timestamp.valueOf(window.startTime()));
+        System.out.println("findBusyRoomIds 실행 계획 (H2):\n" + plan);
+    }
+
+    private void insertRooms(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO rooms (id, name, location, capacity, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    private void insertRents(List<Object[]> rents, List<Object[]> links) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO rents (id, start_time, end_time, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                rents);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO room_rents (id, room_id, rent_id, created_at) VALUES (?, ?, ?, ?)", links);
+        rents.clear();
+        links.clear();
+    }
+
+    private record Window(String name, LocalDateTime startTime, LocalDateTime endTime) {
+
+        Window shiftDays(int days) {
+            return new Window(name, startTime.plusDays(days), endTime.plusDays(days));
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.conferent.services.auth;
+
+import com.conferent.dtos.rent.CreateRentRequest;
+import com.conferent.entities.Room;
+import com.conferent.entities.User;
+import com.conferent.enums.Role;
+import com.conferent.exceptions.LoginThrottledException;
+import com.conferent.repositories.room.RoomRepository;
+import com.conferent.repositories.user.UserRepository;
+import com.conferent.services.rent.RentService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 폭주 중 예약 지연 시간 벤치마크
+ *
+ * 예약 스레드들이 각자 회의실을 연속 예약하는 동안 다음 세 조건의 예약 지연 시간 분포(p50/p95/p99/최대)를 비교한다.
+ * 1. 로그인 없음 (기준)
+ * 2. 로그인 폭주를 LoginService로 처리 (해시 검증 전용 풀 + 대기열 한도, 초과분은 429)
+ * 3. 같은 폭주를 호출 스레드에서 바로 해시 검증 (전용 풀 도입 전 방식)
+ *
+ * 실행: ./gradlew benchmark --tests '*LoginStormBookingLatencyBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:conferent-login-benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=10000",
+        // 해시 풀이 폭주를 어떻게 흡수하는지 보려는 것이므로 계정/IP별 시도 한도는 사실상 해제
+        "conferent.auth.login.account.capacity=1000000",
+        "conferent.auth.login.ip.capacity=1000000"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LoginStormBookingLatencyBenchmark {
+
+    private static final int USERS = 20;
+    private static final int BOOKING_THREADS = 4;
+    private static final int BOOKINGS_PER_THREAD = 100;
+    private static final int STORM_THREADS = 32;
+
+    // 429를 받은 클라이언트가 다시 시도하기까지 기다리는 시간
+    private static final long REJECTED_BACKOFF_MILLIS = 100;
+
+    @Autowired
+    private LoginService loginService;
+
+    @Autowired
+    private RentService rentService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    private final List<User> users = new ArrayList<>();
+
+    private LocalDateTime base;
+
+    @BeforeAll
+    void setUp() {
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setName("로그인 벤치마크 " + i);
+            user.setEmail("login-" + i + "@conferent.test");
+            user.setPassword(passwordEncoder.encode(password(i)));
+            user.setRole(Role.USER);
+            users.add(userRepository.save(user));
+        }
+        base = LocalDateTime.now().plusDays(30).withHour(0).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    void bookingLatencyUnderLoginStorm() throws Exception {
+        // 워밍업 (JIT, 커넥션 풀, BCrypt)
+        runBookings(null);
+        runBookings(this::loginThroughService);
+
+        LatencyResult baseline = runBookings(null);
+        LatencyResult pooled = runBookings(this::loginThroughService);
+        LatencyResult inline = runBookings(this::hashOnCallerThread);
+
+        System.out.printf("예약 지연 시간 - 예약 스레드 %d개 × %d건, 로그인 폭주 스레드 %d개, 코어 %d개%n",
+                BOOKING_THREADS, BOOKINGS_PER_THREAD, STORM_THREADS, Runtime.getRuntime().availableProcessors());
+        baseline.print("로그인 없음");
+        pooled.print("폭주 - LoginService (전용 풀)");
+        inline.print("폭주 - 호출 스레드에서 해시");
+
+        assertThat(baseline.failures()).isZero();
+        assertThat(pooled.failures()).isZero();
+        assertThat(inline.failures()).isZero();
+    }
+
+    /**
+     * 로그인 한 번 시도 (LoginService 경유), 성공 여부 반환
+     */
+    private boolean loginThroughService(int userIndex) throws InterruptedException {
+        try {
+            User user = users.get(userIndex);
+            return loginService.login(user.getEmail(), password(userIndex), "10.0.0." + userIndex).join().isPresent();
+        } catch (LoginThrottledException e) {
+            Thread.sleep(REJECTED_BACKOFF_MILLIS);
+            return false;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof LoginThrottledException) {
+                Thread.sleep(REJECTED_BACKOFF_MILLIS);
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 로그인 한 번 시도 (요청 스레드에서 바로 해시 검증), 성공 여부 반환
+     */
+    private boolean hashOnCallerThread(int userIndex) {
+        return passwordEncoder.matches(password(userIndex), users.get(userIndex).getPassword());
+    }
+
+    /**
+     * 로그인 폭주(없으면 null)를 일으킨 채로 예약을 수행하고 예약별 지연 시간 수집
+     */
+    private LatencyResult runBookings(LoginAttempt storm) throws Exception {
+        AtomicBoolean stormRunning = new AtomicBoolean(true);
+        AtomicLong logins = new AtomicLong();
+        AtomicLong rejectedLogins = new AtomicLong();
+        List<Thread> stormThreads = new ArrayList<>();
+        if (storm != null) {
+            for (int i = 0; i < STORM_THREADS; i++) {
+                Thread thread = new Thread(() -> {
+                    while (stormRunning.get()) {
+                        try {
+                            if (storm.attempt(ThreadLocalRandom.current().nextInt(USERS))) {
+                                logins.incrementAndGet();
+                            } else {
+                                rejectedLogins.incrementAndGet();
+                            }
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                }, "login-storm-" + i);
+                thread.start();
+                stormThreads.add(thread);
+            }
+            // 폭주가 자리 잡을 때까지 대기
+            Thread.sleep(1000);
+        }
+
+        List<Room> rooms = createRooms();
+        long[] latencies = new long[BOOKING_THREADS * BOOKINGS_PER_THREAD];
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch done = new CountDownLatch(BOOKING_THREADS);
+        long startedAt = System.nanoTime();
+        for (int t = 0; t < BOOKING_THREADS; t++) {
+            int threadIndex = t;
+            new Thread(() -> {
+                try {
+                    Long roomId = rooms.get(threadIndex).getId();
+                    for (int i = 0; i < BOOKINGS_PER_THREAD; i++) {
+                        LocalDateTime startTime = base.plusMinutes(30L * i);
+                        CreateRentRequest request = new CreateRentRequest(startTime, startTime.plusMinutes(30),
+                                "지연 시간 측정", null, users.get(0).getId(), List.of(roomId), null);
+                        long requestedAt = System.nanoTime();
+                        rentService.createRent(request);
+                        latencies[threadIndex * BOOKINGS_PER_THREAD + i] = System.nanoTime() - requestedAt;
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            }, "booking-" + t).start();
+        }
+        done.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        stormRunning.set(false);
+        for (Thread thread : stormThreads) {
+            thread.join();
+        }
+        return new LatencyResult(latencies, elapsedNanos, logins.get(), rejectedLogins.get(), failures.size());
+    }
+
+    private List<Room> createRooms() {
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < BOOKING_THREADS; i++) {
+            Room room = new Room();
+            room.setName("지연 측정 회의실 " + UUID.randomUUID());
+            room.setLocation("벤치마크");
+            room.setCapacity(8);
+            rooms.add(room);
+        }
+        return roomRepository.saveAll(rooms);
+    }
+
+    private static String password(int userIndex) {
+        return "password-" + userIndex;
+    }
+
+    @FunctionalInterface
+    private interface LoginAttempt {
+        boolean attempt(int userIndex) throws InterruptedException;
+    }
+
+    private record LatencyResult(long[] latencies, long elapsedNanos, long logins, long rejectedLogins, int failures) {
+
+        void print(String name) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            double seconds = elapsedNanos / 1e9;
+            System.out.printf("%-28s p50 %6.1f ms  p95 %6.1f ms  p99 %6.1f ms  최대 %6.1f ms  예약 %5.0f건/s  로그인 성공 %5.1f건/s  거절 %5.1f건/s%n",
+                    name, millis(sorted, 0.50), millis(sorted, 0.95), millis(sorted, 0.99),
+                    sorted[sorted.length - 1] / 1e6, sorted.length / seconds, logins / seconds, rejectedLogins / seconds);
+        }
+
+        private static double millis(long[] sorted, double percentile) {
+            return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.conferent.services.rent;
+
+import com.conferent.dtos.rent.CreateRentRequest;
+import com.conferent.entities.Room;
+import com.conferent.entities.User;
+import com.conferent.enums.Role;
+import com.conferent.exceptions.DuplicateReservationException;
+import com.conferent.repositories.room.RoomRepository;
+import com.conferent.repositories.roomrent.RoomRentRepository;
+import com.conferent.repositories.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 쓰기 동시성 검증
+ *
+ * - 같은 회의실·시간대를 여러 스레드가 동시에 예약하면 정확히 하나만 성공해야 한다 (회의실 행 잠금 + DB 충돌 검사)
+ * - 서로 다른 회의실 예약은 잠금이 겹치지 않아 병렬로 진행되어야 한다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RentBookingConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private RentService rentService;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomRentRepository roomRentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User creator;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setName("동시성 테스트");
+        user.setEmail("concurrency-" + UUID.randomUUID() + "@conferent.test");
+        user.setPassword("{noop}password");
+        user.setRole(Role.USER);
+        creator = userRepository.save(user);
+    }
+
+    @Test
+    void concurrentBookingsOfSameSlotHaveExactlyOneWinner() throws Exception {
+        Room room = createRooms(1).get(0);
+        LocalDateTime startTime = LocalDateTime.now().plusDays(30).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        LocalDateTime endTime = startTime.plusHours(1);
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        runConcurrently(THREADS, index -> {
+            try {
+                rentService.createRent(request(List.of(room.getId()), startTime, endTime));
+                succeeded.incrementAndGet();
+            } catch (DuplicateReservationException e) {
+                conflicted.incrementAndGet();
+            } catch (Throwable e) {
+                unexpected.add(e);
+            }
+            return null;
+        });
+
+        assertThat(unexpected).isEmpty();
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(conflicted.get()).isEqualTo(THREADS - 1);
+        assertThat(roomRentRepository.findConflictingBookingViews(List.of(room.getId()), startTime, endTime, null))
+                .hasSize(1);
+    }
+
+    @Test
+    void overlappingMultiRoomBookingsDoNotDoubleBook() throws Exception {
+        // 회의실 집합이 서로 겹치는 예약들 (잠금 순서가 어긋나면 교착 상태가 생기는 조합)
+        List<Room> rooms = createRooms(3);
+        LocalDateTime startTime = LocalDateTime.now().plusDays(31).withHour(14).withMinute(0).withSecond(0).withNano(0);
+        LocalDateTime endTime = startTime.plusMinutes(30);
+        List<List<Long>> roomSets = List.of(
+                List.of(rooms.get(0).getId(), rooms.get(1).getId()),
+                List.of(rooms.get(1).getId(), rooms.get(2).getId()),
+                List.of(rooms.get(2).getId(), rooms.get(0).getId()));
+
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        AtomicInteger succeeded = new AtomicInteger();
+        runConcurrently(THREADS, index -> {
+            try {
+                rentService.createRent(request(roomSets.get(index % roomSets.size()), startTime, endTime));
+                succeeded.incrementAndGet();
+            } catch (DuplicateReservationException e) {
+                // 예상된 충돌
+            } catch (Throwable e) {
+                unexpected.add(e);
+            }
+            return null;
+        });
+
+        assertThat(unexpected).isEmpty();
+        // 어느 두 조합도 회의실을 공유하므로 하나만 성공할 수 있음
+        assertThat(succeeded.get()).isEqualTo(1);
+        for (Room room : rooms) {
+            assertThat(roomRentRepository.findConflictingBookingViews(List.of(room.getId()), startTime, endTime, null))
+                    .hasSizeLessThanOrEqualTo(1);
+        }
+    }
+
+    @Test
+    void disjointRoomBookingsProceedInParallel() throws Exception {
+        int bookingsPerRoom = 40;
+        LocalDateTime base = LocalDateTime.now().plusDays(60).withHour(0).withMinute(0).withSecond(0).withNano(0);
+
+        // 워밍업 (JIT, 커넥션 풀) - 측정 순서에 따라 먼저 실행한 쪽이 불리하지 않도록 충분히 수행
+        bookSequentially(createRooms(THREADS), base.minusDays(1), bookingsPerRoom);
+
+        List<Room> sequentialRooms = createRooms(THREADS);
+        long sequentialStarted = System.nanoTime();
+        bookSequentially(sequentialRooms, base, bookingsPerRoom);
+        long sequentialNanos = System.nanoTime() - sequentialStarted;
+
+        List<Room> parallelRooms = createRooms(THREADS);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        long parallelStarted = System.nanoTime();
+        runConcurrently(THREADS, index -> {
+            try {
+                bookSequentially(List.of(parallelRooms.get(index)), base, bookingsPerRoom);
+            } catch (Throwable e) {
+                failures.add(e);
+            }
+            return null;
+        });
+        long parallelNanos = System.nanoTime() - parallelStarted;
+
+        int total = THREADS * bookingsPerRoom;
+        double sequentialRate = total / (sequentialNanos / 1e9);
+        double parallelRate = total / (parallelNanos / 1e9);
+        System.out.printf("서로 다른 회의실 예약 처리량 - 예약 %d건, 1 스레드: %.0f건/s (%d ms), %d 스레드: %.0f건/s (%d ms), 배율: %.2f%n",
+                total, sequentialRate, TimeUnit.NANOSECONDS.toMillis(sequentialNanos),
+                THREADS, parallelRate, TimeUnit.NANOSECONDS.toMillis(parallelNanos), parallelRate / sequentialRate);
+
+        // 서로 다른 회의실은 잠금을 공유하지 않으므로 충돌이나 잠금 대기 초과 없이 전부 성공해야 함
+        assertThat(failures).isEmpty();
+        for (Room room : parallelRooms) {
+            assertThat(roomRentRepository.findConflictingBookingViews(
+                    List.of(room.getId()), base, base.plusDays(1), null)).hasSize(bookingsPerRoom);
+        }
+    }
+
+    private void bookSequentially(List<Room> rooms, LocalDateTime base, int bookingsPerRoom) {
+        for (Room room : rooms) {
+            for (int slot = 0; slot < bookingsPerRoom; slot++) {
+                LocalDateTime startTime = base.plusMinutes(30L * slot);
+                rentService.createRent(request(List.of(room.getId()), startTime, startTime.plusMinutes(30)));
+            }
+        }
+    }
+
+    private List<Room> createRooms(int count) {
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Room room = new Room();
+            room.setName("테스트 회의실 " + UUID.randomUUID());
+            room.setLocation("테스트");
+            room.setCapacity(8);
+            rooms.add(room);
+        }
+        return roomRepository.saveAll(rooms);
+    }
+
+    private CreateRentRequest request(List<Long> roomIds, LocalDateTime startTime, LocalDateTime endTime) {
+        return new CreateRentRequest(startTime, endTime, "동시성 테스트", null, creator.getId(), roomIds, null);
+    }
+
+    /**
+     * 스레드 수만큼 작업을 만들어 동시에 출발시키고 모두 끝날 때까지 대기
+     */
+    private static void runConcurrently(int threads, IndexedTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int index = i;
+                Callable<Void> callable = () -> {
+                    ready.countDown();
+                    start.await();
+                    return task.run(index);
+                };
+                futures.add(executor.submit(callable));
+            }
+            ready.await();
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        Void run(int index) throws Exception;
+    }
+}
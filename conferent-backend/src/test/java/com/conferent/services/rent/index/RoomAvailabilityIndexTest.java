@@ -0,0 +1,277 @@
+package com.conferent.services.rent.index;
+
+import com.conferent.dtos.room.RoomResponse;
+import com.conferent.events.RentChangedEvent;
+import com.conferent.events.RentSnapshot;
+import com.conferent.repositories.room.RoomRepository;
+import com.conferent.repositories.roomrent.RoomBookingView;
+import com.conferent.repositories.roomrent.RoomRentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 회의실 점유 비트맵 인덱스 검증
+ *
+ * - 15분 슬롯 일부만 겹치는 예약/조회의 NONE(가용)/BOUNDARY(확인 필요)/BUSY(제외) 분류
+ * - 자정에 끝나거나 자정을 넘는 예약, 여러 날에 걸친 조회
+ * - 생성/수정/삭제 이벤트의 슬롯별 +1/-1 반영과 지난 일자 정리(evictPast)
+ */
+class RoomAvailabilityIndexTest {
+
+    private static final long ROOM_A = 1L;
+    private static final long ROOM_B = 2L;
+    private static final long ROOM_C = 3L;
+    private static final long ROOM_D = 4L;
+
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final RoomRentRepository roomRentRepository = mock(RoomRentRepository.class);
+    private final List<RoomBookingView> storedBookings = new ArrayList<>();
+
+    private RoomAvailabilityIndex index;
+
+    // 적재 시점 이후인 날짜 (조회 기준일)
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() {
+        when(roomRepository.findAllResponsesOrderByName()).thenReturn(List.of(
+                room(ROOM_A, "A", "1층", 4),
+                room(ROOM_B, "B", "2층", 8),
+                room(ROOM_C, "C", "2층", 8),
+                room(ROOM_D, "D", "3층", 12)));
+        when(roomRentRepository.findBookingViewsEndingAfter(any())).thenReturn(storedBookings);
+        index = new RoomAvailabilityIndex(roomRepository, roomRentRepository);
+        day = LocalDate.now().plusDays(2);
+    }
+
+    @Test
+    void backToBackBookingsAreNotBusy() {
+        index.warmUp();
+        create(1L, at(10, 0), at(11, 0), ROOM_A);
+
+        // 끝 시각 = 다음 시작 시각은 겹치지 않음
+        assertAvailable(at(11, 0), at(12, 0), ROOM_A);
+        assertAvailable(at(9, 0), at(10, 0), ROOM_A);
+        assertBusy(at(10, 45), at(11, 15), ROOM_A);
+    }
+
+    @Test
+    void partialSlotBookingIsClassifiedByCoverage() {
+        index.warmUp();
+        // 10:00-10:15, 10:15-10:30 슬롯을 일부씩 차지
+        create(1L, at(10, 5), at(10, 20), ROOM_A);
+
+        // 조회가 10:15 슬롯 전체를 덮으므로 확실히 겹침
+        assertBusy(at(10, 15), at(10, 30), ROOM_A);
+        assertBusy(at(10, 15), at(11, 0), ROOM_A);
+        // 10:15 슬롯을 일부만 덮는 조회는 실제 시간으로 확인해야 함 (10:15-10:20은 겹치고 10:20-10:30은 안 겹침)
+        assertNeedsCheck(at(10, 15), at(10, 16), ROOM_A);
+        assertNeedsCheck(at(10, 20), at(10, 30), ROOM_A);
+        assertNeedsCheck(at(10, 0), at(10, 5), ROOM_A);
+        // 점유 슬롯과 겹치지 않으면 가용
+        assertAvailable(at(10, 30), at(11, 0), ROOM_A);
+        assertAvailable(at(9, 45), at(10, 0), ROOM_A);
+    }
+
+    @Test
+    void bookingEndingAtMidnightDoesNotOccupyNextDay() {
+        index.warmUp();
+        create(1L, at(23, 0), day.plusDays(1).atStartOfDay(), ROOM_A);
+
+        assertAvailable(day.plusDays(1).atStartOfDay(), day.plusDays(1).atTime(1, 0), ROOM_A);
+        assertBusy(at(23, 30), day.plusDays(1).atTime(0, 30), ROOM_A);
+        assertAvailable(at(22, 0), at(23, 0), ROOM_A);
+    }
+
+    @Test
+    void bookingSpanningMidnightOccupiesBothDays() {
+        index.warmUp();
+        create(1L, at(23, 30), day.plusDays(1).atTime(0, 30), ROOM_A);
+
+        // 여러 날에 걸친 조회
+        assertBusy(at(22, 0), day.plusDays(1).atTime(2, 0), ROOM_A);
+        assertBusy(day.plusDays(1).atStartOfDay(), day.plusDays(1).atTime(0, 15), ROOM_A);
+        assertBusy(at(23, 45), day.plusDays(1).atStartOfDay(), ROOM_A);
+        assertNeedsCheck(day.plusDays(1).atTime(0, 20), day.plusDays(1).atTime(0, 40), ROOM_A);
+        assertAvailable(day.plusDays(1).atTime(0, 30), day.plusDays(1).atTime(1, 0), ROOM_A);
+        assertAvailable(at(22, 0), at(23, 30), ROOM_A);
+    }
+
+    @Test
+    void sharedSlotStaysOccupiedUntilLastBookingIsRemoved() {
+        index.warmUp();
+        create(1L, at(10, 0), at(10, 5), ROOM_A);
+        create(2L, at(10, 10), at(10, 15), ROOM_A);
+
+        delete(1L);
+        assertBusy(at(10, 0), at(10, 15), ROOM_A);
+
+        delete(2L);
+        assertAvailable(at(10, 0), at(10, 15), ROOM_A);
+    }
+
+    @Test
+    void updateRemovesOldBits() {
+        index.warmUp();
+        RentSnapshot before = snapshot(1L, at(10, 0), at(11, 0), ROOM_A);
+        index.onRentChanged(RentChangedEvent.created(before));
+
+        index.onRentChanged(RentChangedEvent.updated(before, snapshot(1L, at(14, 0), at(15, 0), ROOM_B)));
+
+        assertAvailable(at(10, 0), at(11, 0), ROOM_A);
+        assertAvailable(at(10, 0), at(11, 0), ROOM_B);
+        assertBusy(at(14, 0), at(15, 0), ROOM_B);
+        assertAvailable(at(14, 0), at(15, 0), ROOM_A);
+    }
+
+    @Test
+    void deleteRemovesBitsOfMultiRoomBooking() {
+        index.warmUp();
+        create(1L, at(10, 0), at(11, 0), ROOM_A, ROOM_B);
+        assertBusy(at(10, 0), at(11, 0), ROOM_A);
+        assertBusy(at(10, 0), at(11, 0), ROOM_B);
+
+        delete(1L);
+
+        assertAvailable(at(10, 0), at(11, 0), ROOM_A);
+        assertAvailable(at(10, 0), at(11, 0), ROOM_B);
+    }
+
+    @Test
+    void evictPastDropsPreviousDaysButKeepsLaterBits() throws InterruptedException {
+        // 어제 밤부터 내일 새벽까지 이어지는 예약 (아직 끝나지 않았으므로 적재됨)
+        LocalDate today = LocalDate.now();
+        LocalDateTime startTime = today.minusDays(1).atTime(23, 0);
+        LocalDateTime endTime = today.plusDays(1).atTime(1, 0);
+        storedBookings.add(new RoomBookingView(1L, ROOM_A, startTime, endTime));
+        index.warmUp();
+
+        LocalDateTime beforeEviction = LocalDateTime.now();
+        assertThat(index.covers(beforeEviction)).isTrue();
+        assertThat(classify(today.minusDays(1).atTime(23, 0), today.minusDays(1).atTime(23, 30), ROOM_A))
+                .isEqualTo(Classification.BUSY);
+
+        Thread.sleep(5);
+        index.evictPast();
+
+        // 보장 범위가 정리 시각으로 올라가 그 이전 조회는 DB로 감
+        assertThat(index.covers(beforeEviction)).isFalse();
+        // 어제 비트맵은 제거되고, 오늘 이후는 유지
+        assertThat(classify(today.minusDays(1).atTime(23, 0), today.minusDays(1).atTime(23, 30), ROOM_A))
+                .isEqualTo(Classification.AVAILABLE);
+        assertThat(classify(today.plusDays(1).atStartOfDay(), today.plusDays(1).atTime(0, 30), ROOM_A))
+                .isEqualTo(Classification.BUSY);
+
+        // 정리 후에도 끝나지 않은 예약은 삭제 시 남은 일자의 비트가 지워짐
+        delete(1L);
+        assertThat(classify(today.plusDays(1).atStartOfDay(), today.plusDays(1).atTime(0, 30), ROOM_A))
+                .isEqualTo(Classification.AVAILABLE);
+    }
+
+    @Test
+    void warmUpLoadsStoredBookingsPerRoom() {
+        storedBookings.add(new RoomBookingView(1L, ROOM_A, at(10, 0), at(11, 0)));
+        storedBookings.add(new RoomBookingView(1L, ROOM_B, at(10, 0), at(11, 0)));
+        index.warmUp();
+
+        assertBusy(at(10, 0), at(11, 0), ROOM_A);
+        assertBusy(at(10, 0), at(11, 0), ROOM_B);
+
+        // 적재된 예약도 삭제 이벤트로 모든 회의실에서 빠짐
+        delete(1L);
+        assertAvailable(at(10, 0), at(11, 0), ROOM_A);
+        assertAvailable(at(10, 0), at(11, 0), ROOM_B);
+    }
+
+    @Test
+    void findAvailabilityAppliesCapacityAndLocationFilters() {
+        index.warmUp();
+        create(1L, at(10, 0), at(11, 0), ROOM_B);
+
+        RoomAvailabilityIndex.Availability availability = index.findAvailability(at(10, 0), at(11, 0), 6, "2층");
+
+        assertThat(ids(availability.available())).containsExactly(ROOM_C);
+        assertThat(availability.needsCheck()).isEmpty();
+    }
+
+    @Test
+    void findSmallestAvailabilityStopsAtFirstCapacityWithEnoughRooms() {
+        index.warmUp();
+        create(1L, at(10, 0), at(11, 0), ROOM_B);
+
+        // 8인실 C가 비어 있으므로 12인실 D는 보지 않음, 4인실 A는 인원 미달
+        RoomAvailabilityIndex.Availability availability = index.findSmallestAvailability(at(10, 0), at(11, 0), 6, 1);
+        assertThat(ids(availability.available())).containsExactly(ROOM_C);
+        assertThat(availability.needsCheck()).isEmpty();
+
+        // 확인 필요 회의실은 개수에 세지 않고 더 큰 회의실까지 훑음 (C는 조회가 일부만 덮는 10:45 슬롯만 점유)
+        create(2L, at(10, 50), at(10, 55), ROOM_C);
+        availability = index.findSmallestAvailability(at(10, 0), at(10, 50), 6, 1);
+        assertThat(ids(availability.available())).containsExactly(ROOM_D);
+        assertThat(ids(availability.needsCheck())).containsExactly(ROOM_C);
+    }
+
+    private enum Classification {
+        AVAILABLE,
+        NEEDS_CHECK,
+        BUSY
+    }
+
+    private Classification classify(LocalDateTime startTime, LocalDateTime endTime, long roomId) {
+        RoomAvailabilityIndex.Availability availability = index.findAvailability(startTime, endTime, null, null);
+        if (ids(availability.available()).contains(roomId)) {
+            return Classification.AVAILABLE;
+        }
+        if (ids(availability.needsCheck()).contains(roomId)) {
+            return Classification.NEEDS_CHECK;
+        }
+        return Classification.BUSY;
+    }
+
+    private void assertAvailable(LocalDateTime startTime, LocalDateTime endTime, long roomId) {
+        assertThat(classify(startTime, endTime, roomId)).as("%s ~ %s", startTime, endTime).isEqualTo(Classification.AVAILABLE);
+    }
+
+    private void assertNeedsCheck(LocalDateTime startTime, LocalDateTime endTime, long roomId) {
+        assertThat(classify(startTime, endTime, roomId)).as("%s ~ %s", startTime, endTime).isEqualTo(Classification.NEEDS_CHECK);
+    }
+
+    private void assertBusy(LocalDateTime startTime, LocalDateTime endTime, long roomId) {
+        assertThat(classify(startTime, endTime, roomId)).as("%s ~ %s", startTime, endTime).isEqualTo(Classification.BUSY);
+    }
+
+    private void create(long rentId, LocalDateTime startTime, LocalDateTime endTime, Long... roomIds) {
+        index.onRentChanged(RentChangedEvent.created(snapshot(rentId, startTime, endTime, roomIds)));
+    }
+
+    private void delete(long rentId) {
+        // 삭제는 인덱스에 반영된 구간을 지우므로 이벤트의 변경 전 값은 ID만 맞으면 됨
+        index.onRentChanged(RentChangedEvent.deleted(snapshot(rentId, at(0, 0), at(0, 15))));
+    }
+
+    private LocalDateTime at(int hour, int minute) {
+        return day.atTime(hour, minute);
+    }
+
+    private static RentSnapshot snapshot(long rentId, LocalDateTime startTime, LocalDateTime endTime, Long... roomIds) {
+        return new RentSnapshot(rentId, startTime, endTime, List.of(roomIds));
+    }
+
+    private static RoomResponse room(long id, String name, String location, int capacity) {
+        return new RoomResponse(id, name, location, capacity, null, null, null);
+    }
+
+    private static List<Long> ids(List<RoomResponse> rooms) {
+        return rooms.stream().map(RoomResponse::getId).toList();
+    }
+}
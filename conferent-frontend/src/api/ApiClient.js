@@ -1,6 +1,7 @@
 import axios from 'axios'
 import apiConfig from './config.js'
 import { logError, extractErrorMessage } from '@/utils/errorHandler.js'
+import { clearSession, retryWithRefreshedToken } from './auth/session.js'
 
 /**
  * API 클라이언트 인스턴스
@@ -46,19 +47,26 @@ apiClient.interceptors.response.use(
   /**
    * 응답 오류 처리
    * @param {import('axios').AxiosError} error - axios 오류 객체
-   * @returns {Promise<never>} 거부된 Promise
+   * @returns {Promise<import('axios').AxiosResponse>} 토큰 재발급 후 다시 보낸 요청의 응답, 또는 거부된 Promise
    */
-  (error) => {
+  async (error) => {
     // 에러 로깅
     logError(error, 'API Response')
     
-    // 401 에러 시 자동 로그아웃
     if (error.response?.status === 401) {
-      localStorage.removeItem('token')
-      localStorage.removeItem('userId')
-      localStorage.removeItem('userName')
-      localStorage.removeItem('userEmail')
-      localStorage.removeItem('userRole')
+      // 액세스 토큰 만료 시 리프레시 토큰으로 재발급 후 한 번 다시 시도
+      if (error.config && !error.config._retried) {
+        try {
+          return await retryWithRefreshedToken(apiClient, error)
+        } catch (retryError) {
+          if (retryError.response && retryError.response.status !== 401) {
+            return Promise.reject(retryError)
+          }
+        }
+      }
+      
+      // 재발급 실패 시 자동 로그아웃
+      clearSession()
       window.location.href = '/login'
     }
     
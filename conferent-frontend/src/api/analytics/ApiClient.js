@@ -0,0 +1,53 @@
+import apiClient from '@/api/ApiClient'
+
+/**
+ * 조회 조건 객체를 쿼리 문자열로 변환 (빈 값 제외)
+ */
+const toQuery = (filter) => {
+  const params = new URLSearchParams()
+  Object.entries(filter).forEach(([key, value]) => {
+    if (value !== undefined && value !== null && value !== '') {
+      params.append(key, value)
+    }
+  })
+  const query = params.toString()
+  return query ? `?${query}` : ''
+}
+
+/**
+ * 회의실 이용 분석 API 클라이언트 (관리자 전용)
+ */
+export const analyticsApiClient = {
+  /**
+   * 회의실별 이용 보고서
+   * GET /api/admin/analytics/rooms
+   * @param {Object} filter - { from: 'YYYY-MM-DD', to: 'YYYY-MM-DD', startHour?, endHour? }
+   * @returns {Promise} 기간 합계와 회의실별 점유율
+   */
+  async getRoomReport(filter) {
+    const response = await apiClient.get(`/admin/analytics/rooms${toQuery(filter)}`)
+    return response
+  },
+
+  /**
+   * 시간대별 이용 히트맵
+   * GET /api/admin/analytics/heatmap
+   * @param {Object} filter - { from: 'YYYY-MM-DD', to: 'YYYY-MM-DD', roomId? }
+   * @returns {Promise} 회의실 × 0~23시 예약 시간/예약 수/점유율
+   */
+  async getHeatmap(filter) {
+    const response = await apiClient.get(`/admin/analytics/heatmap${toQuery(filter)}`)
+    return response
+  },
+
+  /**
+   * 이용 집계 재계산
+   * POST /api/admin/analytics/rebuild
+   * @param {Object} range - { from: 'YYYY-MM-DD', to: 'YYYY-MM-DD' }
+   * @returns {Promise} 저장된 집계 행 수
+   */
+  async rebuild(range) {
+    const response = await apiClient.post(`/admin/analytics/rebuild${toQuery(range)}`)
+    return response
+  }
+}
@@ -1,6 +1,7 @@
 import axios from 'axios'
 import apiConfig from '../config.js'
 import { logError, extractErrorMessage } from '@/utils/errorHandler.js'
+import { clearSession, refreshAccessToken, retryWithRefreshedToken } from './session.js'
 
 // 기본 API 클라이언트
 const authApiClient = axios.create(apiConfig)
@@ -23,17 +24,26 @@ authApiClient.interceptors.request.use(
 // 응답 인터셉터 - 토큰 만료 처리 및 에러 로깅
 authApiClient.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error) => {
     // 에러 로깅
     logError(error, 'Auth API Response')
     
     if (error.response?.status === 401) {
-      // 토큰 만료 시 로그아웃 처리
-      localStorage.removeItem('token')
-      localStorage.removeItem('userId')
-      localStorage.removeItem('userName')
-      localStorage.removeItem('userEmail')
-      localStorage.removeItem('userRole')
+      // 액세스 토큰 만료 시 재발급 후 한 번 다시 시도 (로그인/로그아웃 요청 제외)
+      const url = error.config?.url || ''
+      const retryable = !['/auth/login', '/auth/logout'].includes(url)
+      if (retryable && error.config && !error.config._retried) {
+        try {
+          return await retryWithRefreshedToken(authApiClient, error)
+        } catch (retryError) {
+          if (retryError.response && retryError.response.status !== 401) {
+            return Promise.reject(retryError)
+          }
+        }
+      }
+      
+      // 재발급 실패 시 로그아웃 처리
+      clearSession()
       window.location.href = '/login'
     }
     return Promise.reject(error)
@@ -81,13 +91,24 @@ export default {
     return response
   },
 
+  /**
+   * 액세스 토큰 재발급 (리프레시 토큰 교체)
+   * 새 액세스 토큰과 리프레시 토큰은 localStorage에 저장된다.
+   * @returns {Promise<string>} 새 액세스 토큰
+   */
+  async refresh() {
+    return refreshAccessToken()
+  },
+
   /**
    * 로그아웃 (서버 호출)
+   * 액세스 토큰과 로그인 세션(리프레시 토큰)을 서버에서 폐기한다.
    * @returns {Promise} 로그아웃 응답
    */
   async logout() {
     try {
-      const response = await authApiClient.post('/auth/logout')
+      const refreshToken = localStorage.getItem('refreshToken')
+      const response = await authApiClient.post('/auth/logout', refreshToken ? { refreshToken } : undefined)
       return response
     } catch (error) {
       // 로그아웃 요청이 실패해도 클라이언트에서는 정상 처리
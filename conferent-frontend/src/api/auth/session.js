@@ -0,0 +1,90 @@
+import axios from 'axios'
+import apiConfig from '../config.js'
+
+// 진행 중인 토큰 재발급 (동시에 401을 받은 요청들이 한 번만 재발급하도록 공유)
+let refreshing = null
+
+/**
+ * 저장된 로그인 정보 삭제
+ */
+export const clearSession = () => {
+  localStorage.removeItem('token')
+  localStorage.removeItem('refreshToken')
+  localStorage.removeItem('userId')
+  localStorage.removeItem('userName')
+  localStorage.removeItem('userEmail')
+  localStorage.removeItem('userRole')
+}
+
+// 탭 간 재발급 직렬화에 쓰는 Web Locks 이름
+const REFRESH_LOCK = 'conferent-token-refresh'
+
+/**
+ * 리프레시 토큰으로 액세스 토큰 재발급
+ * POST /api/auth/refresh
+ * 리프레시 토큰은 한 번 쓰면 교체되므로 응답의 새 리프레시 토큰을 저장한다.
+ * 같은 토큰을 두 탭이 함께 보내면 서버가 재사용으로 보고 세션을 폐기하므로, 탭 간에는 Web Locks로 한 번에 하나씩 재발급한다.
+ * @returns {Promise<string>} 새 액세스 토큰
+ */
+export const refreshAccessToken = () => {
+  if (!refreshing) {
+    const seenRefreshToken = localStorage.getItem('refreshToken')
+    const run = () => requestRefresh(seenRefreshToken)
+    refreshing = (navigator.locks ? navigator.locks.request(REFRESH_LOCK, run) : run())
+      .finally(() => {
+        refreshing = null
+      })
+  }
+  return refreshing
+}
+
+/**
+ * 재발급 요청 (탭 간 잠금 안에서 실행)
+ * @param {string|null} seenRefreshToken - 재발급을 시작할 때 저장되어 있던 리프레시 토큰
+ * @returns {Promise<string>} 새 액세스 토큰
+ */
+const requestRefresh = async (seenRefreshToken) => {
+  const refreshToken = localStorage.getItem('refreshToken')
+  if (!refreshToken) {
+    throw new Error('리프레시 토큰이 없습니다.')
+  }
+  // 잠금을 기다리는 동안 다른 탭이 이미 재발급했으면 그 토큰 사용
+  if (refreshToken !== seenRefreshToken) {
+    return localStorage.getItem('token')
+  }
+
+  try {
+    const { data } = await axios.post(`${apiConfig.baseURL}/auth/refresh`, { refreshToken }, apiConfig)
+    localStorage.setItem('token', data.accessToken)
+    localStorage.setItem('refreshToken', data.refreshToken)
+    localStorage.setItem('userName', data.userName)
+    localStorage.setItem('userEmail', data.userEmail)
+    localStorage.setItem('userRole', data.userRole)
+    return data.accessToken
+  } catch (error) {
+    // Web Locks가 없는 브라우저: 다른 탭이 같은 토큰으로 먼저 재발급했으면(서버는 교체 직후 재사용을 거절만 함) 그 탭이 저장한 토큰 사용
+    if (error.response?.status === 401 && localStorage.getItem('refreshToken') !== refreshToken) {
+      return localStorage.getItem('token')
+    }
+    throw error
+  }
+}
+
+/**
+ * 401 응답을 받은 요청을 새 액세스 토큰으로 한 번 다시 보냄
+ * 다른 요청(또는 다른 탭)이 이미 토큰을 바꿨으면 재발급 없이 바로 다시 보낸다.
+ * @param {import('axios').AxiosInstance} client - 요청을 다시 보낼 클라이언트
+ * @param {import('axios').AxiosError} error - 401 오류
+ * @returns {Promise<import('axios').AxiosResponse>} 다시 보낸 요청의 응답
+ */
+export const retryWithRefreshedToken = async (client, error) => {
+  const original = error.config
+  original._retried = true
+
+  const sentToken = (original.headers?.Authorization || '').replace('Bearer ', '')
+  const storedToken = localStorage.getItem('token')
+  const token = storedToken && storedToken !== sentToken ? storedToken : await refreshAccessToken()
+
+  original.headers.Authorization = `Bearer ${token}`
+  return client(original)
+}
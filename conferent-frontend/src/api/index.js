@@ -14,6 +14,7 @@ export { userApiClient } from './user/ApiClient';
 export { rentApiClient } from './rent/ApiClient';
 export { roomRentApiClient } from './roomrent/ApiClient';
 export { userInviteApiClient } from './userinvite/ApiClient';
+export { analyticsApiClient } from './analytics/ApiClient';
 
 // API 클라이언트 통합 객체는 별도 파일에서 import 후 생성
 import { authApiClient } from './auth/ApiClient';
@@ -22,6 +23,7 @@ import { userApiClient } from './user/ApiClient';
 import { rentApiClient } from './rent/ApiClient';
 import { roomRentApiClient } from './roomrent/ApiClient';
 import { userInviteApiClient } from './userinvite/ApiClient';
+import { analyticsApiClient } from './analytics/ApiClient';
 
 export const api = {
   auth: authApiClient,
@@ -29,5 +31,6 @@ export const api = {
   user: userApiClient,
   rent: rentApiClient,
   roomRent: roomRentApiClient,
-  userInvite: userInviteApiClient
+  userInvite: userInviteApiClient,
+  analytics: analyticsApiClient
 }; 
\ No newline at end of file
@@ -1,4 +1,5 @@
 import apiClient from '@/api/ApiClient'
+import apiConfig from '@/api/config.js'
 
 /**
  * 예약 API 클라이언트
@@ -14,6 +15,50 @@ export const rentApiClient = {
     return response
   },
 
+  /**
+   * 예약 목록 커서 페이지 조회
+   * GET /api/rents/page
+   * @param {string|null} cursor - 이전 응답의 nextCursor (첫 페이지는 null)
+   * @param {number} limit - 페이지 크기 (1~100)
+   * @returns {Promise} { items, nextCursor, hasNext }
+   */
+  async getPage(cursor = null, limit = 20) {
+    const params = new URLSearchParams({ limit: limit })
+    if (cursor) params.append('cursor', cursor)
+    const response = await apiClient.get(`/rents/page?${params}`)
+    return response
+  },
+
+  /**
+   * 사용자별 예약 커서 페이지 조회
+   * GET /api/rents/creator/{creatorId}/page
+   * @param {number} creatorId - 예약 생성자 ID
+   * @param {string|null} cursor - 이전 응답의 nextCursor (첫 페이지는 null)
+   * @param {number} limit - 페이지 크기 (1~100)
+   * @returns {Promise} { items, nextCursor, hasNext }
+   */
+  async getPageByCreator(creatorId, cursor = null, limit = 20) {
+    const params = new URLSearchParams({ limit: limit })
+    if (cursor) params.append('cursor', cursor)
+    const response = await apiClient.get(`/rents/creator/${creatorId}/page?${params}`)
+    return response
+  },
+
+  /**
+   * 회의실별 예약 커서 페이지 조회
+   * GET /api/rents/room/{roomId}/page
+   * @param {number} roomId - 회의실 ID
+   * @param {string|null} cursor - 이전 응답의 nextCursor (첫 페이지는 null)
+   * @param {number} limit - 페이지 크기 (1~100)
+   * @returns {Promise} { items, nextCursor, hasNext }
+   */
+  async getPageByRoom(roomId, cursor = null, limit = 20) {
+    const params = new URLSearchParams({ limit: limit })
+    if (cursor) params.append('cursor', cursor)
+    const response = await apiClient.get(`/rents/room/${roomId}/page?${params}`)
+    return response
+  },
+
   /**
    * 예약 상세 조회
    * GET /api/rents/{id}
@@ -52,6 +97,24 @@ export const rentApiClient = {
     return response
   },
 
+  /**
+   * 날짜 범위별 예약 내보내기
+   * GET /api/rents/export
+   * @param {string} startDate - 시작 날짜 (ISO 형식)
+   * @param {string} endDate - 종료 날짜 (ISO 형식)
+   * @param {string} format - 내보내기 형식 ('NDJSON' | 'CSV')
+   * @returns {Promise} 내보내기 파일 (Blob)
+   */
+  async exportByDateRange(startDate, endDate, format = 'CSV') {
+    const params = new URLSearchParams({
+      startDate: startDate,
+      endDate: endDate,
+      format: format
+    })
+    const response = await apiClient.get(`/rents/export?${params}`, { responseType: 'blob' })
+    return response
+  },
+
   /**
    * 회의실별 예약 조회
    * GET /api/rents/room/{roomId}
@@ -80,19 +143,95 @@ export const rentApiClient = {
    * @param {number[]} roomIds - 회의실 ID 목록
    * @param {string} startTime - 시작 시간 (ISO 형식)
    * @param {string} endTime - 종료 시간 (ISO 형식)
-   * @returns {Promise} 충돌 여부
+   * @param {number} [excludeRentId] - 제외할 예약 ID (수정 중인 예약)
+   * @returns {Promise} 충돌 여부와 충돌하는 회의실/점유 구간
    */
-  async checkTimeConflict(roomIds, startTime, endTime) {
+  async checkTimeConflict(roomIds, startTime, endTime, excludeRentId) {
     const params = new URLSearchParams({
       startTime: startTime,
       endTime: endTime
     })
     roomIds.forEach(id => params.append('roomIds', id))
+    if (excludeRentId) {
+      params.append('excludeRentId', excludeRentId)
+    }
     
     const response = await apiClient.get(`/rents/conflicts?${params}`)
     return response
   },
 
+  /**
+   * 빈 시간/점유 현황 조회
+   * GET /api/rents/free-busy
+   * @param {string} date - 조회 시작 날짜 (YYYY-MM-DD)
+   * @param {number} days - 조회 일수 (1~7, 주간 보기는 7)
+   * @param {number} slotMinutes - 슬롯 길이 (15, 30, 60분)
+   * @returns {Promise} 회의실별 슬롯 점유 현황과 점유 구간
+   */
+  async getFreeBusy(date, days = 1, slotMinutes = 30) {
+    const params = new URLSearchParams({
+      date: date,
+      days: days,
+      slotMinutes: slotMinutes
+    })
+    const response = await apiClient.get(`/rents/free-busy?${params}`)
+    return response
+  },
+
+  /**
+   * 빈 시간 일괄 확인
+   * POST /api/rents/free-busy/probes
+   * @param {Array<{roomId: number, startTime: string, endTime: string}>} probes - 확인할 후보 목록 (최대 200개)
+   * @returns {Promise} 후보별 예약 가능 여부 (요청 순서)
+   */
+  async probeFreeBusy(probes) {
+    const response = await apiClient.post('/rents/free-busy/probes', { probes: probes })
+    return response
+  },
+
+  /**
+   * 가장 이른 빈 시간 검색
+   * GET /api/rents/next-available
+   * @param {number} durationMinutes - 예약 길이 (분)
+   * @param {Object} [options] - 검색 조건
+   * @param {number[]} [options.roomIds] - 후보 회의실 ID 목록 (생략 시 전체 회의실)
+   * @param {boolean} [options.together] - 모든 회의실을 함께 예약할지 여부
+   * @param {string} [options.from] - 검색 시작 시간 (ISO 형식, 생략 시 현재)
+   * @param {string} [options.to] - 검색 종료 시간 (ISO 형식, 생략 시 시작 + 7일)
+   * @param {number} [options.limit] - 결과 수 (1~20, 기본 5)
+   * @returns {Promise} 빈 시간 목록 (시작 시간 순)
+   */
+  async findNextAvailable(durationMinutes, { roomIds = [], together = false, from, to, limit = 5 } = {}) {
+    const params = new URLSearchParams({
+      durationMinutes: durationMinutes,
+      together: together,
+      limit: limit
+    })
+    roomIds.forEach(id => params.append('roomIds', id))
+    if (from) params.append('from', from)
+    if (to) params.append('to', to)
+    const response = await apiClient.get(`/rents/next-available?${params}`)
+    return response
+  },
+
+  /**
+   * 참석자 일정 기반 회의 시간 찾기
+   * POST /api/rents/meeting-slots
+   * @param {Object} search - 검색 조건
+   * @param {number[]} search.attendeeIds - 참석자 ID 목록 (주최자 포함)
+   * @param {number} search.durationMinutes - 회의 길이 (분)
+   * @param {string} search.from - 검색 시작 시간 (ISO 형식)
+   * @param {string} search.to - 검색 종료 시간 (ISO 형식, 최대 14일)
+   * @param {number[]} [search.roomIds] - 후보 회의실 ID 목록
+   * @param {number} [search.minCapacity] - 최소 수용 인원 (생략 시 참석자 수)
+   * @param {string} [search.location] - 회의실 위치
+   * @returns {Promise} 회의 가능 시간과 비어 있는 회의실 목록 (이른 순)
+   */
+  async findMeetingSlots(search) {
+    const response = await apiClient.post('/rents/meeting-slots', search)
+    return response
+  },
+
   /**
    * 예약 생성
    * POST /api/rents
@@ -132,5 +271,114 @@ export const rentApiClient = {
   async delete(id) {
     const response = await apiClient.delete(`/rents/${id}`)
     return response
+  },
+
+  /**
+   * 반복 예약 생성
+   * POST /api/rent-series
+   * @param {Object} seriesData - 반복 예약 생성 데이터 (예약 생성 데이터 + 반복 규칙)
+   * @param {string} seriesData.frequency - 반복 주기 (DAILY, WEEKLY, MONTHLY)
+   * @param {number} [seriesData.interval] - 반복 간격 (기본 1)
+   * @param {string} [seriesData.untilDate] - 반복 종료일 (YYYY-MM-DD)
+   * @param {number} [seriesData.count] - 반복 횟수
+   * @returns {Promise} 생성된 반복 예약과 회차 목록
+   */
+  async createSeries(seriesData) {
+    const response = await apiClient.post('/rent-series', seriesData)
+    return response
+  },
+
+  /**
+   * 반복 예약 조회
+   * GET /api/rent-series/{id}
+   * @param {number} seriesId - 반복 예약 ID
+   * @returns {Promise} 반복 예약과 회차 목록
+   */
+  async getSeries(seriesId) {
+    const response = await apiClient.get(`/rent-series/${seriesId}`)
+    return response
+  },
+
+  /**
+   * 반복 예약의 이 회차 및 이후 회차 수정
+   * PUT /api/rent-series/{id}/occurrences/{rentId}/following
+   * @param {number} seriesId - 반복 예약 ID
+   * @param {number} rentId - 기준 회차(예약) ID
+   * @param {Object} data - 기준 회차의 새 시작/종료 시간, 목적, 설명
+   * @returns {Promise} 이후 회차의 반복 예약
+   */
+  async updateSeriesFollowing(seriesId, rentId, data) {
+    const response = await apiClient.put(`/rent-series/${seriesId}/occurrences/${rentId}/following`, data)
+    return response
+  },
+
+  /**
+   * 예약 변경 실시간 구독 (Server-Sent Events)
+   * GET /api/rents/stream
+   * EventSource는 인증 헤더를 보낼 수 없으므로 fetch 스트림으로 읽는다.
+   * 서버가 연결을 끊으면(느린 연결 정리, 연결 시간 만료) onClose가 호출되며, 다시 구독 후 현황을 새로 조회해야 한다.
+   * @param {Object} filter - { location?: 위치, roomIds?: 회의실 ID 배열 }
+   * @param {Function} onChange - 예약 변경 콜백 ({ sequence, type, rentId, before, after, occurredAt })
+   * @param {Function} onClose - 연결 종료 콜백 (오류 시 오류 객체 전달)
+   * @returns {Function} 구독 취소 함수
+   */
+  subscribeChanges(filter = {}, onChange, onClose = () => {}) {
+    const params = new URLSearchParams()
+    if (filter.location) {
+      params.append('location', filter.location)
+    }
+    const roomIds = filter.roomIds || []
+    roomIds.forEach((roomId) => params.append('roomIds', roomId))
+    const query = params.toString()
+
+    const controller = new AbortController()
+    const token = localStorage.getItem('token')
+    fetch(`${apiConfig.baseURL}/rents/stream${query ? `?${query}` : ''}`, {
+      headers: {
+        Accept: 'text/event-stream',
+        ...(token ? { Authorization: `Bearer ${token}` } : {})
+      },
+      signal: controller.signal
+    })
+      .then(async (response) => {
+        if (!response.ok) {
+          throw new Error(`구독 실패: ${response.status}`)
+        }
+        const reader = response.body.pipeThrough(new TextDecoderStream()).getReader()
+        let buffer = ''
+        for (;;) {
+          const { value, done } = await reader.read()
+          if (done) {
+            break
+          }
+          buffer += value
+          // 이벤트는 빈 줄로 구분된다
+          let boundary
+          while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+            const block = buffer.slice(0, boundary)
+            buffer = buffer.slice(boundary + 2)
+            let event = 'message'
+            const data = []
+            block.split('\n').forEach((line) => {
+              if (line.startsWith('event:')) {
+                event = line.slice(6).trim()
+              } else if (line.startsWith('data:')) {
+                data.push(line.slice(5).trim())
+              }
+            })
+            if (event === 'booking' && data.length) {
+              onChange(JSON.parse(data.join('\n')))
+            }
+          }
+        }
+        onClose()
+      })
+      .catch((error) => {
+        if (error.name !== 'AbortError') {
+          onClose(error)
+        }
+      })
+
+    return () => controller.abort()
   }
-} 
\ No newline at end of file
+}
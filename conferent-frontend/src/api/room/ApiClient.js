@@ -63,6 +63,24 @@ export const roomApiClient = {
     return response
   },
 
+  /**
+   * 회의실 현재/다음 회의 현황 (문 앞 표시용, 롱 폴링 지원)
+   * GET /api/rooms/{id}/status
+   * @param {number} id - 회의실 ID
+   * @param {Object} options - { etag: 마지막으로 받은 ETag, waitSeconds: 변경 대기 시간(0~50초) }
+   * @returns {Promise} 200이면 새 현황과 ETag 헤더, 304면 변경 없음
+   */
+  async getStatus(id, { etag, waitSeconds = 0 } = {}) {
+    const response = await apiClient.get(`/rooms/${id}/status`, {
+      params: waitSeconds ? { waitSeconds } : undefined,
+      headers: etag ? { 'If-None-Match': etag } : undefined,
+      // 대기 시간보다 길게 기다리고, 304(변경 없음)도 정상 응답으로 처리
+      timeout: (waitSeconds + 10) * 1000,
+      validateStatus: (status) => status === 200 || status === 304
+    })
+    return response
+  },
+
   /**
    * 회의실 삭제
    * DELETE /api/rooms/{id}
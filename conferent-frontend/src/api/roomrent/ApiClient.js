@@ -50,10 +50,44 @@ export const roomRentApiClient = {
   /**
    * 이용 가능한 회의실 조회
    * GET /api/room-rents/available
-   * @returns {Promise} 이용 가능한 회의실 목록
+   * @param {Object} [filter] - 조회 조건 (생략 시 현재부터 1시간)
+   * @param {string} [filter.startTime] - 시작 시간 (ISO 형식)
+   * @param {string} [filter.endTime] - 종료 시간 (ISO 형식)
+   * @param {number} [filter.minCapacity] - 최소 수용 인원
+   * @param {string} [filter.location] - 위치
+   * @returns {Promise} 이용 가능한 회의실 목록 (이름 순)
    */
-  async getAvailableRooms() {
-    const response = await apiClient.get('/room-rents/available')
+  async getAvailableRooms(filter = {}) {
+    const params = new URLSearchParams()
+    Object.entries(filter).forEach(([key, value]) => {
+      if (value !== undefined && value !== null && value !== '') {
+        params.append(key, value)
+      }
+    })
+    const query = params.toString()
+    const response = await apiClient.get(`/room-rents/available${query ? `?${query}` : ''}`)
+    return response
+  },
+
+  /**
+   * 회의실 추천 (인원에 맞는 가장 작은 빈 회의실 순)
+   * GET /api/room-rents/recommendations
+   * @param {string} startTime - 시작 시간 (ISO 형식)
+   * @param {string} endTime - 종료 시간 (ISO 형식)
+   * @param {number} attendees - 참석 인원
+   * @param {string} [location] - 선호 위치
+   * @param {number} [limit] - 추천 개수 (1~20, 기본 5)
+   * @returns {Promise} 추천 회의실 목록
+   */
+  async recommendRooms(startTime, endTime, attendees, location, limit = 5) {
+    const params = new URLSearchParams({
+      startTime: startTime,
+      endTime: endTime,
+      attendees: attendees,
+      limit: limit
+    })
+    if (location) params.append('location', location)
+    const response = await apiClient.get(`/room-rents/recommendations?${params}`)
     return response
   },
 
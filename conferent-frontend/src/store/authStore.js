@@ -1,6 +1,7 @@
 import { defineStore } from 'pinia'
 import { authApi } from '@/api'
 import { extractErrorMessage, formatErrorForUser } from '@/utils/errorHandler.js'
+import { clearSession } from '@/api/auth/session.js'
 
 export const useAuthStore = defineStore('auth', {
   state: () => ({
@@ -114,6 +115,7 @@ export const useAuthStore = defineStore('auth', {
         
         // localStorage에 저장
         localStorage.setItem('token', data.accessToken)
+        localStorage.setItem('refreshToken', data.refreshToken)
         localStorage.setItem('userId', data.userId.toString())
         localStorage.setItem('userName', data.userName)
         localStorage.setItem('userEmail', data.userEmail)
@@ -171,11 +173,7 @@ export const useAuthStore = defineStore('auth', {
         this.userInvites = []
         
         // localStorage 정리
-        localStorage.removeItem('token')
-        localStorage.removeItem('userId')
-        localStorage.removeItem('userName')
-        localStorage.removeItem('userEmail')
-        localStorage.removeItem('userRole')
+        clearSession()
       }
     },
 
@@ -199,7 +197,8 @@ export const useAuthStore = defineStore('auth', {
           const userRole = localStorage.getItem('userRole')
           
           if (userId && userName && userRole) {
-            this.token = token
+            // 검증 중 토큰이 재발급되었을 수 있으므로 저장된 토큰을 다시 읽음
+            this.token = localStorage.getItem('token')
             this.user = {
               id: parseInt(userId),
               name: userName,
@@ -329,11 +328,7 @@ export const useAuthStore = defineStore('auth', {
       this.userInvites = []
       
       // localStorage 정리
-      localStorage.removeItem('token')
-      localStorage.removeItem('userId')
-      localStorage.removeItem('userName')
-      localStorage.removeItem('userEmail')
-      localStorage.removeItem('userRole')
+      clearSession()
     }
   }
 }) 
\ No newline at end of file